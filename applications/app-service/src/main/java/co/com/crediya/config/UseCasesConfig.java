@@ -7,7 +7,8 @@ import org.springframework.context.annotation.FilterType;
 @Configuration
 @ComponentScan(basePackages = "co.com.crediya.usecase",
         includeFilters = {
-                @ComponentScan.Filter(type = FilterType.REGEX, pattern = "^.+UseCase$")
+                @ComponentScan.Filter(type = FilterType.REGEX, pattern = "^.+UseCase$"),
+                @ComponentScan.Filter(type = FilterType.REGEX, pattern = "^.+Engine$")
         },
         useDefaultFilters = false)
 public class UseCasesConfig {
@@ -0,0 +1,27 @@
+package co.com.crediya.job;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "jobs.monthly-payment")
+public record MonthlyPaymentJobProperties(
+        Boolean enabled,
+        Duration interval,
+        Integer chunkSize) {
+
+    public static final Duration DEFAULT_INTERVAL = Duration.ofMinutes(1);
+    public static final int DEFAULT_CHUNK_SIZE = 500;
+
+    public MonthlyPaymentJobProperties {
+        if (enabled == null) {
+            enabled = true;
+        }
+        if (interval == null || interval.isNegative() || interval.isZero()) {
+            interval = DEFAULT_INTERVAL;
+        }
+        if (chunkSize == null || chunkSize < 1) {
+            chunkSize = DEFAULT_CHUNK_SIZE;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package co.com.crediya.job;
+
+import java.time.Duration;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import co.com.crediya.model.loantype.LoanType;
+import co.com.crediya.model.loantype.gateways.LoanTypeRepository;
+import co.com.crediya.usecase.application.MonthlyPaymentUseCase;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Recomputes stored monthly payments after a loan type's rate changes. Every
+ * tick asks, per loan type, for the rows whose persisted monthly_payment_rate
+ * differs from the loan type's stored rate, so nothing is tracked in memory:
+ * changes made while the service was down, or that land during a pass, are
+ * found again on the next tick. A failed type is retried on the next tick.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(prefix = "jobs.monthly-payment", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class MonthlyPaymentRecalculationJob {
+    private final LoanTypeRepository loanTypeRepository;
+    private final MonthlyPaymentUseCase monthlyPaymentUseCase;
+    private final Duration interval;
+    private final int chunkSize;
+
+    private Disposable subscription;
+
+    public MonthlyPaymentRecalculationJob(
+        LoanTypeRepository loanTypeRepository,
+        MonthlyPaymentUseCase monthlyPaymentUseCase,
+        MonthlyPaymentJobProperties properties
+    ) {
+        this.loanTypeRepository = loanTypeRepository;
+        this.monthlyPaymentUseCase = monthlyPaymentUseCase;
+        this.interval = properties.interval();
+        this.chunkSize = properties.chunkSize();
+    }
+
+    @PostConstruct
+    public void start() {
+        subscription = Flux.interval(Duration.ZERO, interval)
+            .onBackpressureDrop()
+            .concatMap(tick -> recalculateStalePayments())
+            .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    Mono<Void> recalculateStalePayments() {
+        return loanTypeRepository.getAllLoanTypes()
+            .filter(loanType -> loanType.getInterestRate() != null)
+            .concatMap(this::recalculate)
+            .then()
+            .onErrorResume(ex -> {
+                log.error("Error loading the loan types to recalculate monthly payments", ex);
+                return Mono.empty();
+            });
+    }
+
+    private Mono<Void> recalculate(LoanType loanType) {
+        return monthlyPaymentUseCase.recalculateMonthlyPayments(loanType, chunkSize)
+            .filter(updated -> updated > 0)
+            .doOnNext(updated -> log.info("Monthly payments of loan type {} recalculated at rate {}: {} applications updated",
+                loanType.getLoanTypeId(), loanType.getInterestRate(), updated))
+            .onErrorResume(ex -> {
+                log.error("Error recalculating the monthly payments of loan type {}", loanType.getLoanTypeId(), ex);
+                return Mono.empty();
+            })
+            .then();
+    }
+}
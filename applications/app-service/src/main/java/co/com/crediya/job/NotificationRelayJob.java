@@ -0,0 +1,68 @@
+package co.com.crediya.job;
+
+import java.time.Duration;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import co.com.crediya.usecase.application.ApplicationUseCase;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Publishes the status change notifications queued in the outbox. Every tick
+ * drains what is pending; every replica runs it and the claims keep them
+ * from sending the same notification twice. A failed tick is retried on the
+ * next one.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(prefix = "jobs.notification-relay", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class NotificationRelayJob {
+    private final ApplicationUseCase applicationUseCase;
+    private final Duration interval;
+    private final int batchSize;
+    private final Duration lease;
+
+    private Disposable subscription;
+
+    public NotificationRelayJob(ApplicationUseCase applicationUseCase, NotificationRelayJobProperties properties) {
+        this.applicationUseCase = applicationUseCase;
+        this.interval = properties.interval();
+        this.batchSize = properties.batchSize();
+        this.lease = properties.lease();
+    }
+
+    @PostConstruct
+    public void start() {
+        subscription = Flux.interval(Duration.ZERO, interval)
+            .onBackpressureDrop()
+            .concatMap(tick -> relay())
+            .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    Mono<Void> relay() {
+        return applicationUseCase.relayStatusNotifications(batchSize, lease)
+            .doOnNext(sent -> {
+                if (sent > 0) {
+                    log.info("Relayed {} status change notifications", sent);
+                }
+            })
+            .onErrorResume(ex -> {
+                log.error("Error relaying the status change notifications", ex);
+                return Mono.empty();
+            })
+            .then();
+    }
+}
@@ -0,0 +1,32 @@
+package co.com.crediya.job;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "jobs.notification-relay")
+public record NotificationRelayJobProperties(
+        Boolean enabled,
+        Duration interval,
+        Integer batchSize,
+        Duration lease) {
+
+    public static final Duration DEFAULT_INTERVAL = Duration.ofSeconds(1);
+    public static final int DEFAULT_BATCH_SIZE = 100;
+    public static final Duration DEFAULT_LEASE = Duration.ofSeconds(30);
+
+    public NotificationRelayJobProperties {
+        if (enabled == null) {
+            enabled = true;
+        }
+        if (interval == null || interval.isNegative() || interval.isZero()) {
+            interval = DEFAULT_INTERVAL;
+        }
+        if (batchSize == null || batchSize < 1) {
+            batchSize = DEFAULT_BATCH_SIZE;
+        }
+        if (lease == null || lease.isNegative() || lease.isZero()) {
+            lease = DEFAULT_LEASE;
+        }
+    }
+}
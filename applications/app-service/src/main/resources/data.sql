@@ -12,7 +12,12 @@ INSERT INTO loan_type (name, min_amount, max_amount, interest_rate, auto_validat
 ('Consolidación de Deudas', 2000000.00, 20000000.00, 14.0, false),
 ('Préstamo Educativo', 1000000.00, 50000000.00, 8.5, false);
 
-INSERT INTO applications (user_email, loan_amount, loan_term, loan_type_id, loan_status_id) VALUES 
+-- The monthly payment is computed as MonthlyPaymentCalculator does: annual effective rate to its monthly equivalent
+INSERT INTO applications (user_email, loan_amount, loan_term, loan_type_id, loan_status_id, monthly_payment, monthly_payment_rate)
+SELECT seed.user_email, seed.loan_amount, seed.loan_term, seed.loan_type_id, seed.loan_status_id,
+    ROUND(seed.loan_amount * rate.monthly_rate / (1 - POWER(1 + rate.monthly_rate, -seed.loan_term)), 2),
+    lt.interest_rate
+FROM (VALUES
 ('carlos.rodriguez@email.com', 2500000.00, 24.00, 1, 1),
 ('maria.gonzalez@email.com', 1800000.00, 12.00, 2, 2),
 ('luis.martinez@email.com', 8500000.00, 36.00, 3, 3),
@@ -42,4 +47,7 @@ INSERT INTO applications (user_email, loan_amount, loan_term, loan_type_id, loan
 ('camilo.sanchez@email.com', 1150000.00, 9.00, 2, 2),
 ('paola.giraldo@email.com', 35000000.00, 84.00, 3, 3),
 ('esteban.munoz@email.com', 11500000.00, 42.00, 4, 4),
-('adriana.cortes@email.com', 38000000.00, 90.00, 5, 5);
\ No newline at end of file
+('adriana.cortes@email.com', 38000000.00, 90.00, 5, 5)
+) AS seed (user_email, loan_amount, loan_term, loan_type_id, loan_status_id)
+JOIN loan_type lt ON lt.loan_type_id = seed.loan_type_id
+CROSS JOIN LATERAL (SELECT POWER(1 + lt.interest_rate / 100, 1.0 / 12) - 1 AS monthly_rate) rate;
\ No newline at end of file
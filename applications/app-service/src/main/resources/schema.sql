@@ -1,3 +1,4 @@
+DROP TABLE IF EXISTS application_outbox;
 DROP TABLE IF EXISTS applications CASCADE;
 DROP TABLE IF EXISTS loan_status CASCADE;
 DROP TABLE IF EXISTS loan_type CASCADE;
@@ -26,6 +27,36 @@ CREATE TABLE applications (
     loan_term NUMERIC(5, 2) NOT NULL,
     loan_type_id INTEGER NOT NULL,
     loan_status_id INTEGER NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0,
+    monthly_payment NUMERIC(14, 2) NOT NULL,
+    monthly_payment_rate NUMERIC(5, 2),
     created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP
-);
\ No newline at end of file
+);
+
+CREATE INDEX applications_monthly_payment_idx ON applications (monthly_payment, application_id);
+CREATE INDEX applications_loan_type_idx ON applications (loan_type_id, application_id);
+
+CREATE TABLE application_outbox (
+    outbox_id BIGSERIAL PRIMARY KEY,
+    application_id UUID NOT NULL REFERENCES applications (application_id) ON DELETE CASCADE,
+    loan_status_id INTEGER NOT NULL,
+    version BIGINT NOT NULL,
+    claimed_until TIMESTAMP WITH TIME ZONE,
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE OR REPLACE FUNCTION notify_reference_data_changed() RETURNS TRIGGER AS '
+BEGIN
+    PERFORM pg_notify(''reference_data_changed'', TG_TABLE_NAME);
+    RETURN NULL;
+END;
+' LANGUAGE plpgsql;
+
+CREATE TRIGGER loan_status_changed
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON loan_status
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_reference_data_changed();
+
+CREATE TRIGGER loan_type_changed
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON loan_type
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_reference_data_changed();
@@ -7,6 +7,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 
+import co.com.crediya.model.application.gateways.ApplicationOutboxRepository;
 import co.com.crediya.model.application.gateways.ApplicationRepository;
 import co.com.crediya.model.application.gateways.NotificationsSQSGateway;
 import co.com.crediya.model.application.gateways.UserGateway;
@@ -66,6 +67,11 @@ public class UseCasesConfigTest {
         @Bean NotificationsSQSGateway notificationsSQSGateway() {
             return Mockito.mock(NotificationsSQSGateway.class);
         }
+
+        @Bean
+        public ApplicationOutboxRepository applicationOutboxRepository() {
+            return Mockito.mock(ApplicationOutboxRepository.class);
+        }
     }
 
     static class MyUseCase {
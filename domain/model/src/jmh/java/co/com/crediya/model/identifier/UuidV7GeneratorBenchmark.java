@@ -0,0 +1,39 @@
+package co.com.crediya.model.identifier;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Cost of generating one id from four threads at once. {@code randomV4} is
+ * {@link UUID#randomUUID()}, which draws from a shared SecureRandom;
+ * {@code timeOrderedV7} shares one {@link UuidV7Generator}, as the use case
+ * does. The insert side of the comparison is ApplicationIdInsertBenchmark in
+ * the r2dbc-postgresql module.
+ *
+ * Run with {@code ./gradlew :model:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+public class UuidV7GeneratorBenchmark {
+    private final UuidV7Generator generator = new UuidV7Generator();
+
+    @Benchmark
+    public UUID randomV4() {
+        return UUID.randomUUID();
+    }
+
+    @Benchmark
+    public UUID timeOrderedV7() {
+        return generator.next();
+    }
+}
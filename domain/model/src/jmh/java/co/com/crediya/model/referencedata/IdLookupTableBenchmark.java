@@ -0,0 +1,115 @@
+package co.com.crediya.model.referencedata;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import co.com.crediya.model.application.Application;
+import co.com.crediya.model.application.record.ApplicationRecord;
+import co.com.crediya.model.loanstatus.LoanStatus;
+import co.com.crediya.model.loantype.LoanType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Enrichment of one page of applications with loan type and loan status.
+ * {@code collectMapPerRequest} is what the use case did before: rebuild two
+ * boxed hash maps per request. {@code sharedLookupTable} resolves the ids
+ * against prebuilt {@link IdLookupTable}s, as served by the reference cache.
+ *
+ * Run with {@code ./gradlew :model:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IdLookupTableBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int pageSize;
+
+    private List<LoanType> loanTypes;
+    private List<LoanStatus> loanStatuses;
+    private List<Application> page;
+    private IdLookupTable<LoanType> loanTypeTable;
+    private IdLookupTable<LoanStatus> loanStatusTable;
+
+    @Setup
+    public void setUp() {
+        loanTypes = new ArrayList<>();
+        for (int id = 1; id <= 5; id++) {
+            loanTypes.add(LoanType.builder().loanTypeId(id).name("Loan type " + id).interestRate(10.0 + id).build());
+        }
+        loanStatuses = new ArrayList<>();
+        for (int id = 1; id <= 5; id++) {
+            loanStatuses.add(LoanStatus.builder().loanStatusId(id).name("Status " + id).build());
+        }
+
+        Random random = new Random(42);
+        page = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            page.add(Application.builder()
+                .applicationId(UUID.randomUUID())
+                .userEmail("user" + i + "@example.com")
+                .loanAmount(1_000_000.0 + random.nextInt(10_000_000))
+                .loanTerm(12.0 + random.nextInt(60))
+                .loanTypeId(1 + random.nextInt(5))
+                .loanStatusId(1 + random.nextInt(5))
+                .build());
+        }
+
+        loanTypeTable = IdLookupTable.of(loanTypes, LoanType::getLoanTypeId);
+        loanStatusTable = IdLookupTable.of(loanStatuses, LoanStatus::getLoanStatusId);
+    }
+
+    @Benchmark
+    public List<ApplicationRecord> collectMapPerRequest() {
+        return Mono.zip(
+                Flux.fromIterable(loanTypes).collectMap(LoanType::getLoanTypeId),
+                Flux.fromIterable(loanStatuses).collectMap(LoanStatus::getLoanStatusId))
+            .map(maps -> enrich(maps.getT1(), maps.getT2()))
+            .block();
+    }
+
+    @Benchmark
+    public List<ApplicationRecord> sharedLookupTable() {
+        List<ApplicationRecord> records = new ArrayList<>(page.size());
+        for (Application application : page) {
+            records.add(new ApplicationRecord(
+                application.getApplicationId(),
+                application.getUserEmail(),
+                application.getLoanAmount(),
+                application.getLoanTerm(),
+                loanTypeTable.get(application.getLoanTypeId()),
+                loanStatusTable.get(application.getLoanStatusId()),
+                application.getVersion()));
+        }
+        return records;
+    }
+
+    private List<ApplicationRecord> enrich(Map<Integer, LoanType> loanTypeMap, Map<Integer, LoanStatus> loanStatusMap) {
+        List<ApplicationRecord> records = new ArrayList<>(page.size());
+        for (Application application : page) {
+            records.add(new ApplicationRecord(
+                application.getApplicationId(),
+                application.getUserEmail(),
+                application.getLoanAmount(),
+                application.getLoanTerm(),
+                loanTypeMap.get(application.getLoanTypeId()),
+                loanStatusMap.get(application.getLoanStatusId()),
+                application.getVersion()));
+        }
+        return records;
+    }
+}
@@ -21,6 +21,10 @@ public class Application {
     private Double loanTerm;
     private Integer loanTypeId;
     private Integer loanStatusId;
+    private Long version;
+    private Double monthlyPayment;
+    /** Annual rate of the loan type the monthly payment was computed with. */
+    private Double monthlyPaymentRate;
 
     public Application(
         UUID applicationId,
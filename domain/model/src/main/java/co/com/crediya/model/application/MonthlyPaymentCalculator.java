@@ -0,0 +1,25 @@
+package co.com.crediya.model.application;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Fixed monthly installment of a loan: the annual effective rate is converted
+ * to its equivalent monthly rate and the installment is rounded to cents.
+ * This is the reference definition; the use cases compute it through the
+ * amortization engine, which must return exactly the same values.
+ */
+public final class MonthlyPaymentCalculator {
+
+    private MonthlyPaymentCalculator() {
+    }
+
+    public static Double calculate(Double loanAmount, Double loanTerm, Double annualInterestRate) {
+        double monthlyInterestRate = Math.pow(1 + annualInterestRate / 100, 1.0 / 12.0) - 1;
+        double monthlyAmount = loanAmount * monthlyInterestRate /
+            (1 - Math.pow(1 + monthlyInterestRate, -loanTerm));
+        return BigDecimal.valueOf(monthlyAmount)
+            .setScale(2, RoundingMode.HALF_UP)
+            .doubleValue();
+    }
+}
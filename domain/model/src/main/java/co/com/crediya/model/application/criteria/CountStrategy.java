@@ -0,0 +1,15 @@
+package co.com.crediya.model.application.criteria;
+
+/**
+ * How {@link PageResult#getTotalElements()} is computed for a search.
+ */
+public enum CountStrategy {
+    /** Separate {@code COUNT(*)} query with the same filters. */
+    EXACT,
+    /** {@code COUNT(*) OVER()} computed in the page query itself. */
+    WINDOW,
+    /** Planner estimate, replaced by an exact count when the estimate is small. */
+    ESTIMATED,
+    /** No count; {@code hasNext} is known by fetching one extra row. */
+    NONE
+}
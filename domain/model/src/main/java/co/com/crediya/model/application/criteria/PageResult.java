@@ -8,6 +8,8 @@ import lombok.Setter;
 @Getter
 @Setter
 public class PageResult<T> {
+    public static final long UNKNOWN_TOTAL = -1;
+
     private List<T> content;
     private long totalElements;
     private int totalPages;
@@ -15,6 +17,8 @@ public class PageResult<T> {
     private int size;
     private boolean hasNext;
     private boolean hasPrevious;
+    private String nextCursor;
+    private CountStrategy countStrategy = CountStrategy.EXACT;
 
     public PageResult(List<T> content, long totalElements, int currentPage, int size) {
         this.content = content;
@@ -25,4 +29,14 @@ public class PageResult<T> {
         this.hasNext = currentPage < totalPages - 1;
         this.hasPrevious = currentPage > 0;
     }
+
+    public <R> PageResult<R> withContent(List<R> newContent) {
+        PageResult<R> copy = new PageResult<>(newContent, totalElements, currentPage, size);
+        copy.setTotalPages(totalPages);
+        copy.setHasNext(hasNext);
+        copy.setHasPrevious(hasPrevious);
+        copy.setNextCursor(nextCursor);
+        copy.setCountStrategy(countStrategy);
+        return copy;
+    }
 }
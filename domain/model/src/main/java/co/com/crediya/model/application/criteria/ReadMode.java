@@ -0,0 +1,11 @@
+package co.com.crediya.model.application.criteria;
+
+/**
+ * How enriched application reads resolve their loan type and loan status.
+ */
+public enum ReadMode {
+    /** Applications are read alone and joined in memory with the cached reference data. */
+    CACHED,
+    /** One SQL {@code JOIN} returns each application with its current loan type and status. */
+    JOINED
+}
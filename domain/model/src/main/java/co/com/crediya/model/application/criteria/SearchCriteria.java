@@ -19,4 +19,6 @@ public class SearchCriteria {
     private String sortDirection;
     private int page;
     private int size;
+    private String cursor;
+    private CountStrategy countStrategy;
 }
@@ -0,0 +1,24 @@
+package co.com.crediya.model.application.gateways;
+
+import java.time.Duration;
+import java.util.List;
+
+import co.com.crediya.model.application.record.OutboxNotification;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Status change notifications written by the status updates, waiting to be
+ * published.
+ */
+public interface ApplicationOutboxRepository {
+    /**
+     * Claims up to {@code limit} pending notifications, oldest first, for
+     * {@code lease}. Rows claimed by another relay are skipped; a claim that
+     * is not marked as sent before the lease expires is handed out again.
+     */
+    Flux<OutboxNotification> claimPending(int limit, Duration lease);
+
+    /** Removes the given notifications from the outbox, returning how many were removed. */
+    Mono<Long> markSent(List<Long> outboxIds);
+}
@@ -1,10 +1,13 @@
 package co.com.crediya.model.application.gateways;
 
+import java.util.List;
 import java.util.UUID;
 
 import co.com.crediya.model.application.Application;
 import co.com.crediya.model.application.criteria.SearchCriteria;
 import co.com.crediya.model.application.criteria.PageResult;
+import co.com.crediya.model.application.record.ApplicationRecord;
+import co.com.crediya.model.application.record.BulkOperationResult;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -12,7 +15,34 @@ public interface ApplicationRepository {
     Flux<Application> getAllApplications();
     Flux<Application> getApplicationsByUserEmail(String userEmail);
     Mono<Application> getApplicationsByApplicationId(UUID applicationId);
+    Flux<ApplicationRecord> getAllApplicationRecords();
+    Flux<ApplicationRecord> getApplicationRecordsByUserEmail(String userEmail);
+    Mono<ApplicationRecord> getApplicationRecordByApplicationId(UUID applicationId);
     Mono<Application> saveApplication(Mono<Application> application);
+    Mono<BulkOperationResult> saveApplications(Flux<Application> applications);
     Mono<PageResult<Application>> findByCriteria(SearchCriteria criteria);
-    Mono<Application> updateApplication(Mono<Application> application);
+    /**
+     * Sets the status of one application in a single statement, bumping its
+     * version. When {@code expectedVersion} is given the update only applies
+     * to that version and fails with a ConcurrentUpdateException if the
+     * application changed in the meantime. Completes empty when there is no
+     * application with that id. The status change notification is queued in
+     * the outbox by the same statement.
+     */
+    Mono<Application> updateApplicationStatus(UUID applicationId, Integer loanStatusId, Long expectedVersion);
+
+    /**
+     * Applications of the loan type whose monthly payment was not computed
+     * with the loan type's current stored rate, in application id order after
+     * {@code after} (null for the start), at most {@code limit} of them.
+     */
+    Flux<Application> getApplicationsWithStaleMonthlyPayment(int loanTypeId, UUID after, int limit);
+
+    /**
+     * Stores the monthly payment and its rate of every given application whose
+     * rate is still the current rate of its loan type, returning the rows updated.
+     */
+    Mono<Long> updateMonthlyPayments(List<Application> applications);
+    /** Like {@link #updateApplicationStatus} for many applications, without a version check, in one statement. */
+    Flux<Application> updateApplicationStatuses(List<Application> applications);
 }
@@ -1,8 +1,16 @@
 package co.com.crediya.model.application.gateways;
 
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
 import co.com.crediya.model.application.record.ApplicationWithUserInfoRecord;
 import reactor.core.publisher.Mono;
 
 public interface NotificationsSQSGateway {
-    Mono<String> send(ApplicationWithUserInfoRecord updatedApplication);
+    /**
+     * Publishes one message per application, grouped into batch requests.
+     * Emits the ids of the applications whose message was not accepted.
+     */
+    Mono<Set<UUID>> sendAll(List<ApplicationWithUserInfoRecord> updatedApplications);
 }
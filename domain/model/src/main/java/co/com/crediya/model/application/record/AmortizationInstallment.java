@@ -0,0 +1,18 @@
+package co.com.crediya.model.application.record;
+
+/**
+ * One row of an application's payment schedule, amounts in cents precision.
+ *
+ * @param period    installment number, starting at 1
+ * @param payment   amount paid in the period, interest plus principal
+ * @param interest  interest accrued on the balance over the period
+ * @param principal part of the payment that reduces the balance
+ * @param balance   balance left after the payment
+ */
+public record AmortizationInstallment(
+    int period,
+    double payment,
+    double interest,
+    double principal,
+    double balance
+) {}
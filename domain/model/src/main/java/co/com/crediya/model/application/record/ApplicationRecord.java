@@ -11,5 +11,6 @@ public record ApplicationRecord (
     Double loanAmount,
     Double loanTerm,
     LoanType loanType,
-    LoanStatus loanStatus
+    LoanStatus loanStatus,
+    Long version
 ) {}
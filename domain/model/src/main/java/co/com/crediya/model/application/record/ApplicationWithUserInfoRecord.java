@@ -16,5 +16,6 @@ public record ApplicationWithUserInfoRecord (
     Double loanTerm,
     LoanType loanType,
     LoanStatus loanStatus,
-    Double monthlyAmmout
+    Double monthlyAmmout,
+    Long version
 ) {}
@@ -0,0 +1,42 @@
+package co.com.crediya.model.application.record;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Outcome of a bulk intake: how many rows were received and saved, and the
+ * rows that were rejected, ordered by their position in the submission.
+ */
+public record BulkOperationResult(
+    long received,
+    long saved,
+    List<BulkRowError> errors
+) {
+    private static final BulkOperationResult EMPTY = new BulkOperationResult(0, 0, List.of());
+
+    public static BulkOperationResult empty() {
+        return EMPTY;
+    }
+
+    public static BulkOperationResult ofSaved(long count) {
+        return new BulkOperationResult(count, count, List.of());
+    }
+
+    public static BulkOperationResult ofRejected(BulkRowError error) {
+        return new BulkOperationResult(1, 0, List.of(error));
+    }
+
+    public BulkOperationResult merge(BulkOperationResult other) {
+        List<BulkRowError> mergedErrors = errors;
+        if (!other.errors().isEmpty()) {
+            mergedErrors = new ArrayList<>(errors.size() + other.errors().size());
+            mergedErrors.addAll(errors);
+            mergedErrors.addAll(other.errors());
+            if (!errors.isEmpty() && errors.get(errors.size() - 1).index() > other.errors().get(0).index()) {
+                mergedErrors.sort(Comparator.comparingLong(BulkRowError::index));
+            }
+        }
+        return new BulkOperationResult(received + other.received(), saved + other.saved(), mergedErrors);
+    }
+}
@@ -0,0 +1,12 @@
+package co.com.crediya.model.application.record;
+
+/**
+ * A row of a bulk intake that was not saved.
+ *
+ * @param index   zero based position of the row in the submitted batch
+ * @param message why the row was rejected
+ */
+public record BulkRowError(
+    long index,
+    String message
+) {}
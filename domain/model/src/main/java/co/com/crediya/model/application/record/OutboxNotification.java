@@ -0,0 +1,14 @@
+package co.com.crediya.model.application.record;
+
+import co.com.crediya.model.application.Application;
+
+/**
+ * Status change waiting in the outbox to be notified.
+ *
+ * @param outboxId    id of the outbox row, used to mark it as sent
+ * @param application the application with the status and version of the change
+ */
+public record OutboxNotification(
+    long outboxId,
+    Application application
+) {}
@@ -0,0 +1,22 @@
+package co.com.crediya.model.application.record;
+
+import java.util.UUID;
+
+/**
+ * Result of one item of a bulk status update.
+ *
+ * @param applicationId the requested application
+ * @param updated       whether its status was changed
+ * @param application   the updated application, when it was changed
+ * @param message       why it was not changed
+ */
+public record StatusUpdateOutcome(
+    UUID applicationId,
+    boolean updated,
+    ApplicationWithUserInfoRecord application,
+    String message
+) {
+    public static StatusUpdateOutcome rejected(UUID applicationId, String message) {
+        return new StatusUpdateOutcome(applicationId, false, null, message);
+    }
+}
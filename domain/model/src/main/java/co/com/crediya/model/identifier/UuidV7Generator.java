@@ -0,0 +1,57 @@
+package co.com.crediya.model.identifier;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Time-ordered UUIDs (version 7, RFC 9562): the first 48 bits are the Unix
+ * time in milliseconds, so consecutive keys land next to each other in a
+ * B-tree index instead of on random pages.
+ *
+ * The 12 bits after the version hold a counter within the millisecond
+ * (RFC 9562 method 3). Timestamp and counter are advanced together with one
+ * compare-and-set, so every id handed out by a generator is strictly greater
+ * than the previous one, across threads, when the counter overflows (the
+ * timestamp moves one millisecond ahead) and when the clock goes backwards
+ * (the last timestamp is kept). Use one generator per node; the 62 random
+ * bits keep ids of different nodes apart.
+ *
+ * The random bits are not from a secure source: these are identifiers, not
+ * secrets, and access to what they point to is checked on its own.
+ */
+public class UuidV7Generator {
+    private static final int COUNTER_BITS = 12;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000_0000_0000_0000L;
+    private static final long RANDOM_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    private final LongSupplier clock;
+    /** Last timestamp in the upper bits and its counter in the lower {@link #COUNTER_BITS}. */
+    private final AtomicLong lastState = new AtomicLong();
+
+    public UuidV7Generator() {
+        this(System::currentTimeMillis);
+    }
+
+    UuidV7Generator(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    public UUID next() {
+        long candidate = clock.getAsLong() << COUNTER_BITS;
+        long state = lastState.updateAndGet(last -> Math.max(candidate, last + 1));
+
+        long timestamp = state >>> COUNTER_BITS;
+        long counter = state & ((1L << COUNTER_BITS) - 1);
+        long mostSigBits = (timestamp << 16) | VERSION | counter;
+        long leastSigBits = VARIANT | (ThreadLocalRandom.current().nextLong() & RANDOM_MASK);
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    /** Milliseconds since the epoch encoded in a version 7 UUID. */
+    public static long timestampOf(UUID uuid) {
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+}
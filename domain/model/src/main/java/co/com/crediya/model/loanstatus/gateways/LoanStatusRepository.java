@@ -1,10 +1,17 @@
 package co.com.crediya.model.loanstatus.gateways;
 
 import co.com.crediya.model.loanstatus.LoanStatus;
+import co.com.crediya.model.referencedata.IdLookupTable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface LoanStatusRepository {
     Flux<LoanStatus> getAllLoanStatuses();
     Mono<LoanStatus> getLoanStatusById(int loanStatusId);
+
+    default Mono<IdLookupTable<LoanStatus>> getLoanStatusLookup() {
+        return getAllLoanStatuses()
+            .collectList()
+            .map(loanStatuses -> IdLookupTable.of(loanStatuses, LoanStatus::getLoanStatusId));
+    }
 }
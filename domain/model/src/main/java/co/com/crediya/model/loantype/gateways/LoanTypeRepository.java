@@ -1,10 +1,17 @@
 package co.com.crediya.model.loantype.gateways;
 
 import co.com.crediya.model.loantype.LoanType;
+import co.com.crediya.model.referencedata.IdLookupTable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface LoanTypeRepository {
     Flux<LoanType> getAllLoanTypes();
     Mono<LoanType> getLoanTypeById(int loanTypeId);
+
+    default Mono<IdLookupTable<LoanType>> getLoanTypeLookup() {
+        return getAllLoanTypes()
+            .collectList()
+            .map(loanTypes -> IdLookupTable.of(loanTypes, LoanType::getLoanTypeId));
+    }
 }
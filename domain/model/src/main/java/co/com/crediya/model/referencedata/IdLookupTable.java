@@ -0,0 +1,107 @@
+package co.com.crediya.model.referencedata;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * Immutable lookup table for reference data keyed by a small integer id
+ * (SERIAL columns such as loan_type_id or loan_status_id).
+ * Ids in the dense range are resolved with a plain array access; the few ids
+ * that fall outside of it are kept in a sorted side table and found by binary
+ * search, so a lookup never boxes the key nor hashes it.
+ */
+public final class IdLookupTable<T> {
+    private static final int MIN_DENSE_CAPACITY = 64;
+    private static final int DENSE_CAPACITY_FACTOR = 4;
+
+    private static final IdLookupTable<?> EMPTY = new IdLookupTable<>(new Object[0], new int[0], new Object[0], List.of());
+
+    private final Object[] dense;
+    private final int[] sparseIds;
+    private final Object[] sparseValues;
+    private final List<T> values;
+
+    private IdLookupTable(Object[] dense, int[] sparseIds, Object[] sparseValues, List<T> values) {
+        this.dense = dense;
+        this.sparseIds = sparseIds;
+        this.sparseValues = sparseValues;
+        this.values = values;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> IdLookupTable<T> empty() {
+        return (IdLookupTable<T>) EMPTY;
+    }
+
+    public static <T> IdLookupTable<T> of(Collection<T> values, ToIntFunction<T> idExtractor) {
+        if (values.isEmpty()) {
+            return empty();
+        }
+
+        int denseCapacity = Math.max(MIN_DENSE_CAPACITY, values.size() * DENSE_CAPACITY_FACTOR);
+        int maxDenseId = -1;
+        List<T> sparse = new ArrayList<>();
+        for (T value : values) {
+            int id = idExtractor.applyAsInt(value);
+            if (id >= 0 && id < denseCapacity) {
+                maxDenseId = Math.max(maxDenseId, id);
+            } else {
+                sparse.add(value);
+            }
+        }
+
+        Object[] dense = new Object[maxDenseId + 1];
+        for (T value : values) {
+            int id = idExtractor.applyAsInt(value);
+            if (id >= 0 && id < dense.length) {
+                dense[id] = value;
+            }
+        }
+
+        sparse.sort((left, right) -> Integer.compare(idExtractor.applyAsInt(left), idExtractor.applyAsInt(right)));
+        int[] sparseIds = new int[sparse.size()];
+        Object[] sparseValues = new Object[sparse.size()];
+        for (int i = 0; i < sparse.size(); i++) {
+            sparseIds[i] = idExtractor.applyAsInt(sparse.get(i));
+            sparseValues[i] = sparse.get(i);
+        }
+
+        return new IdLookupTable<>(dense, sparseIds, sparseValues, List.copyOf(values));
+    }
+
+    @SuppressWarnings("unchecked")
+    public T get(int id) {
+        if (id >= 0 && id < dense.length) {
+            return (T) dense[id];
+        }
+        int index = Arrays.binarySearch(sparseIds, id);
+        return index >= 0 ? (T) sparseValues[index] : null;
+    }
+
+    /**
+     * Resolves a boxed id, as read from the model getters, without unboxing
+     * it when it is null; a null id has no entry.
+     */
+    public T get(Integer id) {
+        return id == null ? null : get(id.intValue());
+    }
+
+    public boolean contains(int id) {
+        return get(id) != null;
+    }
+
+    public boolean contains(Integer id) {
+        return id != null && contains(id.intValue());
+    }
+
+    public List<T> values() {
+        return values;
+    }
+
+    public int size() {
+        return values.size();
+    }
+}
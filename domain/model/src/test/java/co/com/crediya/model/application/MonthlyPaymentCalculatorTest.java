@@ -0,0 +1,29 @@
+package co.com.crediya.model.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MonthlyPaymentCalculatorTest {
+
+    @Test
+    @DisplayName("Should compute the installment from the equivalent monthly rate, rounded to cents")
+    void shouldCalculateMonthlyPayment() {
+        // When
+        Double monthlyPayment = MonthlyPaymentCalculator.calculate(10_000_000.0, 12.0, 12.0);
+
+        // Then
+        assertEquals(885620.67, monthlyPayment);
+    }
+
+    @Test
+    @DisplayName("Should round half up to cents")
+    void shouldRoundHalfUp() {
+        // When
+        Double monthlyPayment = MonthlyPaymentCalculator.calculate(2_500_000.0, 24.0, 5.0);
+
+        // Then
+        assertEquals(109554.18, monthlyPayment);
+    }
+}
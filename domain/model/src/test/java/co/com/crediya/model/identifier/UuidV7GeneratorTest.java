@@ -0,0 +1,100 @@
+package co.com.crediya.model.identifier;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UuidV7GeneratorTest {
+
+    private static final long NOW = 1_726_531_200_000L;
+
+    @Test
+    @DisplayName("Should set version 7, the RFC variant and the current timestamp")
+    void shouldEncodeVersionVariantAndTimestamp() {
+        // Given
+        UuidV7Generator generator = new UuidV7Generator(() -> NOW);
+
+        // When
+        UUID id = generator.next();
+
+        // Then
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        assertEquals(NOW, UuidV7Generator.timestampOf(id));
+    }
+
+    @Test
+    @DisplayName("Should keep increasing within a millisecond, past counter overflow and when the clock goes back")
+    void shouldBeMonotonic() {
+        // Given
+        AtomicLong clock = new AtomicLong(NOW);
+        UuidV7Generator generator = new UuidV7Generator(clock::get);
+        List<UUID> ids = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(generator.next());
+        }
+        clock.set(NOW - 60_000);
+        for (int i = 0; i < 100; i++) {
+            ids.add(generator.next());
+        }
+
+        // Then
+        for (int i = 1; i < ids.size(); i++) {
+            assertTrue(compareUnsigned(ids.get(i - 1), ids.get(i)) < 0, "id " + i + " is not greater than the previous one");
+            assertEquals(7, ids.get(i).version());
+        }
+        assertTrue(UuidV7Generator.timestampOf(ids.get(ids.size() - 1)) > NOW);
+    }
+
+    @Test
+    @DisplayName("Should hand out unique, per thread increasing ids under concurrency")
+    void shouldBeUniqueAcrossThreads() throws Exception {
+        // Given
+        UuidV7Generator generator = new UuidV7Generator();
+        Set<UUID> all = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int thread = 0; thread < 8; thread++) {
+            results.add(executor.submit(() -> {
+                UUID previous = null;
+                boolean increasing = true;
+                for (int i = 0; i < 20_000; i++) {
+                    UUID id = generator.next();
+                    increasing &= previous == null || compareUnsigned(previous, id) < 0;
+                    all.add(id);
+                    previous = id;
+                }
+                return increasing;
+            }));
+        }
+
+        // Then
+        for (Future<Boolean> result : results) {
+            assertTrue(result.get());
+        }
+        executor.shutdown();
+        assertEquals(8 * 20_000, all.size());
+    }
+
+    /** Byte order, as Postgres compares uuid values. */
+    private static int compareUnsigned(UUID a, UUID b) {
+        int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+}
@@ -0,0 +1,82 @@
+package co.com.crediya.model.referencedata;
+
+import co.com.crediya.model.loantype.LoanType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IdLookupTableTest {
+
+    @Test
+    @DisplayName("Should resolve dense ids by array index")
+    void shouldResolveDenseIds() {
+        // Given
+        LoanType loanType1 = LoanType.builder().loanTypeId(1).name("Personal Loan").build();
+        LoanType loanType3 = LoanType.builder().loanTypeId(3).name("Mortgage").build();
+
+        // When
+        IdLookupTable<LoanType> table = IdLookupTable.of(List.of(loanType1, loanType3), LoanType::getLoanTypeId);
+
+        // Then
+        assertSame(loanType1, table.get(1));
+        assertSame(loanType3, table.get(3));
+        assertNull(table.get(2));
+        assertNull(table.get(-1));
+        assertEquals(2, table.size());
+    }
+
+    @Test
+    @DisplayName("Should resolve sparse ids outside the dense range")
+    void shouldResolveSparseIds() {
+        // Given
+        LoanType loanType1 = LoanType.builder().loanTypeId(1).name("Personal Loan").build();
+        LoanType loanType5000 = LoanType.builder().loanTypeId(5000).name("Legacy Loan").build();
+        LoanType loanType900 = LoanType.builder().loanTypeId(900).name("Student Loan").build();
+
+        // When
+        IdLookupTable<LoanType> table = IdLookupTable.of(List.of(loanType1, loanType5000, loanType900), LoanType::getLoanTypeId);
+
+        // Then
+        assertSame(loanType1, table.get(1));
+        assertSame(loanType900, table.get(900));
+        assertSame(loanType5000, table.get(5000));
+        assertTrue(table.contains(5000));
+        assertFalse(table.contains(4999));
+        assertEquals(List.of(loanType1, loanType5000, loanType900), table.values());
+    }
+
+    @Test
+    @DisplayName("Should resolve boxed ids and treat a null id as missing")
+    void shouldResolveBoxedIds() {
+        // Given
+        LoanType loanType1 = LoanType.builder().loanTypeId(1).name("Personal Loan").build();
+        Integer missingId = null;
+
+        // When
+        IdLookupTable<LoanType> table = IdLookupTable.of(List.of(loanType1), LoanType::getLoanTypeId);
+
+        // Then
+        assertSame(loanType1, table.get(Integer.valueOf(1)));
+        assertNull(table.get(missingId));
+        assertFalse(table.contains(missingId));
+        assertTrue(table.contains(Integer.valueOf(1)));
+    }
+
+    @Test
+    @DisplayName("Should return an empty table for no values")
+    void shouldReturnEmptyTable() {
+        // When
+        IdLookupTable<LoanType> table = IdLookupTable.of(List.of(), LoanType::getLoanTypeId);
+
+        // Then
+        assertEquals(0, table.size());
+        assertNull(table.get(1));
+    }
+}
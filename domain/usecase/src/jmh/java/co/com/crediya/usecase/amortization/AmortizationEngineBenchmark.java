@@ -0,0 +1,74 @@
+package co.com.crediya.usecase.amortization;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import co.com.crediya.model.application.MonthlyPaymentCalculator;
+import co.com.crediya.model.loantype.LoanType;
+
+/**
+ * Monthly payments for one page of applications spread over a few loan
+ * types. {@code reference} is the previous per-row computation: two
+ * Math.pow calls on boxed Doubles and BigDecimal rounding. {@code engine}
+ * reads the cached monthly rate and discount factor and rounds in long cents.
+ *
+ * Run with {@code ./gradlew :usecase:jmh} and add {@code -prof gc} to the JMH
+ * arguments to compare allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AmortizationEngineBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int pageSize;
+
+    private final AmortizationEngine engine = new AmortizationEngine();
+    private LoanType[] loanTypes;
+    private double[] loanAmounts;
+    private double[] loanTerms;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        LoanType[] types = new LoanType[5];
+        for (int id = 1; id <= types.length; id++) {
+            types[id - 1] = LoanType.builder().loanTypeId(id).name("Loan type " + id).interestRate(10.0 + id * 1.75).build();
+        }
+        loanTypes = new LoanType[pageSize];
+        loanAmounts = new double[pageSize];
+        loanTerms = new double[pageSize];
+        for (int i = 0; i < pageSize; i++) {
+            loanTypes[i] = types[random.nextInt(types.length)];
+            loanAmounts[i] = 1_000_000.0 + random.nextInt(10_000_000);
+            loanTerms[i] = 12.0 + random.nextInt(60);
+        }
+    }
+
+    @Benchmark
+    public double reference() {
+        double total = 0;
+        for (int i = 0; i < pageSize; i++) {
+            total += MonthlyPaymentCalculator.calculate(loanAmounts[i], loanTerms[i], loanTypes[i].getInterestRate());
+        }
+        return total;
+    }
+
+    @Benchmark
+    public double engine() {
+        double total = 0;
+        for (int i = 0; i < pageSize; i++) {
+            total += engine.monthlyPayment(loanTypes[i], loanAmounts[i], loanTerms[i]);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,114 @@
+package co.com.crediya.usecase.amortization;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import co.com.crediya.model.loantype.LoanType;
+
+/**
+ * Monthly installments computed on primitives, returning exactly what
+ * {@link co.com.crediya.model.application.MonthlyPaymentCalculator} returns.
+ * The monthly rate equivalent to each loan type's annual rate is computed once
+ * and kept with the discount factors {@code (1+i)^-n} of every whole term up
+ * to {@link #MAX_TABULATED_TERM}; a changed rate replaces the loan type's
+ * table. Fractional or longer terms fall back to {@code Math.pow}.
+ *
+ * Rounding to cents is done in long arithmetic. BigDecimal.valueOf rounds the
+ * shortest decimal representation of the double, which can only differ from
+ * the double itself right at a half cent, so amounts that close to a tie (or
+ * too large for the check to be exact) are still rounded through BigDecimal.
+ *
+ * A single instance is shared by the use cases so they read the same rate
+ * tables.
+ */
+public class AmortizationEngine {
+    public static final int MAX_TABULATED_TERM = 480;
+
+    /** Below this the double and its decimal representation are far closer than {@link #TIE_TOLERANCE}. */
+    private static final double FAST_ROUNDING_LIMIT = 1e9;
+    /** Distance from a half cent, in cents, under which rounding goes through BigDecimal. */
+    private static final double TIE_TOLERANCE = 1e-4;
+
+    private final ConcurrentMap<Integer, RateTable> rateTables = new ConcurrentHashMap<>();
+
+    public double monthlyPayment(LoanType loanType, double loanAmount, double loanTerm) {
+        return roundToCents(unroundedMonthlyPayment(rateTable(loanType), loanAmount, loanTerm));
+    }
+
+    public double monthlyRate(LoanType loanType) {
+        return rateTable(loanType).monthlyRate;
+    }
+
+    /**
+     * Lazily generated schedule of a loan priced at the given annual rate,
+     * paying the given monthly payment each period over the term rounded up
+     * to whole months. Takes the rate and payment stored with the application
+     * rather than the loan type, so the schedule matches what was quoted.
+     */
+    public AmortizationSchedule schedule(double annualRate, double loanAmount, double loanTerm, double monthlyPayment) {
+        return new AmortizationSchedule(
+            monthlyRate(annualRate), Math.round(loanAmount * 100), Math.round(monthlyPayment * 100), (int) Math.ceil(loanTerm));
+    }
+
+    RateTable rateTable(LoanType loanType) {
+        double annualRate = loanType.getInterestRate();
+        Integer loanTypeId = loanType.getLoanTypeId();
+        if (loanTypeId == null) {
+            return new RateTable(annualRate);
+        }
+        RateTable table = rateTables.get(loanTypeId);
+        if (table == null || table.annualRate != annualRate) {
+            table = new RateTable(annualRate);
+            rateTables.put(loanTypeId, table);
+        }
+        return table;
+    }
+
+    static double monthlyRate(double annualRate) {
+        return Math.pow(1 + annualRate / 100, 1.0 / 12.0) - 1;
+    }
+
+    static double unroundedMonthlyPayment(RateTable table, double loanAmount, double loanTerm) {
+        return loanAmount * table.monthlyRate / (1 - table.discountFactor(loanTerm));
+    }
+
+    /** Same result as {@code BigDecimal.valueOf(amount).setScale(2, RoundingMode.HALF_UP).doubleValue()}. */
+    static double roundToCents(double amount) {
+        if (Math.abs(amount) < FAST_ROUNDING_LIMIT) {
+            double scaled = amount * 100;
+            double floor = Math.floor(scaled);
+            double fraction = scaled - floor;
+            if (Math.abs(fraction - 0.5) > TIE_TOLERANCE) {
+                long cents = (long) floor + (fraction > 0.5 ? 1 : 0);
+                return cents / 100.0;
+            }
+        }
+        return BigDecimal.valueOf(amount).setScale(2, RoundingMode.HALF_UP).doubleValue();
+    }
+
+    static final class RateTable {
+        final double annualRate;
+        final double monthlyRate;
+        private final double base;
+        private final double[] discountFactors = new double[MAX_TABULATED_TERM + 1];
+
+        RateTable(double annualRate) {
+            this.annualRate = annualRate;
+            this.monthlyRate = monthlyRate(annualRate);
+            this.base = 1 + monthlyRate;
+            for (int term = 1; term <= MAX_TABULATED_TERM; term++) {
+                discountFactors[term] = Math.pow(base, -term);
+            }
+        }
+
+        double discountFactor(double loanTerm) {
+            int term = (int) loanTerm;
+            if (term == loanTerm && term >= 1 && term <= MAX_TABULATED_TERM) {
+                return discountFactors[term];
+            }
+            return Math.pow(base, -loanTerm);
+        }
+    }
+}
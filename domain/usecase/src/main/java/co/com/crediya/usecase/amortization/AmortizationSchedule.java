@@ -0,0 +1,46 @@
+package co.com.crediya.usecase.amortization;
+
+import co.com.crediya.model.application.record.AmortizationInstallment;
+
+/**
+ * Cursor over a payment schedule that computes each installment when it is
+ * asked for, so a schedule is never held in memory. Amounts are kept in whole
+ * cents: every period pays the rounded monthly payment, its interest is the
+ * balance times the monthly rate rounded to cents, and the last period pays
+ * off whatever balance is left. Since the payment is rounded, small loans over
+ * long terms may be paid off a few periods early. Not thread-safe; one cursor
+ * per consumer.
+ */
+public class AmortizationSchedule {
+    private final double monthlyRate;
+    private final long paymentCents;
+    private final int periods;
+    private long balanceCents;
+    private int period;
+
+    AmortizationSchedule(double monthlyRate, long loanAmountCents, long paymentCents, int periods) {
+        this.monthlyRate = monthlyRate;
+        this.balanceCents = loanAmountCents;
+        this.paymentCents = paymentCents;
+        this.periods = periods;
+    }
+
+    public boolean hasNext() {
+        return period < periods && balanceCents > 0;
+    }
+
+    public AmortizationInstallment next() {
+        period++;
+        long interestCents = Math.round(AmortizationEngine.roundToCents(balanceCents / 100.0 * monthlyRate) * 100);
+        long principalCents = period == periods
+            ? balanceCents
+            : Math.min(paymentCents - interestCents, balanceCents);
+        balanceCents -= principalCents;
+        return new AmortizationInstallment(
+            period,
+            (interestCents + principalCents) / 100.0,
+            interestCents / 100.0,
+            principalCents / 100.0,
+            balanceCents / 100.0);
+    }
+}
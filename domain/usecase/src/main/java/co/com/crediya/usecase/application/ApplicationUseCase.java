@@ -1,29 +1,44 @@
 package co.com.crediya.usecase.application;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import co.com.crediya.model.application.Application;
 import co.com.crediya.model.application.criteria.PageResult;
+import co.com.crediya.model.application.criteria.ReadMode;
 import co.com.crediya.model.application.criteria.SearchCriteria;
 import co.com.crediya.model.application.exception.InvalidDataException;
 import co.com.crediya.model.application.exception.UnauthorizedException;
+import co.com.crediya.model.application.gateways.ApplicationOutboxRepository;
 import co.com.crediya.model.application.gateways.ApplicationRepository;
 import co.com.crediya.model.application.gateways.NotificationsSQSGateway;
 import co.com.crediya.model.application.gateways.UserGateway;
+import co.com.crediya.model.application.record.AmortizationInstallment;
 import co.com.crediya.model.application.record.ApplicationRecord;
 import co.com.crediya.model.application.record.ApplicationWithUserInfoRecord;
+import co.com.crediya.model.application.record.BulkOperationResult;
+import co.com.crediya.model.application.record.BulkRowError;
+import co.com.crediya.model.application.record.OutboxNotification;
+import co.com.crediya.model.application.record.StatusUpdateOutcome;
 import co.com.crediya.model.application.record.UserBasicInfo;
+import co.com.crediya.model.identifier.UuidV7Generator;
 import co.com.crediya.model.loanstatus.LoanStatus;
 import co.com.crediya.model.loanstatus.gateways.LoanStatusRepository;
 import co.com.crediya.model.loantype.LoanType;
 import co.com.crediya.model.loantype.gateways.LoanTypeRepository;
+import co.com.crediya.model.referencedata.IdLookupTable;
+import co.com.crediya.usecase.amortization.AmortizationEngine;
 import lombok.RequiredArgsConstructor;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.function.Tuples;
 
 @RequiredArgsConstructor
 public class ApplicationUseCase {
@@ -32,6 +47,9 @@ public class ApplicationUseCase {
     private final LoanStatusRepository loanStatusRepository;
     private final UserGateway userGateway;
     private final NotificationsSQSGateway notificationsSQSGateway;
+    private final ApplicationOutboxRepository applicationOutboxRepository;
+    private final AmortizationEngine amortizationEngine;
+    private final UuidV7Generator applicationIdGenerator = new UuidV7Generator();
 
     private enum LoanStatuses {
         PENDIENTE(1);
@@ -47,68 +65,90 @@ public class ApplicationUseCase {
         }
     }
 
+    /**
+     * Concurrent user lookups while validating a bulk intake. The users
+     * service only looks users up one id number at a time, so an intake costs
+     * one call per distinct id number; repeated id numbers share one lookup.
+     */
+    private static final int BULK_VALIDATION_CONCURRENCY = 16;
+    private static final int MAX_BULK_STATUS_UPDATES = 1000;
+
     private enum Roles {
         CLIENTE, ASESOR, ADMIN;
     }
 
     public Flux<ApplicationRecord> getAllApplications() {
-        return Flux.zip(
-                loanTypeRepository.getAllLoanTypes().collectMap(LoanType::getLoanTypeId),
-                loanStatusRepository.getAllLoanStatuses().collectMap(LoanStatus::getLoanStatusId)
-            )
-            .flatMap(params -> {
-                Map<Integer, LoanType> loanTypeMap = params.getT1();
-                Map<Integer, LoanStatus> loanStatusMap = params.getT2();
-
-                return applicationRepository.getAllApplications()
-                    .map(application -> new ApplicationRecord(
-                        application.getApplicationId(),
-                        application.getUserEmail(),
-                        application.getLoanAmount(),
-                        application.getLoanTerm(),
-                        loanTypeMap.get(application.getLoanTypeId()),
-                        loanStatusMap.get(application.getLoanStatusId())));
-            });
+        return getAllApplications(ReadMode.CACHED);
+    }
+
+    public Flux<ApplicationRecord> getAllApplications(ReadMode readMode) {
+        if (readMode == ReadMode.JOINED) {
+            return applicationRepository.getAllApplicationRecords();
+        }
+        return Mono.zip(loanTypeRepository.getLoanTypeLookup(), loanStatusRepository.getLoanStatusLookup())
+            .flatMapMany(lookups -> applicationRepository.getAllApplications()
+                .map(application -> toApplicationRecord(application, lookups.getT1(), lookups.getT2())));
     }
 
     public Flux<ApplicationRecord> getApplicationsByUserEmail(String userEmail) {
-        return Flux.zip(
-                loanTypeRepository.getAllLoanTypes().collectMap(LoanType::getLoanTypeId),
-                loanStatusRepository.getAllLoanStatuses().collectMap(LoanStatus::getLoanStatusId)
-            )
-            .flatMap(params -> {
-                Map<Integer, LoanType> loanTypeMap = params.getT1();
-                Map<Integer, LoanStatus> loanStatusMap = params.getT2();
-
-                return applicationRepository.getApplicationsByUserEmail(userEmail)
-                    .map(application -> new ApplicationRecord(
-                        application.getApplicationId(),
-                        application.getUserEmail(),
-                        application.getLoanAmount(),
-                        application.getLoanTerm(),
-                        loanTypeMap.get(application.getLoanTypeId()),
-                        loanStatusMap.get(application.getLoanStatusId())));
-            });
+        return getApplicationsByUserEmail(userEmail, ReadMode.CACHED);
+    }
+
+    public Flux<ApplicationRecord> getApplicationsByUserEmail(String userEmail, ReadMode readMode) {
+        if (readMode == ReadMode.JOINED) {
+            return applicationRepository.getApplicationRecordsByUserEmail(userEmail);
+        }
+        return Mono.zip(loanTypeRepository.getLoanTypeLookup(), loanStatusRepository.getLoanStatusLookup())
+            .flatMapMany(lookups -> applicationRepository.getApplicationsByUserEmail(userEmail)
+                .map(application -> toApplicationRecord(application, lookups.getT1(), lookups.getT2())));
     }
 
     public Mono<ApplicationRecord> getApplicationsByApplicationId(UUID applicationId) {
-        return Mono.zip(
-                loanTypeRepository.getAllLoanTypes().collectMap(LoanType::getLoanTypeId),
-                loanStatusRepository.getAllLoanStatuses().collectMap(LoanStatus::getLoanStatusId)
-            )
-            .flatMap(params -> {
-                Map<Integer, LoanType> loanTypeMap = params.getT1();
-                Map<Integer, LoanStatus> loanStatusMap = params.getT2();
-
-                return applicationRepository.getApplicationsByApplicationId(applicationId)
-                    .map(application -> new ApplicationRecord(
-                        application.getApplicationId(),
-                        application.getUserEmail(),
-                        application.getLoanAmount(),
-                        application.getLoanTerm(),
-                        loanTypeMap.get(application.getLoanTypeId()),
-                        loanStatusMap.get(application.getLoanStatusId())));
-            });
+        return getApplicationsByApplicationId(applicationId, ReadMode.CACHED);
+    }
+
+    public Mono<ApplicationRecord> getApplicationsByApplicationId(UUID applicationId, ReadMode readMode) {
+        if (readMode == ReadMode.JOINED) {
+            return applicationRepository.getApplicationRecordByApplicationId(applicationId);
+        }
+        return Mono.zip(loanTypeRepository.getLoanTypeLookup(), loanStatusRepository.getLoanStatusLookup())
+            .flatMap(lookups -> applicationRepository.getApplicationsByApplicationId(applicationId)
+                .map(application -> toApplicationRecord(application, lookups.getT1(), lookups.getT2())));
+    }
+
+    /**
+     * Installment table of the application, generated one period at a time as
+     * the subscriber requests it. Uses the rate and monthly payment stored with
+     * the application, so a later change to the loan type's rate does not
+     * alter the schedule.
+     */
+    public Flux<AmortizationInstallment> getAmortizationSchedule(UUID applicationId) {
+        return applicationRepository.getApplicationsByApplicationId(applicationId)
+            .switchIfEmpty(Mono.error(new InvalidDataException("No existe una solicitud de crédito con id: " + applicationId)))
+            .map(application -> amortizationEngine.schedule(application.getMonthlyPaymentRate(),
+                application.getLoanAmount(), application.getLoanTerm(), application.getMonthlyPayment()))
+            .flatMapMany(schedule -> Flux.<AmortizationInstallment>generate(sink -> {
+                if (schedule.hasNext()) {
+                    sink.next(schedule.next());
+                } else {
+                    sink.complete();
+                }
+            }));
+    }
+
+    private ApplicationRecord toApplicationRecord(
+        Application application,
+        IdLookupTable<LoanType> loanTypes,
+        IdLookupTable<LoanStatus> loanStatuses
+    ) {
+        return new ApplicationRecord(
+            application.getApplicationId(),
+            application.getUserEmail(),
+            application.getLoanAmount(),
+            application.getLoanTerm(),
+            loanTypes.get(application.getLoanTypeId()),
+            loanStatuses.get(application.getLoanStatusId()),
+            application.getVersion());
     }
 
     public Mono<ApplicationRecord> saveApplication(Mono<Application> application) {
@@ -127,8 +167,10 @@ public class ApplicationUseCase {
                 if (!authenticatedUser.roleName().equals(Roles.CLIENTE.name())) return Mono.error(new UnauthorizedException("Para poder crear una solicitud necesita ser Cliente."));
                 if (!authenticatedUser.idNumber().equals(toSave.getUserIdNumber())) return Mono.error(new InvalidDataException("No se permite crear solicitudes para otro usuario diferente al autenticado."));
 
+                toSave.setApplicationId(applicationIdGenerator.next());
                 toSave.setUserEmail(authenticatedUser.email());
                 toSave.setLoanStatusId(pendingStatus.getLoanStatusId());
+                setMonthlyPayment(toSave, params.getT1());
                 return applicationRepository.saveApplication(Mono.just(toSave))
                     .map(savedApplication -> new ApplicationRecord(
                         savedApplication.getApplicationId(),
@@ -136,103 +178,283 @@ public class ApplicationUseCase {
                         savedApplication.getLoanAmount(),
                         savedApplication.getLoanTerm(),
                         params.getT1(),
-                        params.getT3()));
+                        params.getT3(),
+                        savedApplication.getVersion()));
             })
         );
     }
 
+    public Mono<BulkOperationResult> saveApplications(Flux<Application> applications) {
+        return userGateway.getRequestUserByToken()
+            .flatMap(authenticatedUser -> {
+                if (!authenticatedUser.roleName().equals(Roles.ADMIN.name())) return Mono.error(new UnauthorizedException("Para poder cargar solicitudes en lote necesita ser Administrador."));
+
+                return Mono.zip(
+                    loanTypeRepository.getLoanTypeLookup(),
+                    loanStatusRepository.getLoanStatusById(LoanStatuses.PENDIENTE.getValue())
+                );
+            })
+            .flatMap(params -> {
+                IdLookupTable<LoanType> loanTypes = params.getT1();
+                LoanStatus pendingStatus = params.getT2();
+                List<BulkRowError> rejected = new ArrayList<>();
+                Map<Long, Mono<UserBasicInfo>> users = new ConcurrentHashMap<>();
+                // Position in the submission of each row handed to the repository
+                List<Long> positions = new ArrayList<>();
+
+                Flux<Application> validRows = applications.index()
+                    .flatMapSequential(row -> validateBulkRow(row.getT2(), loanTypes, users)
+                        .map(valid -> Tuples.of(row.getT1(), valid))
+                        .onErrorResume(InvalidDataException.class, ex -> {
+                            synchronized (rejected) {
+                                rejected.add(new BulkRowError(row.getT1(), ex.getMessage()));
+                            }
+                            return Mono.empty();
+                        }), BULK_VALIDATION_CONCURRENCY)
+                    .map(row -> {
+                        positions.add(row.getT1());
+                        Application valid = row.getT2();
+                        valid.setApplicationId(applicationIdGenerator.next());
+                        valid.setLoanStatusId(pendingStatus.getLoanStatusId());
+                        setMonthlyPayment(valid, loanTypes.get(valid.getLoanTypeId()));
+                        return valid;
+                    });
+
+                return applicationRepository.saveApplications(validRows)
+                    .map(result -> {
+                        List<BulkRowError> errors = new ArrayList<>(rejected);
+                        result.errors().forEach(error -> errors.add(
+                            new BulkRowError(positions.get((int) error.index()), error.message())));
+                        errors.sort(Comparator.comparingLong(BulkRowError::index));
+                        return new BulkOperationResult(result.received() + rejected.size(), result.saved(), errors);
+                    });
+            });
+    }
+
+    private Mono<Application> validateBulkRow(Application application, IdLookupTable<LoanType> loanTypes,
+                                              Map<Long, Mono<UserBasicInfo>> users) {
+        if (application.getUserIdNumber() == null || application.getLoanAmount() == null
+            || application.getLoanTerm() == null || application.getLoanTypeId() == null) {
+            return Mono.error(new InvalidDataException("La solicitud debe incluir usuario, monto, plazo y tipo de crédito."));
+        }
+        if (!loanTypes.contains(application.getLoanTypeId())) {
+            return Mono.error(new InvalidDataException("No existe un tipo de crédito con id: " + application.getLoanTypeId()));
+        }
+        return users.computeIfAbsent(application.getUserIdNumber(), idNumber -> userGateway.getUserByIdNumber(idNumber).cache())
+            .switchIfEmpty(Mono.error(new InvalidDataException("No existe un usuario con número de identificación " + application.getUserIdNumber())))
+            .map(user -> {
+                application.setUserEmail(user.email());
+                return application;
+            });
+    }
+
     public Mono<PageResult<ApplicationWithUserInfoRecord>> getByCriteriaPaginated(SearchCriteria criteria) {
         return applicationRepository.findByCriteria(criteria)
             .flatMap(paginated -> {
                 List<String> usersEmails = paginated.getContent().stream().map(Application::getUserEmail).toList();
 
                 return Mono.zip(
-                    loanTypeRepository.getAllLoanTypes().collectMap(LoanType::getLoanTypeId),
-                    loanStatusRepository.getAllLoanStatuses().collectMap(LoanStatus::getLoanStatusId),
+                    loanTypeRepository.getLoanTypeLookup(),
+                    loanStatusRepository.getLoanStatusLookup(),
                     userGateway.getUsersBasicInfo(usersEmails).collectMap(UserBasicInfo::email)
                 )
                 .flatMap(params -> {
-                    Map<Integer, LoanType> loanTypeMap = params.getT1();
-                    Map<Integer, LoanStatus> loanStatusMap = params.getT2();
+                    IdLookupTable<LoanType> loanTypes = params.getT1();
+                    IdLookupTable<LoanStatus> loanStatuses = params.getT2();
                     Map<String, UserBasicInfo> userBasicInfoMap = params.getT3();
 
                     List<ApplicationWithUserInfoRecord> transformedContent = paginated.getContent().stream()
-                        .map(application -> new ApplicationWithUserInfoRecord(
-                            application.getApplicationId(),
-                            userBasicInfoMap.get(application.getUserEmail()).idNumber(),
-                            userBasicInfoMap.get(application.getUserEmail()).email(),
-                            userBasicInfoMap.get(application.getUserEmail()).name(),
-                            userBasicInfoMap.get(application.getUserEmail()).lastname(),
-                            userBasicInfoMap.get(application.getUserEmail()).baseSalary(),
-                            application.getLoanAmount(),
-                            application.getLoanTerm(),
-                            loanTypeMap.get(application.getLoanTypeId()),
-                            loanStatusMap.get(application.getLoanStatusId()),
-                            calculateMonthlyPayment(application, loanTypeMap.get(application.getLoanTypeId()))
+                        .map(application -> toApplicationWithUserInfoRecord(
+                            application,
+                            userBasicInfoMap.get(application.getUserEmail()),
+                            loanTypes.get(application.getLoanTypeId()),
+                            loanStatuses.get(application.getLoanStatusId())
                         )).toList();
 
-                        return Mono.just(new PageResult<ApplicationWithUserInfoRecord>(
-                            transformedContent,
-                            paginated.getTotalElements(),
-                            paginated.getCurrentPage(),
-                            paginated.getSize()
-                        ));
+                        return Mono.just(paginated.withContent(transformedContent));
                 });
             });
     }
 
-    private Double calculateMonthlyPayment(Application application, LoanType loanType) {
-        Double anualInterestRate = loanType.getInterestRate();
-        Double monthlyInterestRate = Math.pow(1 + anualInterestRate / 100, 1.0/12.0) - 1;
-        Double monthlyAmount = application.getLoanAmount() * monthlyInterestRate / 
-            (1 - Math.pow(1 + monthlyInterestRate, -application.getLoanTerm()));
-        BigDecimal roundedAmount = BigDecimal.valueOf(monthlyAmount)
-            .setScale(2, RoundingMode.HALF_UP);
+    private ApplicationWithUserInfoRecord toApplicationWithUserInfoRecord(
+        Application application,
+        UserBasicInfo user,
+        LoanType loanType,
+        LoanStatus loanStatus
+    ) {
+        if (user == null) {
+            user = new UserBasicInfo(null, null, null, application.getUserEmail(), null, null, null);
+        }
+        return new ApplicationWithUserInfoRecord(
+            application.getApplicationId(),
+            user.idNumber(),
+            user.email(),
+            user.name(),
+            user.lastname(),
+            user.baseSalary(),
+            application.getLoanAmount(),
+            application.getLoanTerm(),
+            loanType,
+            loanStatus,
+            application.getMonthlyPayment(),
+            application.getVersion());
+    }
 
-        return roundedAmount.doubleValue();
+    private void setMonthlyPayment(Application application, LoanType loanType) {
+        application.setMonthlyPayment(amortizationEngine.monthlyPayment(
+            loanType, application.getLoanAmount(), application.getLoanTerm()));
+        application.setMonthlyPaymentRate(loanType.getInterestRate());
     }
 
     public Mono<ApplicationWithUserInfoRecord> updateApplicationStatus(Mono<Application> application) {
         return application.flatMap(toEdit ->
-            applicationRepository.getApplicationsByApplicationId(toEdit.getApplicationId())
-                .switchIfEmpty(Mono.error(new InvalidDataException("No existe una solicitud de crédito con id: " + toEdit.getApplicationId())))
-            .flatMap(existing ->
-                Mono.zip(
-                    loanTypeRepository.getLoanTypeById(existing.getLoanTypeId())
-                        .switchIfEmpty(Mono.error(new InvalidDataException("No existe un tipo de crédito con id: " + existing.getLoanTypeId()))),
-                    loanStatusRepository.getLoanStatusById(toEdit.getLoanStatusId())
-                        .switchIfEmpty(Mono.error(new InvalidDataException("No existe un estado de crédito con id: " + toEdit.getLoanStatusId()))),
-                    userGateway.getRequestUserByToken(),
-                    userGateway.getUserByEmail(existing.getUserEmail())
-                        .switchIfEmpty(Mono.error(new InvalidDataException("No existe un usuario con email " + existing.getUserEmail())))
-                ).flatMap(params -> {
-                    LoanType loanType = params.getT1();
-                    LoanStatus loanStatus = params.getT2();
-                    UserBasicInfo authenticatedUser = params.getT3();
-                    UserBasicInfo applicationUser = params.getT4();
-
-                    if (!authenticatedUser.roleName().equals(Roles.ASESOR.name())) return Mono.error(new UnauthorizedException("Para poder cambiar el estado de una solicitud necesita ser Asesor."));
-
-                    existing.setLoanStatusId(loanStatus.getLoanStatusId());
-
-                    return applicationRepository.updateApplication(Mono.just(existing))
-                        .map(savedApplication -> new ApplicationWithUserInfoRecord(
-                            savedApplication.getApplicationId(),
-                            applicationUser.idNumber(),
-                            savedApplication.getUserEmail(),
-                            applicationUser.name(),
-                            applicationUser.lastname(),
-                            applicationUser.baseSalary(),
-                            savedApplication.getLoanAmount(),
-                            savedApplication.getLoanTerm(),
-                            loanType,
-                            loanStatus,
-                            calculateMonthlyPayment(existing, loanType))
+            Mono.zip(
+                loanStatusRepository.getLoanStatusById(toEdit.getLoanStatusId())
+                    .switchIfEmpty(Mono.error(new InvalidDataException("No existe un estado de crédito con id: " + toEdit.getLoanStatusId()))),
+                userGateway.getRequestUserByToken()
+            ).flatMap(params -> {
+                LoanStatus loanStatus = params.getT1();
+                UserBasicInfo authenticatedUser = params.getT2();
+
+                if (!authenticatedUser.roleName().equals(Roles.ASESOR.name())) return Mono.error(new UnauthorizedException("Para poder cambiar el estado de una solicitud necesita ser Asesor."));
+
+                return applicationRepository.updateApplicationStatus(toEdit.getApplicationId(), loanStatus.getLoanStatusId(), toEdit.getVersion())
+                    .switchIfEmpty(Mono.error(new InvalidDataException("No existe una solicitud de crédito con id: " + toEdit.getApplicationId())))
+                    // The status change is already committed, so the loan type and user
+                    // only enrich the response and their lookups must not fail it
+                    .flatMap(updated -> Mono.zip(
+                            loanTypeRepository.getLoanTypeById(updated.getLoanTypeId()),
+                            userGateway.getUserByEmail(updated.getUserEmail())
                         )
-                        .flatMap(applicationRecord -> notificationsSQSGateway.send(applicationRecord)
-                            .thenReturn(applicationRecord));
-                })
-            )
+                        .map(details -> toApplicationWithUserInfoRecord(updated, details.getT2(), details.getT1(), loanStatus))
+                        .onErrorResume(ex -> Mono.empty())
+                        .switchIfEmpty(Mono.fromSupplier(() -> toApplicationWithUserInfoRecord(updated, null, null, loanStatus))));
+            })
         );
     }
+
+    public Flux<StatusUpdateOutcome> updateApplicationStatuses(List<Application> updates) {
+        if (updates.size() > MAX_BULK_STATUS_UPDATES) {
+            return Flux.error(new InvalidDataException("El lote no puede superar " + MAX_BULK_STATUS_UPDATES + " solicitudes."));
+        }
+        return userGateway.getRequestUserByToken()
+            .flatMap(authenticatedUser -> {
+                if (!authenticatedUser.roleName().equals(Roles.ASESOR.name())) return Mono.error(new UnauthorizedException("Para poder cambiar el estado de una solicitud necesita ser Asesor."));
+
+                return Mono.zip(loanTypeRepository.getLoanTypeLookup(), loanStatusRepository.getLoanStatusLookup());
+            })
+            .flatMapMany(lookups -> {
+                IdLookupTable<LoanType> loanTypes = lookups.getT1();
+                IdLookupTable<LoanStatus> loanStatuses = lookups.getT2();
+                Map<UUID, StatusUpdateOutcome> rejected = new HashMap<>();
+                Map<UUID, Application> accepted = new LinkedHashMap<>();
+
+                for (Application update : updates) {
+                    UUID applicationId = update.getApplicationId();
+                    if (applicationId == null || rejected.containsKey(applicationId) || accepted.containsKey(applicationId)) {
+                        rejected.putIfAbsent(applicationId, StatusUpdateOutcome.rejected(applicationId, "La solicitud falta o está repetida en el lote."));
+                    } else if (update.getLoanStatusId() == null || !loanStatuses.contains(update.getLoanStatusId())) {
+                        rejected.put(applicationId, StatusUpdateOutcome.rejected(applicationId, "No existe un estado de crédito con id: " + update.getLoanStatusId()));
+                    } else {
+                        accepted.put(applicationId, update);
+                    }
+                }
+
+                return applicationRepository.updateApplicationStatuses(List.copyOf(accepted.values()))
+                    .collectList()
+                    .flatMap(updated -> (updated.isEmpty()
+                            ? Mono.just(Map.<String, UserBasicInfo>of())
+                            : userGateway.getUsersBasicInfo(updated.stream().map(Application::getUserEmail).distinct().toList())
+                                .collectMap(UserBasicInfo::email))
+                        .map(users -> {
+                            Map<UUID, StatusUpdateOutcome> outcomes = new HashMap<>(rejected);
+                            updated.forEach(application -> outcomes.put(application.getApplicationId(), new StatusUpdateOutcome(
+                                application.getApplicationId(),
+                                true,
+                                toUpdatedRecord(
+                                    application,
+                                    users.get(application.getUserEmail()),
+                                    loanTypes.get(application.getLoanTypeId()),
+                                    loanStatuses.get(application.getLoanStatusId())),
+                                null)));
+                            return outcomes;
+                        }))
+                    .flatMapIterable(outcomes -> updates.stream()
+                        .map(Application::getApplicationId)
+                        .distinct()
+                        .map(applicationId -> outcomes.getOrDefault(applicationId,
+                            StatusUpdateOutcome.rejected(applicationId, "No existe una solicitud de crédito con id: " + applicationId)))
+                        .toList());
+            });
+    }
+
+    /**
+     * Publishes the status change notifications queued in the outbox, claiming
+     * {@code batchSize} at a time until fewer are pending. Each batch is sent
+     * with the user details and reference data current at sending time;
+     * notifications that are not accepted stay in the outbox and are claimed
+     * again once their {@code lease} expires. Emits how many were sent.
+     */
+    public Mono<Long> relayStatusNotifications(int batchSize, Duration lease) {
+        return relayNotificationBatch(batchSize, lease)
+            .expand(batch -> batch.claimed() < batchSize
+                ? Mono.empty()
+                : relayNotificationBatch(batchSize, lease))
+            .reduce(0L, (sent, batch) -> sent + batch.sent());
+    }
+
+    private Mono<RelayedBatch> relayNotificationBatch(int batchSize, Duration lease) {
+        return applicationOutboxRepository.claimPending(batchSize, lease)
+            .collectList()
+            .flatMap(claimed -> claimed.isEmpty()
+                ? Mono.just(new RelayedBatch(0, 0L))
+                : Mono.zip(
+                        loanTypeRepository.getLoanTypeLookup(),
+                        loanStatusRepository.getLoanStatusLookup(),
+                        userGateway.getUsersBasicInfo(claimed.stream()
+                                .map(notification -> notification.application().getUserEmail())
+                                .distinct()
+                                .toList())
+                            .collectMap(UserBasicInfo::email))
+                    .flatMap(lookups -> {
+                        List<ApplicationWithUserInfoRecord> records = claimed.stream()
+                            .map(OutboxNotification::application)
+                            .map(application -> toUpdatedRecord(
+                                application,
+                                lookups.getT3().get(application.getUserEmail()),
+                                lookups.getT1().get(application.getLoanTypeId()),
+                                lookups.getT2().get(application.getLoanStatusId())))
+                            .toList();
+
+                        return notificationsSQSGateway.sendAll(records)
+                            .flatMap(notSent -> applicationOutboxRepository.markSent(claimed.stream()
+                                .filter(notification -> !notSent.contains(notification.application().getApplicationId()))
+                                .map(OutboxNotification::outboxId)
+                                .toList()));
+                    })
+                    .map(sent -> new RelayedBatch(claimed.size(), sent)));
+    }
+
+    private record RelayedBatch(int claimed, long sent) {}
+
+    private ApplicationWithUserInfoRecord toUpdatedRecord(
+        Application application,
+        UserBasicInfo user,
+        LoanType loanType,
+        LoanStatus loanStatus
+    ) {
+        return new ApplicationWithUserInfoRecord(
+            application.getApplicationId(),
+            user != null ? user.idNumber() : null,
+            application.getUserEmail(),
+            user != null ? user.name() : null,
+            user != null ? user.lastname() : null,
+            user != null ? user.baseSalary() : null,
+            application.getLoanAmount(),
+            application.getLoanTerm(),
+            loanType,
+            loanStatus,
+            application.getMonthlyPayment(),
+            application.getVersion());
+    }
 }
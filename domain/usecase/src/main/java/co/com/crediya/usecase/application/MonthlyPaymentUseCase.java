@@ -0,0 +1,57 @@
+package co.com.crediya.usecase.application;
+
+import java.util.List;
+import java.util.UUID;
+
+import co.com.crediya.model.application.Application;
+import co.com.crediya.model.application.gateways.ApplicationRepository;
+import co.com.crediya.model.loantype.LoanType;
+import co.com.crediya.usecase.amortization.AmortizationEngine;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * Brings the stored monthly payments of a loan type in line with its current
+ * rate. Staleness is decided by the database, comparing each row's
+ * monthly_payment_rate with the loan type's rate. Applications are walked in
+ * chunks by application id, so one pass visits every stale row once even if a
+ * chunk cannot be stored because the rate moved past the one it was priced at.
+ */
+@RequiredArgsConstructor
+public class MonthlyPaymentUseCase {
+    private final ApplicationRepository applicationRepository;
+    private final AmortizationEngine amortizationEngine;
+
+    public Mono<Long> recalculateMonthlyPayments(LoanType loanType, int chunkSize) {
+        return recalculateChunk(loanType, null, chunkSize)
+            .expand(chunk -> chunk.size() < chunkSize
+                ? Mono.empty()
+                : recalculateChunk(loanType, chunk.lastApplicationId(), chunkSize))
+            .reduce(0L, (updated, chunk) -> updated + chunk.updated());
+    }
+
+    private Mono<RecalculatedChunk> recalculateChunk(LoanType loanType, UUID after, int chunkSize) {
+        return applicationRepository.getApplicationsWithStaleMonthlyPayment(loanType.getLoanTypeId(), after, chunkSize)
+            .map(application -> {
+                application.setMonthlyPayment(amortizationEngine.monthlyPayment(
+                    loanType, application.getLoanAmount(), application.getLoanTerm()));
+                application.setMonthlyPaymentRate(loanType.getInterestRate());
+                return application;
+            })
+            .collectList()
+            .flatMap(applications -> applications.isEmpty()
+                ? Mono.just(new RecalculatedChunk(List.of(), 0L))
+                : applicationRepository.updateMonthlyPayments(applications)
+                    .map(updated -> new RecalculatedChunk(applications, updated)));
+    }
+
+    private record RecalculatedChunk(List<Application> applications, long updated) {
+        int size() {
+            return applications.size();
+        }
+
+        UUID lastApplicationId() {
+            return applications.get(applications.size() - 1).getApplicationId();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package co.com.crediya.usecase.amortization;
+
+import co.com.crediya.model.application.MonthlyPaymentCalculator;
+import co.com.crediya.model.application.record.AmortizationInstallment;
+import co.com.crediya.model.loantype.LoanType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AmortizationEngineTest {
+
+    private static final long SEED = 20_240_917L;
+
+    private final AmortizationEngine engine = new AmortizationEngine();
+
+    @Test
+    @DisplayName("Should match the reference monthly payment for random amounts, terms and rates")
+    void shouldMatchReferenceForRandomLoans() {
+        // Arrange
+        Random random = new Random(SEED);
+        LoanType[] loanTypes = new LoanType[20];
+        for (int id = 1; id <= loanTypes.length; id++) {
+            loanTypes[id - 1] = LoanType.builder().loanTypeId(id).interestRate((1 + random.nextInt(6000)) / 100.0).build();
+        }
+
+        // Act & Assert
+        for (int i = 0; i < 200_000; i++) {
+            LoanType loanType = loanTypes[random.nextInt(loanTypes.length)];
+            double loanAmount = 1 + Math.round(random.nextDouble() * 1e10) / 100.0;
+            double loanTerm = random.nextInt(10) == 0
+                ? 1 + random.nextInt(6000) / 10.0
+                : 1 + random.nextInt(AmortizationEngine.MAX_TABULATED_TERM);
+
+            double expected = MonthlyPaymentCalculator.calculate(loanAmount, loanTerm, loanType.getInterestRate());
+            assertEquals(expected, engine.monthlyPayment(loanType, loanAmount, loanTerm),
+                () -> "amount=" + loanAmount + " term=" + loanTerm + " rate=" + loanType.getInterestRate());
+        }
+    }
+
+    @Test
+    @DisplayName("Should round to cents exactly like BigDecimal, half cents included")
+    void shouldRoundLikeBigDecimal() {
+        // Arrange
+        Random random = new Random(SEED);
+
+        // Act & Assert
+        for (int i = 0; i < 500_000; i++) {
+            double amount = random.nextBoolean()
+                ? random.nextLong(-100_000_000_000L, 100_000_000_000L) / 1000.0 + (random.nextBoolean() ? 0.005 : -0.005)
+                : (random.nextDouble() - 0.5) * 4e9;
+
+            double expected = BigDecimal.valueOf(amount).setScale(2, RoundingMode.HALF_UP).doubleValue();
+            assertEquals(expected, AmortizationEngine.roundToCents(amount), () -> "amount=" + amount);
+        }
+        assertEquals(1.01, AmortizationEngine.roundToCents(1.005));
+        assertEquals(2.68, AmortizationEngine.roundToCents(2.675));
+        assertEquals(-1.01, AmortizationEngine.roundToCents(-1.005));
+    }
+
+    @Test
+    @DisplayName("Should keep the rate table of a loan type until its rate changes")
+    void shouldRebuildRateTableWhenRateChanges() {
+        // Arrange
+        LoanType loanType = LoanType.builder().loanTypeId(1).interestRate(12.0).build();
+
+        // Act
+        AmortizationEngine.RateTable first = engine.rateTable(loanType);
+        AmortizationEngine.RateTable cached = engine.rateTable(loanType);
+        loanType.setInterestRate(14.5);
+        AmortizationEngine.RateTable changed = engine.rateTable(loanType);
+
+        // Assert
+        assertSame(first, cached);
+        assertNotSame(first, changed);
+        assertEquals(MonthlyPaymentCalculator.calculate(10_000_000.0, 12.0, 14.5), engine.monthlyPayment(loanType, 10_000_000.0, 12.0));
+    }
+
+    @Test
+    @DisplayName("Should amortize the whole loan amount, paying the monthly payment until the last period")
+    void shouldAmortizeWholeAmount() {
+        // Arrange
+        Random random = new Random(SEED);
+
+        // Act & Assert
+        for (int i = 0; i < 2_000; i++) {
+            LoanType loanType = LoanType.builder().loanTypeId(1 + random.nextInt(5)).interestRate((1 + random.nextInt(6000)) / 100.0).build();
+            double loanAmount = 1 + Math.round(random.nextDouble() * 1e9) / 100.0;
+            double loanTerm = 1 + random.nextInt(AmortizationEngine.MAX_TABULATED_TERM);
+            double payment = engine.monthlyPayment(loanType, loanAmount, loanTerm);
+
+            AmortizationSchedule schedule = engine.schedule(loanType.getInterestRate(), loanAmount, loanTerm, payment);
+            long principalCents = 0;
+            AmortizationInstallment installment = null;
+            while (schedule.hasNext()) {
+                installment = schedule.next();
+                principalCents += Math.round(installment.principal() * 100);
+                if (schedule.hasNext()) {
+                    assertEquals(payment, installment.payment());
+                }
+            }
+
+            String loan = "amount=" + loanAmount + " term=" + loanTerm + " rate=" + loanType.getInterestRate();
+            assertNotNull(installment, loan);
+            assertTrue(installment.period() <= loanTerm, loan);
+            assertEquals(0.0, installment.balance(), loan);
+            assertEquals(Math.round(loanAmount * 100), principalCents, loan);
+        }
+    }
+}
@@ -2,37 +2,57 @@ package co.com.crediya.usecase.application;
 
 import co.com.crediya.model.application.Application;
 import co.com.crediya.model.application.criteria.PageResult;
+import co.com.crediya.model.application.criteria.ReadMode;
 import co.com.crediya.model.application.criteria.SearchCriteria;
+import co.com.crediya.model.application.exception.ConcurrentUpdateException;
 import co.com.crediya.model.application.exception.InvalidDataException;
+import co.com.crediya.model.application.exception.ServiceNotAvailabeException;
+import co.com.crediya.model.application.exception.UnauthorizedException;
+import co.com.crediya.model.application.gateways.ApplicationOutboxRepository;
 import co.com.crediya.model.application.gateways.ApplicationRepository;
 import co.com.crediya.model.application.gateways.NotificationsSQSGateway;
 import co.com.crediya.model.application.gateways.UserGateway;
 import co.com.crediya.model.application.record.ApplicationRecord;
 import co.com.crediya.model.application.record.ApplicationWithUserInfoRecord;
+import co.com.crediya.model.application.record.BulkOperationResult;
+import co.com.crediya.model.application.record.BulkRowError;
+import co.com.crediya.model.application.record.OutboxNotification;
 import co.com.crediya.model.application.record.UserBasicInfo;
 import co.com.crediya.model.loanstatus.LoanStatus;
 import co.com.crediya.model.loanstatus.gateways.LoanStatusRepository;
 import co.com.crediya.model.loantype.LoanType;
 import co.com.crediya.model.loantype.gateways.LoanTypeRepository;
+import co.com.crediya.model.referencedata.IdLookupTable;
+import co.com.crediya.usecase.amortization.AmortizationEngine;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -48,12 +68,19 @@ class ApplicationUseCaseTest {
     private UserGateway userGateway;
     @Mock
     private NotificationsSQSGateway notificationsSQSGateway;
+    @Mock
+    private ApplicationOutboxRepository applicationOutboxRepository;
+
+    @Spy
+    private AmortizationEngine amortizationEngine = new AmortizationEngine();
 
     @InjectMocks
     private ApplicationUseCase applicationUseCase;
 
     private LoanType loanType1;
     private LoanStatus loanStatus1;
+    private IdLookupTable<LoanType> loanTypes;
+    private IdLookupTable<LoanStatus> loanStatuses;
     private Application application1;
     private Application application2;
     private Application application3;
@@ -67,6 +94,8 @@ class ApplicationUseCaseTest {
     void setUp() {
         loanType1 = LoanType.builder().loanTypeId(1).name("Personal Loan").interestRate(5.0).build();
         loanStatus1 = LoanStatus.builder().loanStatusId(1).name("Pending").build();
+        loanTypes = IdLookupTable.of(List.of(loanType1), LoanType::getLoanTypeId);
+        loanStatuses = IdLookupTable.of(List.of(loanStatus1), LoanStatus::getLoanStatusId);
         UUID applicationId1 = UUID.randomUUID();
         UUID applicationId2 = UUID.randomUUID();
         UUID applicationId3 = UUID.randomUUID();
@@ -105,21 +134,24 @@ class ApplicationUseCaseTest {
                 10000.0,
                 36.0,
                 loanType1,
-                loanStatus1);
+                loanStatus1,
+                null);
         applicationRecord2 = new ApplicationRecord(
                 applicationId2,
                 "test2@example.com",
                 20000.0,
                 60.0,
                 loanType1,
-                loanStatus1);
+                loanStatus1,
+                null);
         applicationRecord3 = new ApplicationRecord(
                 applicationId3,
                 "test1@example.com",
                 20000.0,
                 60.0,
                 loanType1,
-                loanStatus1);
+                loanStatus1,
+                null);
 
         userBasicInfo1 = new UserBasicInfo(123456789L, "John", "Doe", "test1@example.com", 50000.0, "Cédula", "CLIENTE");
     
@@ -130,8 +162,8 @@ class ApplicationUseCaseTest {
     @DisplayName("Should get all applications successfully")
     void shouldGetAllApplicationsSuccessfully() {
         // Arrange
-        when(loanTypeRepository.getAllLoanTypes()).thenReturn(Flux.just(loanType1));
-        when(loanStatusRepository.getAllLoanStatuses()).thenReturn(Flux.just(loanStatus1));
+        when(loanTypeRepository.getLoanTypeLookup()).thenReturn(Mono.just(loanTypes));
+        when(loanStatusRepository.getLoanStatusLookup()).thenReturn(Mono.just(loanStatuses));
         when(applicationRepository.getAllApplications()).thenReturn(Flux.just(application1, application2));
 
         // Act & Assert
@@ -140,13 +172,27 @@ class ApplicationUseCaseTest {
                 .verifyComplete();
     }
 
+    @Test
+    @DisplayName("Should read joined records without loading the reference data")
+    void shouldGetAllApplicationsWithJoinedReadMode() {
+        // Arrange
+        when(applicationRepository.getAllApplicationRecords()).thenReturn(Flux.just(applicationRecord1, applicationRecord2));
+
+        // Act & Assert
+        StepVerifier.create(applicationUseCase.getAllApplications(ReadMode.JOINED))
+                .expectNext(applicationRecord1, applicationRecord2)
+                .verifyComplete();
+
+        verifyNoInteractions(loanTypeRepository, loanStatusRepository);
+    }
+
     @Test
     @DisplayName("Should get applications by userEmail successfully")
     void shouldGetApplicationsByUserEmailSuccessfully() {
         // Arrange
         String userEmail = "test1@example.com";
-        when(loanTypeRepository.getAllLoanTypes()).thenReturn(Flux.just(loanType1));
-        when(loanStatusRepository.getAllLoanStatuses()).thenReturn(Flux.just(loanStatus1));
+        when(loanTypeRepository.getLoanTypeLookup()).thenReturn(Mono.just(loanTypes));
+        when(loanStatusRepository.getLoanStatusLookup()).thenReturn(Mono.just(loanStatuses));
         when(applicationRepository.getApplicationsByUserEmail(userEmail)).thenReturn(Flux.just(application1));
 
         // Act & Assert
@@ -160,8 +206,8 @@ class ApplicationUseCaseTest {
     void shouldGetApplicationByApplicationIdSuccessfully() {
         // Arrange
         UUID applicationId = application1.getApplicationId();
-        when(loanTypeRepository.getAllLoanTypes()).thenReturn(Flux.just(loanType1));
-        when(loanStatusRepository.getAllLoanStatuses()).thenReturn(Flux.just(loanStatus1));
+        when(loanTypeRepository.getLoanTypeLookup()).thenReturn(Mono.just(loanTypes));
+        when(loanStatusRepository.getLoanStatusLookup()).thenReturn(Mono.just(loanStatuses));
         when(applicationRepository.getApplicationsByApplicationId(applicationId)).thenReturn(Mono.just(application1));
 
         // Act & Assert
@@ -170,6 +216,46 @@ class ApplicationUseCaseTest {
                 .verifyComplete();
     }
 
+    @Test
+    @DisplayName("Should generate the amortization schedule from the rate and payment stored with the application")
+    void shouldGenerateAmortizationSchedule() {
+        // Arrange
+        UUID applicationId = application1.getApplicationId();
+        double quotedPayment = amortizationEngine.monthlyPayment(LoanType.builder().interestRate(4.0).build(), 10000.0, 36.0);
+        application1.setMonthlyPaymentRate(4.0);
+        application1.setMonthlyPayment(quotedPayment);
+        when(applicationRepository.getApplicationsByApplicationId(applicationId)).thenReturn(Mono.just(application1));
+
+        // Act & Assert
+        StepVerifier.create(applicationUseCase.getAmortizationSchedule(applicationId))
+                .assertNext(installment -> {
+                    assertEquals(1, installment.period());
+                    assertEquals(quotedPayment, installment.payment());
+                    assertEquals(32.74, installment.interest());
+                })
+                .expectNextCount(34)
+                .assertNext(installment -> {
+                    assertEquals(36, installment.period());
+                    assertEquals(0.0, installment.balance());
+                })
+                .verifyComplete();
+        verifyNoInteractions(loanTypeRepository);
+    }
+
+    @Test
+    @DisplayName("Should fail the amortization schedule of an unknown application")
+    void shouldFailAmortizationScheduleOfUnknownApplication() {
+        // Arrange
+        UUID applicationId = UUID.randomUUID();
+        when(applicationRepository.getApplicationsByApplicationId(applicationId)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(applicationUseCase.getAmortizationSchedule(applicationId))
+                .expectError(InvalidDataException.class)
+                .verify();
+        verifyNoInteractions(loanTypeRepository);
+    }
+
     @SuppressWarnings("unchecked")
     @Test
     @DisplayName("Should save application successfully")
@@ -182,13 +268,282 @@ class ApplicationUseCaseTest {
         when(userGateway.getRequestUserByToken()).thenReturn(Mono.just(userBasicInfo1));
 
         // Act
-        Mono<Application> applicationMono = Mono.just(application3);
+        Mono<Application> applicationMono = Mono.just(application3.toBuilder().build());
         // Act & Assert
         StepVerifier.create(applicationUseCase.saveApplication(applicationMono))
                 .expectNext(applicationRecord3)
                 .verifyComplete();
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("Should assign increasing time-ordered ids to new applications")
+    void shouldAssignTimeOrderedApplicationIds() {
+        // Arrange
+        when(loanTypeRepository.getLoanTypeById(anyInt())).thenReturn(Mono.just(loanType1));
+        when(userGateway.getUserByIdNumber(anyLong())).thenReturn(Mono.just(userBasicInfo1));
+        when(loanStatusRepository.getLoanStatusById(anyInt())).thenReturn(Mono.just(loanStatus1));
+        when(userGateway.getRequestUserByToken()).thenReturn(Mono.just(userBasicInfo1));
+        when(applicationRepository.saveApplication(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        Application first = application3.toBuilder().applicationId(null).build();
+        Application second = application3.toBuilder().applicationId(null).build();
+
+        // Act
+        applicationUseCase.saveApplication(Mono.just(first)).block();
+        applicationUseCase.saveApplication(Mono.just(second)).block();
+
+        // Assert
+        assertEquals(7, first.getApplicationId().version());
+        assertEquals(7, second.getApplicationId().version());
+        assertTrue(first.getApplicationId().compareTo(second.getApplicationId()) < 0);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("Should save valid bulk rows and report rejected rows by position")
+    void shouldSaveApplicationsInBulk() {
+        // Arrange
+        UserBasicInfo admin = new UserBasicInfo(1L, "Ada", "Admin", "admin@example.com", null, null, "ADMIN");
+        Application invalidLoanType = application3.toBuilder().loanTypeId(9).build();
+        when(userGateway.getRequestUserByToken()).thenReturn(Mono.just(admin));
+        when(loanTypeRepository.getLoanTypeLookup()).thenReturn(Mono.just(loanTypes));
+        when(loanStatusRepository.getLoanStatusById(anyInt())).thenReturn(Mono.just(loanStatus1));
+        when(userGateway.getUserByIdNumber(anyLong())).thenReturn(Mono.just(userBasicInfo1));
+        when(applicationRepository.saveApplications(any(Flux.class))).thenAnswer(invocation ->
+            ((Flux<Application>) invocation.getArgument(0)).collectList()
+                .map(rows -> new BulkOperationResult(rows.size(), rows.size() - 1,
+                    List.of(new BulkRowError(1, "Error intentando guardar la solicitud")))));
+
+        // Act & Assert
+        StepVerifier.create(applicationUseCase.saveApplications(Flux.just(
+                application3.toBuilder().build(), invalidLoanType, application3.toBuilder().build())))
+            .assertNext(result -> {
+                assertEquals(3, result.received());
+                assertEquals(1, result.saved());
+                assertEquals(List.of(1L, 2L), result.errors().stream().map(BulkRowError::index).toList());
+            })
+            .verifyComplete();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("Should look up each distinct user only once per bulk intake")
+    void shouldLookUpEachUserOncePerBulkIntake() {
+        // Arrange
+        UserBasicInfo admin = new UserBasicInfo(1L, "Ada", "Admin", "admin@example.com", null, null, "ADMIN");
+        when(userGateway.getRequestUserByToken()).thenReturn(Mono.just(admin));
+        when(loanTypeRepository.getLoanTypeLookup()).thenReturn(Mono.just(loanTypes));
+        when(loanStatusRepository.getLoanStatusById(anyInt())).thenReturn(Mono.just(loanStatus1));
+        when(userGateway.getUserByIdNumber(anyLong())).thenReturn(Mono.just(userBasicInfo1));
+        when(applicationRepository.saveApplications(any(Flux.class))).thenAnswer(invocation ->
+            ((Flux<Application>) invocation.getArgument(0)).collectList()
+                .map(rows -> new BulkOperationResult(rows.size(), rows.size(), List.of())));
+
+        // Act & Assert
+        StepVerifier.create(applicationUseCase.saveApplications(Flux.range(0, 50)
+                .map(i -> application3.toBuilder().build())))
+            .assertNext(result -> assertEquals(50, result.saved()))
+            .verifyComplete();
+        verify(userGateway, times(1)).getUserByIdNumber(application3.getUserIdNumber());
+    }
+
+    @Test
+    @DisplayName("Should reject bulk intake from users that are not administrators")
+    void shouldRejectBulkIntakeFromNonAdmin() {
+        // Arrange
+        when(userGateway.getRequestUserByToken()).thenReturn(Mono.just(userBasicInfo1));
+
+        // Act & Assert
+        StepVerifier.create(applicationUseCase.saveApplications(Flux.just(application3)))
+            .expectError(UnauthorizedException.class)
+            .verify();
+    }
+
+    @Test
+    @DisplayName("Should update the status with the expected version, leaving the notification to the outbox")
+    void shouldUpdateApplicationStatusWithExpectedVersion() {
+        // Arrange
+        UserBasicInfo advisor = new UserBasicInfo(2L, "Ana", "Asesora", "asesor@example.com", null, null, "ASESOR");
+        Application updated = application1.toBuilder().version(4L).build();
+        Application toEdit = Application.builder().applicationId(application1.getApplicationId()).loanStatusId(1).version(3L).build();
+        when(loanStatusRepository.getLoanStatusById(1)).thenReturn(Mono.just(loanStatus1));
+        when(userGateway.getRequestUserByToken()).thenReturn(Mono.just(advisor));
+        when(applicationRepository.updateApplicationStatus(application1.getApplicationId(), 1, 3L)).thenReturn(Mono.just(updated));
+        when(loanTypeRepository.getLoanTypeById(1)).thenReturn(Mono.just(loanType1));
+        when(userGateway.getUserByEmail("test1@example.com")).thenReturn(Mono.just(userBasicInfo1));
+
+        // Act & Assert
+        StepVerifier.create(applicationUseCase.updateApplicationStatus(Mono.just(toEdit)))
+            .assertNext(applicationRecord -> {
+                assertEquals(application1.getApplicationId(), applicationRecord.applicationId());
+                assertEquals(loanStatus1, applicationRecord.loanStatus());
+                assertEquals(4L, applicationRecord.version());
+            })
+            .verifyComplete();
+
+        verifyNoInteractions(notificationsSQSGateway);
+    }
+
+    @Test
+    @DisplayName("Should return the bare updated application when the enrichment lookups fail")
+    void shouldFallBackToBareRecordWhenEnrichmentFails() {
+        // Arrange
+        UserBasicInfo advisor = new UserBasicInfo(2L, "Ana", "Asesora", "asesor@example.com", null, null, "ASESOR");
+        Application updated = application1.toBuilder().version(4L).build();
+        Application toEdit = Application.builder().applicationId(application1.getApplicationId()).loanStatusId(1).version(3L).build();
+        when(loanStatusRepository.getLoanStatusById(1)).thenReturn(Mono.just(loanStatus1));
+        when(userGateway.getRequestUserByToken()).thenReturn(Mono.just(advisor));
+        when(applicationRepository.updateApplicationStatus(application1.getApplicationId(), 1, 3L)).thenReturn(Mono.just(updated));
+        when(loanTypeRepository.getLoanTypeById(1)).thenReturn(Mono.just(loanType1));
+        when(userGateway.getUserByEmail("test1@example.com"))
+            .thenReturn(Mono.error(new ServiceNotAvailabeException("Servicio de usuarios no disponible")));
+
+        // Act & Assert
+        StepVerifier.create(applicationUseCase.updateApplicationStatus(Mono.just(toEdit)))
+            .assertNext(applicationRecord -> {
+                assertEquals(application1.getApplicationId(), applicationRecord.applicationId());
+                assertEquals("test1@example.com", applicationRecord.email());
+                assertNull(applicationRecord.loanType());
+                assertEquals(loanStatus1, applicationRecord.loanStatus());
+                assertEquals(4L, applicationRecord.version());
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should propagate a concurrent update without notifying")
+    void shouldPropagateConcurrentUpdateOnStatusChange() {
+        // Arrange
+        UserBasicInfo advisor = new UserBasicInfo(2L, "Ana", "Asesora", "asesor@example.com", null, null, "ASESOR");
+        Application toEdit = Application.builder().applicationId(application1.getApplicationId()).loanStatusId(1).version(3L).build();
+        when(loanStatusRepository.getLoanStatusById(1)).thenReturn(Mono.just(loanStatus1));
+        when(userGateway.getRequestUserByToken()).thenReturn(Mono.just(advisor));
+        when(applicationRepository.updateApplicationStatus(application1.getApplicationId(), 1, 3L))
+            .thenReturn(Mono.error(new ConcurrentUpdateException("La solicitud fue modificada")));
+
+        // Act & Assert
+        StepVerifier.create(applicationUseCase.updateApplicationStatus(Mono.just(toEdit)))
+            .expectError(ConcurrentUpdateException.class)
+            .verify();
+
+        verifyNoInteractions(notificationsSQSGateway);
+    }
+
+    @Test
+    @DisplayName("Should reject status changes from users who are not advisors")
+    void shouldRejectStatusChangeFromNonAdvisor() {
+        // Arrange
+        Application toEdit = Application.builder().applicationId(application1.getApplicationId()).loanStatusId(1).build();
+        when(loanStatusRepository.getLoanStatusById(1)).thenReturn(Mono.just(loanStatus1));
+        when(userGateway.getRequestUserByToken()).thenReturn(Mono.just(userBasicInfo1));
+
+        // Act & Assert
+        StepVerifier.create(applicationUseCase.updateApplicationStatus(Mono.just(toEdit)))
+            .expectError(UnauthorizedException.class)
+            .verify();
+
+        verifyNoInteractions(applicationRepository);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("Should update statuses in bulk and report the outcome of every item")
+    void shouldUpdateApplicationStatusesInBulk() {
+        // Arrange
+        UserBasicInfo advisor = new UserBasicInfo(2L, "Ana", "Asesora", "asesor@example.com", null, null, "ASESOR");
+        UUID missingId = UUID.randomUUID();
+        when(userGateway.getRequestUserByToken()).thenReturn(Mono.just(advisor));
+        when(loanTypeRepository.getLoanTypeLookup()).thenReturn(Mono.just(loanTypes));
+        when(loanStatusRepository.getLoanStatusLookup()).thenReturn(Mono.just(loanStatuses));
+        when(applicationRepository.updateApplicationStatuses(any(List.class))).thenReturn(Flux.just(application1));
+        when(userGateway.getUsersBasicInfo(List.of("test1@example.com"))).thenReturn(Flux.just(userBasicInfo1));
+
+        List<Application> updates = List.of(
+            Application.builder().applicationId(application1.getApplicationId()).loanStatusId(1).build(),
+            Application.builder().applicationId(application2.getApplicationId()).loanStatusId(9).build(),
+            Application.builder().applicationId(missingId).loanStatusId(1).build());
+
+        // Act & Assert
+        StepVerifier.create(applicationUseCase.updateApplicationStatuses(updates))
+            .assertNext(outcome -> {
+                assertEquals(application1.getApplicationId(), outcome.applicationId());
+                assertTrue(outcome.updated());
+                assertEquals(123456789L, outcome.application().userIdNumber());
+            })
+            .assertNext(outcome -> {
+                assertFalse(outcome.updated());
+                assertEquals("No existe un estado de crédito con id: 9", outcome.message());
+            })
+            .assertNext(outcome -> {
+                assertEquals(missingId, outcome.applicationId());
+                assertFalse(outcome.updated());
+            })
+            .verifyComplete();
+
+        verifyNoInteractions(notificationsSQSGateway);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("Should relay claimed notifications and mark only the accepted ones as sent")
+    void shouldRelayClaimedNotifications() {
+        // Arrange
+        Duration lease = Duration.ofSeconds(30);
+        when(applicationOutboxRepository.claimPending(10, lease)).thenReturn(Flux.just(
+            new OutboxNotification(1L, application1), new OutboxNotification(2L, application2)));
+        when(loanTypeRepository.getLoanTypeLookup()).thenReturn(Mono.just(loanTypes));
+        when(loanStatusRepository.getLoanStatusLookup()).thenReturn(Mono.just(loanStatuses));
+        when(userGateway.getUsersBasicInfo(List.of("test1@example.com", "test2@example.com"))).thenReturn(Flux.just(userBasicInfo1));
+        when(notificationsSQSGateway.sendAll(any(List.class))).thenReturn(Mono.just(Set.of(application2.getApplicationId())));
+        when(applicationOutboxRepository.markSent(List.of(1L))).thenReturn(Mono.just(1L));
+
+        // Act & Assert
+        StepVerifier.create(applicationUseCase.relayStatusNotifications(10, lease))
+            .expectNext(1L)
+            .verifyComplete();
+
+        verify(notificationsSQSGateway).sendAll(argThat(records -> records.size() == 2
+            && records.get(0).userIdNumber().equals(123456789L)));
+        verify(applicationOutboxRepository, times(1)).claimPending(anyInt(), any(Duration.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("Should keep claiming notifications while full batches come back")
+    void shouldDrainOutboxInBatches() {
+        // Arrange
+        Duration lease = Duration.ofSeconds(30);
+        when(applicationOutboxRepository.claimPending(1, lease))
+            .thenReturn(Flux.just(new OutboxNotification(1L, application1)))
+            .thenReturn(Flux.empty());
+        when(loanTypeRepository.getLoanTypeLookup()).thenReturn(Mono.just(loanTypes));
+        when(loanStatusRepository.getLoanStatusLookup()).thenReturn(Mono.just(loanStatuses));
+        when(userGateway.getUsersBasicInfo(any(List.class))).thenReturn(Flux.just(userBasicInfo1));
+        when(notificationsSQSGateway.sendAll(any(List.class))).thenReturn(Mono.just(Set.of()));
+        when(applicationOutboxRepository.markSent(List.of(1L))).thenReturn(Mono.just(1L));
+
+        // Act & Assert
+        StepVerifier.create(applicationUseCase.relayStatusNotifications(1, lease))
+            .expectNext(1L)
+            .verifyComplete();
+
+        verify(applicationOutboxRepository, times(2)).claimPending(1, lease);
+    }
+
+    @Test
+    @DisplayName("Should not look anything up when the outbox is empty")
+    void shouldRelayNothingWhenOutboxIsEmpty() {
+        // Arrange
+        when(applicationOutboxRepository.claimPending(anyInt(), any(Duration.class))).thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(applicationUseCase.relayStatusNotifications(100, Duration.ofSeconds(30)))
+            .expectNext(0L)
+            .verifyComplete();
+
+        verifyNoInteractions(notificationsSQSGateway, userGateway);
+    }
+
     @Test
     @DisplayName("Should return error when user does not exist")
     void shouldReturnErrorWhenUserDoesNotExist() {
@@ -222,8 +577,8 @@ class ApplicationUseCaseTest {
         List<String> expectedEmails = List.of("test1@example.com");
 
         when(applicationRepository.findByCriteria(any(SearchCriteria.class))).thenReturn(Mono.just(pageResult));
-        when(loanTypeRepository.getAllLoanTypes()).thenReturn(Flux.just(loanType1));
-        when(loanStatusRepository.getAllLoanStatuses()).thenReturn(Flux.just(loanStatus1));
+        when(loanTypeRepository.getLoanTypeLookup()).thenReturn(Mono.just(loanTypes));
+        when(loanStatusRepository.getLoanStatusLookup()).thenReturn(Mono.just(loanStatuses));
         when(userGateway.getUsersBasicInfo(expectedEmails)).thenReturn(Flux.just(userBasicInfo1));
 
         // Act & Assert
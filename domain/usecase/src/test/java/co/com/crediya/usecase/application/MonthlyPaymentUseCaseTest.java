@@ -0,0 +1,112 @@
+package co.com.crediya.usecase.application;
+
+import co.com.crediya.model.application.Application;
+import co.com.crediya.model.application.gateways.ApplicationRepository;
+import co.com.crediya.model.loantype.LoanType;
+import co.com.crediya.usecase.amortization.AmortizationEngine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MonthlyPaymentUseCaseTest {
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    @Spy
+    private AmortizationEngine amortizationEngine = new AmortizationEngine();
+
+    @InjectMocks
+    private MonthlyPaymentUseCase monthlyPaymentUseCase;
+
+    private LoanType loanType;
+    private Application application1;
+    private Application application2;
+
+    @BeforeEach
+    void setUp() {
+        loanType = LoanType.builder().loanTypeId(1).name("Personal Loan").interestRate(12.0).build();
+        application1 = Application.builder()
+                .applicationId(UUID.randomUUID())
+                .loanAmount(10_000_000.0)
+                .loanTerm(12.0)
+                .loanTypeId(1)
+                .build();
+        application2 = Application.builder()
+                .applicationId(UUID.randomUUID())
+                .loanAmount(2_500_000.0)
+                .loanTerm(24.0)
+                .loanTypeId(1)
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("Should reprice stale applications chunk by chunk until a chunk comes back short")
+    void shouldRecalculateInChunks() {
+        // Arrange
+        ArgumentCaptor<List<Application>> chunkCaptor = ArgumentCaptor.forClass(List.class);
+        when(applicationRepository.getApplicationsWithStaleMonthlyPayment(1, null, 1)).thenReturn(Flux.just(application1));
+        when(applicationRepository.getApplicationsWithStaleMonthlyPayment(1, application1.getApplicationId(), 1)).thenReturn(Flux.empty());
+        when(applicationRepository.updateMonthlyPayments(chunkCaptor.capture())).thenReturn(Mono.just(1L));
+
+        // Act & Assert
+        StepVerifier.create(monthlyPaymentUseCase.recalculateMonthlyPayments(loanType, 1))
+            .expectNext(1L)
+            .verifyComplete();
+
+        Application repriced = chunkCaptor.getValue().get(0);
+        assertEquals(885620.67, repriced.getMonthlyPayment());
+        assertEquals(12.0, repriced.getMonthlyPaymentRate());
+    }
+
+    @Test
+    @DisplayName("Should count every row stored across the chunks")
+    void shouldAddUpUpdatedRows() {
+        // Arrange
+        when(applicationRepository.getApplicationsWithStaleMonthlyPayment(1, null, 10)).thenReturn(Flux.just(application1, application2));
+        when(applicationRepository.updateMonthlyPayments(anyList())).thenReturn(Mono.just(2L));
+
+        // Act & Assert
+        StepVerifier.create(monthlyPaymentUseCase.recalculateMonthlyPayments(loanType, 10))
+            .expectNext(2L)
+            .verifyComplete();
+
+        verify(applicationRepository, never()).getApplicationsWithStaleMonthlyPayment(eq(1), any(UUID.class), eq(10));
+    }
+
+    @Test
+    @DisplayName("Should not write anything when no payment is stale")
+    void shouldSkipUpdateWhenNothingIsStale() {
+        // Arrange
+        when(applicationRepository.getApplicationsWithStaleMonthlyPayment(1, null, 10)).thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(monthlyPaymentUseCase.recalculateMonthlyPayments(loanType, 10))
+            .expectNext(0L)
+            .verifyComplete();
+
+        verify(applicationRepository, never()).updateMonthlyPayments(anyList());
+    }
+}
@@ -0,0 +1,161 @@
+package co.com.crediya.r2dbc;
+
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import co.com.crediya.model.identifier.UuidV7Generator;
+import co.com.crediya.r2dbc.config.PostgreSQLConnectionPool;
+import io.r2dbc.postgresql.PostgresqlConnectionConfiguration;
+import io.r2dbc.postgresql.PostgresqlConnectionFactory;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Insert throughput into a copy of the applications table, keyed by random
+ * ({@code v4}, {@link UUID#randomUUID()}) or time-ordered ({@code v7},
+ * {@link UuidV7Generator}) ids. Each operation is one multi-row INSERT of
+ * {@code batchSize} rows, as the bulk intake sends them. Rows accumulate over
+ * the whole run, so the later iterations show how each key behaves once the
+ * primary key no longer fits in shared buffers; the size of the primary key
+ * index is printed at the end.
+ *
+ * Needs a local Postgres. Connection settings are read from the system
+ * properties {@code benchmark.postgres.host}, {@code .port}, {@code .database},
+ * {@code .username} and {@code .password} (defaults: localhost, 5432,
+ * postgres, postgres, postgres). Run it alone with
+ * {@code ./gradlew :r2dbc-postgresql:jmh -PjmhIncludes=ApplicationIdInsertBenchmark};
+ * each JMH thread inserts through its own connection.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ApplicationIdInsertBenchmark {
+    private static final String TABLE = "application_id_benchmark";
+    private static final int COLUMN_COUNT = 8;
+
+    @Param({"v4", "v7"})
+    private String idVersion;
+
+    @Param({"100"})
+    private int batchSize;
+
+    private PostgresqlConnectionFactory connectionFactory;
+    private Supplier<UUID> ids;
+    private String insertSql;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        connectionFactory = new PostgresqlConnectionFactory(PostgresqlConnectionConfiguration.builder()
+            .host(System.getProperty("benchmark.postgres.host", "localhost"))
+            .port(Integer.getInteger("benchmark.postgres.port", PostgreSQLConnectionPool.DEFAULT_PORT))
+            .database(System.getProperty("benchmark.postgres.database", "postgres"))
+            .username(System.getProperty("benchmark.postgres.username", "postgres"))
+            .password(System.getProperty("benchmark.postgres.password", "postgres"))
+            .preparedStatementCacheQueries(PostgreSQLConnectionPool.PREPARED_STATEMENT_CACHE_QUERIES)
+            .build());
+
+        UuidV7Generator generator = new UuidV7Generator();
+        ids = "v7".equals(idVersion) ? generator::next : UUID::randomUUID;
+
+        StringBuilder sql = new StringBuilder("INSERT INTO " + TABLE + " (application_id, user_email, loan_amount, "
+            + "loan_term, loan_type_id, loan_status_id, monthly_payment, monthly_payment_rate) VALUES ");
+        for (int i = 0; i < batchSize; i++) {
+            sql.append(i == 0 ? "(" : ", (");
+            for (int column = 1; column <= COLUMN_COUNT; column++) {
+                sql.append(column == 1 ? "$" : ", $").append(i * COLUMN_COUNT + column);
+            }
+            sql.append(")");
+        }
+        insertSql = sql.toString();
+
+        execute("DROP TABLE IF EXISTS " + TABLE);
+        execute("CREATE TABLE " + TABLE + " ("
+            + "application_id UUID PRIMARY KEY, "
+            + "user_email VARCHAR(50) NOT NULL, "
+            + "loan_amount NUMERIC(12, 2) NOT NULL, "
+            + "loan_term NUMERIC(5, 2) NOT NULL, "
+            + "loan_type_id INTEGER NOT NULL, "
+            + "loan_status_id INTEGER NOT NULL, "
+            + "version BIGINT NOT NULL DEFAULT 0, "
+            + "monthly_payment NUMERIC(14, 2) NOT NULL, "
+            + "monthly_payment_rate NUMERIC(5, 2), "
+            + "created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP)");
+        execute("CREATE INDEX " + TABLE + "_loan_type_idx ON " + TABLE + " (loan_type_id, application_id)");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Mono.usingWhen(connectionFactory.create(),
+                connection -> Mono.from(connection.createStatement("SELECT count(*), "
+                        + "pg_size_pretty(pg_relation_size('" + TABLE + "_pkey')) FROM " + TABLE)
+                    .execute())
+                    .flatMap(result -> Mono.from(result.map((row, metadata) ->
+                        row.get(0, Long.class) + " rows, primary key " + row.get(1, String.class)))),
+                Connection::close)
+            .doOnNext(summary -> System.out.println(idVersion + ": " + summary))
+            .block();
+        execute("DROP TABLE IF EXISTS " + TABLE);
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadConnection {
+        private Connection connection;
+        private final Random random = new Random();
+
+        @Setup(Level.Trial)
+        public void open(ApplicationIdInsertBenchmark benchmark) {
+            connection = Mono.from(benchmark.connectionFactory.create()).block();
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            Mono.from(connection.close()).block();
+        }
+    }
+
+    @Benchmark
+    public Long insertBatch(ThreadConnection thread) {
+        Statement statement = thread.connection.createStatement(insertSql);
+        for (int i = 0; i < batchSize; i++) {
+            int first = i * COLUMN_COUNT;
+            statement
+                .bind(first, ids.get())
+                .bind(first + 1, "user" + thread.random.nextInt(100_000) + "@example.com")
+                .bind(first + 2, 1_000_000.0 + thread.random.nextInt(10_000_000))
+                .bind(first + 3, 12.0 + thread.random.nextInt(60))
+                .bind(first + 4, 1 + thread.random.nextInt(5))
+                .bind(first + 5, 1)
+                .bind(first + 6, 50_000.0 + thread.random.nextInt(500_000))
+                .bind(first + 7, 12.5);
+        }
+        return Flux.from(statement.execute())
+            .flatMap(Result::getRowsUpdated)
+            .reduce(0L, Long::sum)
+            .block();
+    }
+
+    private void execute(String sql) {
+        Mono.usingWhen(connectionFactory.create(),
+                connection -> Flux.from(connection.createStatement(sql).execute())
+                    .flatMap(Result::getRowsUpdated)
+                    .then(),
+                Connection::close)
+            .block();
+    }
+}
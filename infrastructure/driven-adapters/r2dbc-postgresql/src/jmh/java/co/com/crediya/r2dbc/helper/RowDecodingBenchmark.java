@@ -0,0 +1,102 @@
+package co.com.crediya.r2dbc.helper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import co.com.crediya.model.application.Application;
+import co.com.crediya.r2dbc.entity.ApplicationEntity;
+import co.com.crediya.r2dbc.mapper.ApplicationEntityMapper;
+import io.r2dbc.spi.Readable;
+
+/**
+ * Decoding of one result set of application rows. {@code entityThenMapper}
+ * is the previous path: read each column by name into an
+ * {@link ApplicationEntity}, then convert it to the domain model.
+ * {@code directDecoder} reads by index straight into {@link Application}.
+ * Rows are in-memory stand-ins so only the decoding is measured.
+ *
+ * Run with {@code ./gradlew :r2dbc-postgresql:jmh} and add {@code -prof gc}
+ * to the JMH arguments to compare allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RowDecodingBenchmark {
+    private static final List<String> COLUMNS = List.of(ApplicationRowDecoder.COLUMNS.split(", "));
+
+    @Param({"100", "10000"})
+    private int rowCount;
+
+    private final ApplicationEntityMapper mapper = Mappers.getMapper(ApplicationEntityMapper.class);
+    private List<Readable> rows;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        rows = new ArrayList<>(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            rows.add(new ArrayRow(new Object[] {
+                UUID.randomUUID(),
+                "user" + i + "@example.com",
+                1_000_000.0 + random.nextInt(10_000_000),
+                12.0 + random.nextInt(60),
+                1 + random.nextInt(5),
+                1 + random.nextInt(5),
+                0L,
+                50_000.0 + random.nextInt(500_000)
+            }));
+        }
+    }
+
+    @Benchmark
+    public List<Application> entityThenMapper() {
+        List<Application> result = new ArrayList<>(rows.size());
+        for (Readable row : rows) {
+            ApplicationEntity entity = new ApplicationEntity();
+            entity.setApplicationId(row.get("application_id", UUID.class));
+            entity.setUserEmail(row.get("user_email", String.class));
+            entity.setLoanAmount(row.get("loan_amount", Double.class));
+            entity.setLoanTerm(row.get("loan_term", Double.class));
+            entity.setLoanTypeId(row.get("loan_type_id", Integer.class));
+            entity.setLoanStatusId(row.get("loan_status_id", Integer.class));
+            entity.setVersion(row.get("version", Long.class));
+            entity.setMonthlyPayment(row.get("monthly_payment", Double.class));
+            result.add(mapper.toModel(entity));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<Application> directDecoder() {
+        List<Application> result = new ArrayList<>(rows.size());
+        for (Readable row : rows) {
+            result.add(ApplicationRowDecoder.decode(row));
+        }
+        return result;
+    }
+
+    private record ArrayRow(Object[] values) implements Readable {
+        @Override
+        public <T> T get(int index, Class<T> type) {
+            return type.cast(values[index]);
+        }
+
+        @Override
+        public <T> T get(String name, Class<T> type) {
+            return get(COLUMNS.indexOf(name), type);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package co.com.crediya.r2dbc.mapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.reactivecommons.utils.ObjectMapper;
+import org.reactivecommons.utils.ObjectMapperImp;
+
+import co.com.crediya.model.application.Application;
+import co.com.crediya.r2dbc.entity.ApplicationEntity;
+
+/**
+ * Per-row conversion of one page of application rows into the domain model
+ * and back. {@code reflectiveObjectMapper} is what the adapters did before:
+ * {@link ObjectMapperImp} in both directions. {@code generatedMapper} uses the
+ * MapStruct implementation of {@link ApplicationEntityMapper}.
+ *
+ * Run with {@code ./gradlew :r2dbc-postgresql:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EntityMappingBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int pageSize;
+
+    private final ObjectMapper objectMapper = new ObjectMapperImp();
+    private final ApplicationEntityMapper generatedMapper = Mappers.getMapper(ApplicationEntityMapper.class);
+    private List<ApplicationEntity> rows;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        rows = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            rows.add(new ApplicationEntity(
+                UUID.randomUUID(),
+                "user" + i + "@example.com",
+                1_000_000.0 + random.nextInt(10_000_000),
+                12.0 + random.nextInt(60),
+                1 + random.nextInt(5),
+                1 + random.nextInt(5),
+                0L,
+                50_000.0 + random.nextInt(500_000),
+                12.5));
+        }
+    }
+
+    @Benchmark
+    public List<ApplicationEntity> reflectiveObjectMapper() {
+        List<ApplicationEntity> result = new ArrayList<>(rows.size());
+        for (ApplicationEntity row : rows) {
+            Application application = objectMapper.map(row, Application.class);
+            result.add(objectMapper.map(application, ApplicationEntity.class));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<ApplicationEntity> generatedMapper() {
+        List<ApplicationEntity> result = new ArrayList<>(rows.size());
+        for (ApplicationEntity row : rows) {
+            Application application = generatedMapper.toModel(row);
+            result.add(generatedMapper.toEntity(application));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,75 @@
+package co.com.crediya.r2dbc;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import co.com.crediya.model.application.exception.DataPersistenceException;
+import co.com.crediya.model.application.gateways.ApplicationOutboxRepository;
+import co.com.crediya.model.application.record.OutboxNotification;
+import co.com.crediya.r2dbc.helper.ApplicationRowDecoder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Outbox rows are claimed with a lease instead of a lock held while they are
+ * sent: the claim picks pending rows with {@code FOR UPDATE SKIP LOCKED}, so
+ * relays running on several replicas never claim the same row, and stamps
+ * them with {@code claimed_until}. Sent rows are deleted; rows whose relay
+ * failed or died become pending again when the lease runs out, so delivery is
+ * at least once.
+ */
+@Repository
+@Slf4j
+@RequiredArgsConstructor
+public class ApplicationOutboxRepositoryAdapter implements ApplicationOutboxRepository {
+    // The application columns are read with the status and version of the change, not the current ones
+    private static final String CLAIM_PENDING =
+        "WITH claimed AS (UPDATE application_outbox o SET claimed_until = CURRENT_TIMESTAMP + make_interval(secs => $2)"
+            + " WHERE o.outbox_id IN (SELECT outbox_id FROM application_outbox"
+            + " WHERE claimed_until IS NULL OR claimed_until < CURRENT_TIMESTAMP"
+            + " ORDER BY outbox_id LIMIT $1 FOR UPDATE SKIP LOCKED)"
+            + " RETURNING o.outbox_id, o.application_id, o.loan_status_id, o.version)"
+            + " SELECT a.application_id, a.user_email, a.loan_amount, a.loan_term, a.loan_type_id,"
+            + " c.loan_status_id, c.version, a.monthly_payment, c.outbox_id"
+            + " FROM claimed c JOIN applications a ON a.application_id = c.application_id"
+            + " ORDER BY c.outbox_id";
+    private static final String DELETE_SENT = "DELETE FROM application_outbox WHERE outbox_id = ANY($1::bigint[])";
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Flux<OutboxNotification> claimPending(int limit, Duration lease) {
+        return databaseClient.sql(CLAIM_PENDING)
+            .bind(0, limit)
+            .bind(1, lease.toMillis() / 1000.0)
+            .map((row, rowMetadata) -> new OutboxNotification(
+                row.get(ApplicationRowDecoder.NEXT_INDEX, Long.class),
+                ApplicationRowDecoder.decode(row)))
+            .all()
+            .onErrorMap(ex -> {
+                log.error("Error claiming pending notifications: {}", ex.getMessage(), ex);
+                return new DataPersistenceException("Error intentando reclamar las notificaciones pendientes", ex);
+            });
+    }
+
+    @Override
+    public Mono<Long> markSent(List<Long> outboxIds) {
+        if (outboxIds.isEmpty()) {
+            return Mono.just(0L);
+        }
+        return databaseClient.sql(DELETE_SENT)
+            .bind(0, outboxIds.toArray(Long[]::new))
+            .fetch()
+            .rowsUpdated()
+            .doOnNext(deleted -> log.debug("Removed {} sent notifications from the outbox", deleted))
+            .onErrorMap(ex -> {
+                log.error("Error removing {} sent notifications from the outbox: {}", outboxIds.size(), ex.getMessage(), ex);
+                return new DataPersistenceException("Error intentando marcar las notificaciones como enviadas", ex);
+            });
+    }
+}
@@ -1,28 +1,44 @@
 package co.com.crediya.r2dbc;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
-import org.reactivecommons.utils.ObjectMapper;
 import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import co.com.crediya.model.application.Application;
+import co.com.crediya.model.application.criteria.CountStrategy;
 import co.com.crediya.model.application.criteria.PageResult;
 import co.com.crediya.model.application.criteria.SearchCriteria;
+import co.com.crediya.model.application.exception.ConcurrentUpdateException;
 import co.com.crediya.model.application.exception.DataPersistenceException;
 import co.com.crediya.model.application.exception.DataRetrievalException;
 import co.com.crediya.model.application.gateways.ApplicationRepository;
+import co.com.crediya.model.application.record.ApplicationRecord;
+import co.com.crediya.model.application.record.BulkOperationResult;
+import co.com.crediya.model.application.record.BulkRowError;
+import co.com.crediya.r2dbc.config.BulkInsertProperties;
+import co.com.crediya.r2dbc.config.StreamingQueryProperties;
 import co.com.crediya.r2dbc.entity.ApplicationEntity;
+import co.com.crediya.r2dbc.helper.ApplicationRecordRowDecoder;
+import co.com.crediya.r2dbc.helper.ApplicationRowDecoder;
+import co.com.crediya.r2dbc.helper.CriteriaQueryTemplates;
+import co.com.crediya.r2dbc.helper.KeysetCursor;
 import co.com.crediya.r2dbc.helper.ReactiveAdapterOperations;
-import io.r2dbc.spi.Row;
+import co.com.crediya.r2dbc.mapper.ApplicationEntityMapper;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
 
 @Repository
 @Slf4j
@@ -33,22 +49,71 @@ public class ApplicationReactiveRepositoryAdapter extends ReactiveAdapterOperati
     ApplicationReactiveRepository
 > implements ApplicationRepository {
     private final DatabaseClient databaseClient;
+    private final CriteriaQueryTemplates queryTemplates;
+    private final int bulkInsertBatchSize;
+    private final int streamingFetchSize;
+
+    private static final String SELECT_APPLICATIONS = "SELECT " + ApplicationRowDecoder.COLUMNS + " FROM applications";
+    private static final String SELECT_APPLICATION_RECORDS =
+        "SELECT " + ApplicationRecordRowDecoder.COLUMNS + " FROM " + ApplicationRecordRowDecoder.FROM;
+    private static final String INSERT_APPLICATIONS =
+        "INSERT INTO applications (application_id, user_email, loan_amount, loan_term, loan_type_id, loan_status_id, monthly_payment, monthly_payment_rate) VALUES ";
+    private static final int INSERT_COLUMN_COUNT = 8;
+    // The updated rows are queued in the outbox by the same statement, so a status change
+    // and its notification are committed together
+    private static final String ENQUEUE_NOTIFICATIONS =
+        "), enqueued AS (INSERT INTO application_outbox (application_id, loan_status_id, version)"
+            + " SELECT application_id, loan_status_id, version FROM updated)"
+            + " SELECT " + ApplicationRowDecoder.COLUMNS + " FROM updated";
+    private static final String UPDATE_STATUSES =
+        "WITH updated AS (UPDATE applications a SET loan_status_id = u.loan_status_id, updated_at = CURRENT_TIMESTAMP, version = a.version + 1"
+            + " FROM unnest($1::uuid[], $2::int[]) AS u(application_id, loan_status_id)"
+            + " WHERE a.application_id = u.application_id RETURNING "
+            + Arrays.stream(ApplicationRowDecoder.COLUMNS.split(", ")).map(column -> "a." + column).collect(Collectors.joining(", "))
+            + ENQUEUE_NOTIFICATIONS;
+    private static final String UPDATE_STATUS =
+        "WITH updated AS (UPDATE applications SET loan_status_id = $1, updated_at = CURRENT_TIMESTAMP, version = version + 1"
+            + " WHERE application_id = $2";
+    private static final String UPDATE_STATUS_RETURNING = " RETURNING " + ApplicationRowDecoder.COLUMNS + ENQUEUE_NOTIFICATIONS;
+    private static final String SELECT_STALE_MONTHLY_PAYMENTS =
+        "SELECT " + ApplicationRowDecoder.COLUMNS + " FROM applications"
+            + " WHERE loan_type_id = $1"
+            + " AND monthly_payment_rate IS DISTINCT FROM (SELECT interest_rate FROM loan_type WHERE loan_type_id = $1)";
+    private static final String STALE_MONTHLY_PAYMENTS_PAGE = " ORDER BY application_id LIMIT ";
+    private static final String UPDATE_MONTHLY_PAYMENTS =
+        "UPDATE applications a SET monthly_payment = u.monthly_payment, monthly_payment_rate = u.monthly_payment_rate"
+            + " FROM unnest($1::uuid[], $2::numeric[], $3::numeric[]) AS u(application_id, monthly_payment, monthly_payment_rate)"
+            + " JOIN loan_type lt ON lt.interest_rate = u.monthly_payment_rate"
+            + " WHERE a.application_id = u.application_id AND lt.loan_type_id = a.loan_type_id";
+    private static final String APPLICATION_ID = "application_id";
+    private static final String ASC = "ASC";
+    private static final String DESC = "DESC";
+
+    /** Below this planner estimate an exact count is cheap enough to run instead. */
+    private static final long EXACT_COUNT_THRESHOLD = 10_000;
+    private static final Pattern PLAN_ROWS = Pattern.compile("\"Plan Rows\":\\s*(\\d+)");
 
     private static final Set<String> ALLOWED_COLUMNS = Set.of(
-        "user_email", "loan_type_id", "loan_status_id"
+        "user_email", "loan_type_id", "loan_status_id", "monthly_payment_min", "monthly_payment_max"
     );
 
     private static final Set<String> ALLOWED_SORT_COLUMNS = Set.of(
-        "application_id", "user_email", "loan_amount", "loan_term"
+        "application_id", "user_email", "loan_amount", "loan_term", "monthly_payment"
     );
 
     public ApplicationReactiveRepositoryAdapter(
         ApplicationReactiveRepository repository,
-        ObjectMapper mapper,
-        DatabaseClient databaseClient
+        ApplicationEntityMapper mapper,
+        DatabaseClient databaseClient,
+        CriteriaQueryTemplates queryTemplates,
+        BulkInsertProperties bulkInsertProperties,
+        StreamingQueryProperties streamingQueryProperties
     ) {
-        super(repository, mapper, d -> mapper.map(d, Application.class));
+        super(repository, mapper::toEntity, mapper::toModel);
         this.databaseClient = databaseClient;
+        this.queryTemplates = queryTemplates;
+        this.bulkInsertBatchSize = bulkInsertProperties.batchSize();
+        this.streamingFetchSize = streamingQueryProperties.fetchSize();
     }
 
     @Override
@@ -56,9 +121,12 @@ public class ApplicationReactiveRepositoryAdapter extends ReactiveAdapterOperati
     public Flux<Application> getAllApplications() {
         log.info("Retrieving all applications");
     
-        return findAll()
-            .doOnNext(application
-                -> log.debug("Retrieved applications successfully"))
+        // Rows are pulled from a portal in fetchSize chunks as downstream requests them,
+        // so a full-table read never materializes the whole result set
+        return databaseClient.sql(SELECT_APPLICATIONS)
+            .filter(statement -> statement.fetchSize(streamingFetchSize))
+            .map((row, rowMetadata) -> ApplicationRowDecoder.decode(row))
+            .all()
             .doOnComplete(() -> log.info("Finished retrieving all applications"))
             .onErrorMap(ex -> {
                 log.error("Error retrieving all applications", ex);
@@ -72,10 +140,12 @@ public class ApplicationReactiveRepositoryAdapter extends ReactiveAdapterOperati
     public Flux<Application> getApplicationsByUserEmail(String userEmail) {
         log.info("Searching applications of user with email: {}", userEmail);
     
-        return repository.findByUserEmail(userEmail)
-            .doOnNext(entities -> log.debug("Found applications entites of user with email {}", userEmail))
-            .map(this::toEntity)
-            .doOnNext(entities -> log.info("Successfully mapped applications of user with email {}", userEmail))
+        return databaseClient.sql(SELECT_APPLICATIONS + " WHERE user_email = $1")
+            .bind(0, userEmail)
+            .map((row, rowMetadata) -> ApplicationRowDecoder.decode(row))
+            .all()
+            .doOnNext(application -> log.trace("Mapped application {} of user with email {}", application.getApplicationId(), userEmail))
+            .doOnComplete(() -> log.info("Finished retrieving applications of user with email {}", userEmail))
             .onErrorMap(ex -> {
                 log.error("Error retrieving applications of user with email {}: {}", userEmail, ex.getMessage(), ex);
                 return new DataRetrievalException("Error consultando las solicitudes del usuario con email " + userEmail, ex);
@@ -88,7 +158,7 @@ public class ApplicationReactiveRepositoryAdapter extends ReactiveAdapterOperati
         log.info("Searching application with ID number: {}", applicationId);
     
         return repository.findById(applicationId)
-            .doOnNext(entity -> log.debug("Found application entity ID number {}", applicationId))
+            .doOnNext(entity -> log.trace("Found application entity ID number {}", applicationId))
             .map(this::toEntity)
             .doOnNext(entity -> log.info("Successfully mapped application ID number {}", applicationId))
             .onErrorMap(ex -> {
@@ -97,6 +167,55 @@ public class ApplicationReactiveRepositoryAdapter extends ReactiveAdapterOperati
             });
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Flux<ApplicationRecord> getAllApplicationRecords() {
+        log.info("Retrieving all applications joined with their loan type and status");
+
+        return databaseClient.sql(SELECT_APPLICATION_RECORDS)
+            .filter(statement -> statement.fetchSize(streamingFetchSize))
+            .map((row, rowMetadata) -> ApplicationRecordRowDecoder.decode(row))
+            .all()
+            .onErrorMap(ex -> {
+                log.error("Error retrieving all applications joined with their loan type and status", ex);
+                return new DataRetrievalException("Error al momento de consultar las solicitudes", ex);
+            });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Flux<ApplicationRecord> getApplicationRecordsByUserEmail(String userEmail) {
+        log.info("Searching joined applications of user with email: {}", userEmail);
+
+        return databaseClient.sql(SELECT_APPLICATION_RECORDS + " WHERE a.user_email = $1")
+            .bind(0, userEmail)
+            .map((row, rowMetadata) -> ApplicationRecordRowDecoder.decode(row))
+            .all()
+            .onErrorMap(ex -> {
+                log.error("Error retrieving joined applications of user with email {}: {}", userEmail, ex.getMessage(), ex);
+                return new DataRetrievalException("Error consultando las solicitudes del usuario con email " + userEmail, ex);
+            });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Mono<ApplicationRecord> getApplicationRecordByApplicationId(UUID applicationId) {
+        log.info("Searching joined application with ID number: {}", applicationId);
+
+        return databaseClient.sql(SELECT_APPLICATION_RECORDS + " WHERE a.application_id = $1")
+            .bind(0, applicationId)
+            .map((row, rowMetadata) -> ApplicationRecordRowDecoder.decode(row))
+            .one()
+            .onErrorMap(ex -> {
+                log.error("Error retrieving joined application with ID number {}: {}", applicationId, ex.getMessage(), ex);
+                return new DataRetrievalException("Error consultando la solicitud con ID " + applicationId, ex);
+            });
+    }
+
+    /**
+     * The application already carries its id, so the entity is told apart
+     * from an existing row by its version: a null version is inserted.
+     */
     @Override
     @Transactional(rollbackFor = DataPersistenceException.class)
     public Mono<Application> saveApplication(Mono<Application> application) {
@@ -104,7 +223,7 @@ public class ApplicationReactiveRepositoryAdapter extends ReactiveAdapterOperati
             .doOnNext(applicationData -> log.info("Attempting to save application: {}", applicationData.getApplicationId()))
             .flatMap(applicationData -> 
                 repository.save(toData(applicationData))
-                    .doOnNext(savedEntity -> log.debug("Application entity saved: {}", savedEntity.getApplicationId()))
+                    .doOnNext(savedEntity -> log.trace("Application entity saved: {}", savedEntity.getApplicationId()))
                     .map(this::toEntity)
                     .doOnNext(savedApplication -> log.info("Application successfully saved: {}", savedApplication.getApplicationId()))
                     .onErrorMap(ex -> {
@@ -114,69 +233,239 @@ public class ApplicationReactiveRepositoryAdapter extends ReactiveAdapterOperati
             );
     }
 
+    /**
+     * Inserts the rows with one multi-row INSERT per batch. Each batch commits
+     * on its own; when a batch fails it is retried row by row so only the
+     * offending rows are reported, with their position in the submission.
+     */
+    @Override
+    public Mono<BulkOperationResult> saveApplications(Flux<Application> applications) {
+        return applications
+            .index()
+            .buffer(bulkInsertBatchSize)
+            .concatMap(this::insertBatch)
+            .reduce(BulkOperationResult.empty(), BulkOperationResult::merge)
+            .doOnNext(result -> log.info("Bulk intake finished: {} received, {} saved, {} rejected",
+                result.received(), result.saved(), result.errors().size()));
+    }
+
+    private Mono<BulkOperationResult> insertBatch(List<Tuple2<Long, Application>> batch) {
+        return insertRows(batch.stream().map(Tuple2::getT2).toList())
+            .map(saved -> new BulkOperationResult(batch.size(), saved, List.of()))
+            .onErrorResume(ex -> {
+                log.warn("Bulk insert of {} rows starting at row {} failed, retrying row by row: {}",
+                    batch.size(), batch.get(0).getT1(), ex.getMessage());
+                return Flux.fromIterable(batch)
+                    .concatMap(row -> insertRows(List.of(row.getT2()))
+                        .map(BulkOperationResult::ofSaved)
+                        .onErrorResume(rowEx -> Mono.just(BulkOperationResult.ofRejected(new BulkRowError(
+                            row.getT1(), "Error intentando guardar la solicitud: " + rowEx.getMessage())))))
+                    .reduce(BulkOperationResult.empty(), BulkOperationResult::merge);
+            });
+    }
+
+    private Mono<Long> insertRows(List<Application> rows) {
+        StringBuilder sql = new StringBuilder(INSERT_APPLICATIONS);
+        for (int i = 0; i < rows.size(); i++) {
+            int first = i * INSERT_COLUMN_COUNT;
+            sql.append(i == 0 ? "(" : ", (")
+                .append("$").append(first + 1).append(", $").append(first + 2).append(", $").append(first + 3)
+                .append(", $").append(first + 4).append(", $").append(first + 5)
+                .append(", $").append(first + 6).append(", $").append(first + 7).append(", $").append(first + 8).append(")");
+        }
+        sql.append(" RETURNING application_id");
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString());
+        for (int i = 0; i < rows.size(); i++) {
+            Application row = rows.get(i);
+            int first = i * INSERT_COLUMN_COUNT;
+            spec = bindNullable(spec, first, row.getApplicationId(), UUID.class);
+            spec = bindNullable(spec, first + 1, row.getUserEmail(), String.class);
+            spec = bindNullable(spec, first + 2, row.getLoanAmount(), Double.class);
+            spec = bindNullable(spec, first + 3, row.getLoanTerm(), Double.class);
+            spec = bindNullable(spec, first + 4, row.getLoanTypeId(), Integer.class);
+            spec = bindNullable(spec, first + 5, row.getLoanStatusId(), Integer.class);
+            spec = bindNullable(spec, first + 6, row.getMonthlyPayment(), Double.class);
+            spec = bindNullable(spec, first + 7, row.getMonthlyPaymentRate(), Double.class);
+        }
+        return spec.map((row, rowMetadata) -> row.get(0, UUID.class)).all().count();
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindNullable(
+        DatabaseClient.GenericExecuteSpec spec, int index, Object value, Class<?> type
+    ) {
+        return value != null ? spec.bind(index, value) : spec.bindNull(index, type);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Mono<PageResult<Application>> findByCriteria(SearchCriteria criteria) {
         log.info("Searching applications matching criteria: {}", criteria);
-        
-        StringBuilder sql = new StringBuilder("SELECT * FROM applications WHERE 1=1");
-        StringBuilder countSql = new StringBuilder("SELECT COUNT(*) FROM applications WHERE 1=1");
-
-        List<Object> params = new ArrayList<>();
-        List<Object> countParams = new ArrayList<>();
-
-        if (criteria.getFilters() != null) {
-            criteria.getFilters().forEach((key, value) -> {
-                if (!ALLOWED_COLUMNS.contains(key)) {
-                    throw new IllegalArgumentException("Filtro inválido en columna: " + key);
-                }
-                sql.append(" AND ").append(key).append(" = $").append(params.size() + 1);
-                countSql.append(" AND ").append(key).append(" = $").append(countParams.size() + 1);
-                params.add(value);
-                countParams.add(value);
-            });
+
+        boolean keyset = criteria.getCursor() != null;
+        KeysetCursor cursor = keyset && !criteria.getCursor().isBlank() ? KeysetCursor.decode(criteria.getCursor()) : null;
+        String sortBy = criteria.getSortBy() != null ? criteria.getSortBy() : keyset ? APPLICATION_ID : null;
+        CountStrategy countStrategy = resolveCountStrategy(criteria.getCountStrategy(), keyset);
+        boolean fetchExtraRow = keyset || countStrategy == CountStrategy.NONE;
+
+        Map<String, Object> filters = criteria.getFilters() != null ? criteria.getFilters() : Map.of();
+        for (String column : filters.keySet()) {
+            if (!ALLOWED_COLUMNS.contains(column)) {
+                throw new IllegalArgumentException("Filtro inválido en columna: " + column);
+            }
         }
+        List<String> filterColumns = filters.keySet().stream().sorted().toList();
 
-        if (criteria.getSortBy() != null) {
-            if (!ALLOWED_SORT_COLUMNS.contains(criteria.getSortBy())) {
-                throw new IllegalArgumentException("Ordenamiento inválido en columna: " + criteria.getSortBy());
+        String sortDirection = null;
+        if (sortBy != null) {
+            if (!ALLOWED_SORT_COLUMNS.contains(sortBy)) {
+                throw new IllegalArgumentException("Ordenamiento inválido en columna: " + sortBy);
             }
-            sql.append(" ORDER BY ").append(criteria.getSortBy())
-            .append(" ").append(criteria.getSortDirection() != null ? criteria.getSortDirection() : "ASC");
+            sortDirection = resolveSortDirection(criteria.getSortDirection());
         }
 
-        sql.append(" LIMIT $").append(params.size() + 1).append(" OFFSET $").append(params.size() + 2);
-        params.add(criteria.getSize());
-        params.add(criteria.getPage() * criteria.getSize());
+        if (cursor != null && (!cursor.sortBy().equals(sortBy) || !cursor.sortDirection().equals(sortDirection))) {
+            return Mono.error(new IllegalArgumentException("El cursor no corresponde al ordenamiento solicitado"));
+        }
 
-        Flux<ApplicationEntity> dataFlux = executeQuery(sql.toString(), params);
-        Mono<Long> countMono = executeCountQuery(countSql.toString(), countParams);
+        CriteriaQueryTemplates.Template template = queryTemplates.get(new CriteriaQueryTemplates.Shape(
+            filterColumns, sortBy, sortDirection, cursor != null, keyset, countStrategy == CountStrategy.WINDOW));
 
-        return Mono.zip(dataFlux.collectList(), countMono)
-            .map(tuple -> {
-            List<Application> applications = tuple.getT1().stream()
-                .map(this::toEntity)
-                .collect(Collectors.toList());
+        List<Object> countParams = new ArrayList<>(filterColumns.size());
+        for (String column : filterColumns) {
+            countParams.add(filters.get(column));
+        }
 
-            return new PageResult<Application>(
-                applications,
-                tuple.getT2(),
-                criteria.getPage(), 
-                criteria.getSize()
-            );
-        })
-        .doOnError(error -> {
-            log.error("Error executing search criteria: {}", criteria, error);
-            throw new DataRetrievalException("Error intentando guardar la solicitud", error);
-        });
+        List<Object> params = new ArrayList<>(countParams);
+        if (cursor != null) {
+            if (!APPLICATION_ID.equals(sortBy)) {
+                params.add(toSortValue(sortBy, cursor.lastValue()));
+            }
+            params.add(cursor.lastApplicationId());
+        }
+        params.add(fetchExtraRow ? criteria.getSize() + 1 : criteria.getSize());
+        if (!keyset) {
+            params.add(criteria.getPage() * criteria.getSize());
+        }
+
+        String sql = template.dataSql();
+        String countSql = template.countSql();
+        PageQuery query = new PageQuery(criteria, keyset, cursor != null, fetchExtraRow, sortBy, sortDirection);
+
+        Mono<PageResult<Application>> result;
+        if (countStrategy == CountStrategy.WINDOW) {
+            result = executeWindowQuery(sql, params).collectList()
+                .flatMap(rows -> {
+                    List<Application> applications = rows.stream().map(CountedRow::application).toList();
+                    if (!rows.isEmpty() || criteria.getPage() == 0) {
+                        long total = rows.isEmpty() ? 0 : rows.get(0).totalCount();
+                        return Mono.just(toPage(query, applications, new CountResult(total, CountStrategy.WINDOW)));
+                    }
+                    // Past the last page the window has no row to report the total on
+                    return executeCountQuery(countSql, countParams)
+                        .map(total -> toPage(query, applications, new CountResult(total, CountStrategy.EXACT)));
+                });
+        } else {
+            Flux<Application> dataFlux = executeQuery(sql, params);
+            Mono<CountResult> countMono = switch (countStrategy) {
+                case ESTIMATED -> estimateCount(template.estimateSql(), countSql, countParams);
+                case NONE -> Mono.just(new CountResult(PageResult.UNKNOWN_TOTAL, CountStrategy.NONE));
+                default -> executeCountQuery(countSql, countParams)
+                    .map(total -> new CountResult(total, CountStrategy.EXACT));
+            };
+            result = Mono.zip(dataFlux.collectList(), countMono)
+                .map(tuple -> toPage(query, tuple.getT1(), tuple.getT2()));
+        }
+
+        return result
+            .onErrorMap(error -> {
+                log.error("Error executing search criteria: {}", criteria, error);
+                return new DataRetrievalException("Error intentando consultar las solicitudes", error);
+            });
     }
 
-    private Flux<ApplicationEntity> executeQuery(String sql, List<Object> params) {
+    private PageResult<Application> toPage(PageQuery query, List<Application> rows, CountResult count) {
+        int size = query.criteria().getSize();
+        boolean hasMore = rows.size() > size;
+        List<Application> applications = query.fetchExtraRow() && hasMore
+            ? new ArrayList<>(rows.subList(0, size))
+            : rows;
+
+        PageResult<Application> page = new PageResult<Application>(
+            applications,
+            count.total(),
+            query.criteria().getPage(),
+            size
+        );
+        page.setCountStrategy(count.strategy());
+        if (count.total() == PageResult.UNKNOWN_TOTAL) {
+            page.setTotalPages((int) PageResult.UNKNOWN_TOTAL);
+        }
+        if (query.fetchExtraRow()) {
+            page.setHasNext(hasMore);
+        }
+        if (query.keyset()) {
+            page.setHasPrevious(query.hasCursor());
+        }
+        if (page.isHasNext() && query.sortBy() != null && !applications.isEmpty()) {
+            Application last = applications.get(applications.size() - 1);
+            page.setNextCursor(new KeysetCursor(
+                query.sortBy(), query.sortDirection(), toCursorValue(query.sortBy(), last), last.getApplicationId()).encode());
+        }
+        return page;
+    }
+
+    private CountStrategy resolveCountStrategy(CountStrategy requested, boolean keyset) {
+        if (requested == null) {
+            return CountStrategy.EXACT;
+        }
+        // With a cursor the window would only count the rows after it
+        if (keyset && requested == CountStrategy.WINDOW) {
+            return CountStrategy.EXACT;
+        }
+        return requested;
+    }
+
+    private Mono<CountResult> estimateCount(String estimateSql, String countSql, List<Object> countParams) {
+        return executeEstimateQuery(estimateSql, countParams)
+            .flatMap(estimate -> estimate >= EXACT_COUNT_THRESHOLD
+                ? Mono.just(new CountResult(estimate, CountStrategy.ESTIMATED))
+                : executeCountQuery(countSql, countParams).map(total -> new CountResult(total, CountStrategy.EXACT)));
+    }
+
+    private String resolveSortDirection(String sortDirection) {
+        if (sortDirection == null || ASC.equalsIgnoreCase(sortDirection)) {
+            return ASC;
+        }
+        if (DESC.equalsIgnoreCase(sortDirection)) {
+            return DESC;
+        }
+        throw new IllegalArgumentException("Sentido de ordenamiento inválido: " + sortDirection);
+    }
+
+    private Object toSortValue(String sortBy, String value) {
+        return switch (sortBy) {
+            case "loan_amount", "loan_term", "monthly_payment" -> new BigDecimal(value);
+            default -> value;
+        };
+    }
+
+    private String toCursorValue(String sortBy, Application application) {
+        return switch (sortBy) {
+            case "user_email" -> application.getUserEmail();
+            case "loan_amount" -> BigDecimal.valueOf(application.getLoanAmount()).toPlainString();
+            case "loan_term" -> BigDecimal.valueOf(application.getLoanTerm()).toPlainString();
+            case "monthly_payment" -> BigDecimal.valueOf(application.getMonthlyPayment()).toPlainString();
+            default -> application.getApplicationId().toString();
+        };
+    }
+
+    private Flux<Application> executeQuery(String sql, List<Object> params) {
         DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql);
         for (int i = 0; i < params.size(); i++) {
             spec = spec.bind(i, params.get(i));
         }
-        return spec.map((row, rowMetadata) -> mapRow(row)).all();
+        return spec.map((row, rowMetadata) -> ApplicationRowDecoder.decode(row)).all();
     }
 
     private Mono<Long> executeCountQuery(String sql, List<Object> params) {
@@ -187,30 +476,149 @@ public class ApplicationReactiveRepositoryAdapter extends ReactiveAdapterOperati
         return spec.map((row, rowMetadata) -> row.get(0, Long.class)).first();
     }
 
-    private ApplicationEntity mapRow(Row row) {
-        ApplicationEntity entity = new ApplicationEntity();
-        entity.setApplicationId(row.get("application_id", UUID.class));
-        entity.setUserEmail(row.get("user_email", String.class));
-        entity.setLoanAmount(row.get("loan_amount", Double.class));
-        entity.setLoanTerm(row.get("loan_term", Double.class));
-        entity.setLoanTypeId(row.get("loan_type_id", Integer.class));
-        entity.setLoanStatusId(row.get("loan_status_id", Integer.class));
-        return entity;
+    private Flux<CountedRow> executeWindowQuery(String sql, List<Object> params) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql);
+        for (int i = 0; i < params.size(); i++) {
+            spec = spec.bind(i, params.get(i));
+        }
+        return spec.map((row, rowMetadata) -> new CountedRow(
+            ApplicationRowDecoder.decode(row), row.get(ApplicationRowDecoder.NEXT_INDEX, Long.class))).all();
     }
 
+    private Mono<Long> executeEstimateQuery(String sql, List<Object> params) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql);
+        for (int i = 0; i < params.size(); i++) {
+            spec = spec.bind(i, params.get(i));
+        }
+        return spec.map((row, rowMetadata) -> row.get(0, String.class)).first()
+            .map(plan -> {
+                Matcher matcher = PLAN_ROWS.matcher(plan);
+                return matcher.find() ? Long.parseLong(matcher.group(1)) : 0L;
+            });
+    }
+
+    /**
+     * Changes the status in a single UPDATE ... RETURNING, so the row comes
+     * back without a prior read, and queues its notification in the outbox
+     * within the same statement. With an expected version the statement also
+     * matches on it; when nothing is updated the id is looked up once more to
+     * tell a stale version, a ConcurrentUpdateException, from a missing
+     * application, which completes empty.
+     */
     @Override
-    public Mono<Application> updateApplication(Mono<Application> application) {
-        return application
-            .doOnNext(applicationData -> log.info("Attempting to update an application: {}", applicationData.getApplicationId()))
-            .flatMap(applicationData -> 
-                repository.save(toData(applicationData))
-                    .doOnNext(updatedEntity -> log.debug("Application entity updated: {}", updatedEntity.getApplicationId()))
-                    .map(this::toEntity)
-                    .doOnNext(updatedApplication -> log.info("Application successfully updated: {}", updatedApplication.getApplicationId()))
-                    .onErrorMap(ex -> {
-                        log.error("Error updating an application: {}", ex.getMessage(), ex);
-                        return new DataPersistenceException("Error intentando editar la solicitud", ex);
-                    })
-            );
+    public Mono<Application> updateApplicationStatus(UUID applicationId, Integer loanStatusId, Long expectedVersion) {
+        String sql = UPDATE_STATUS + (expectedVersion != null ? " AND version = $3" : "") + UPDATE_STATUS_RETURNING;
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql)
+            .bind(0, loanStatusId)
+            .bind(1, applicationId);
+        if (expectedVersion != null) {
+            spec = spec.bind(2, expectedVersion);
+        }
+
+        Mono<Application> notUpdated = expectedVersion == null
+            ? Mono.empty()
+            : repository.existsById(applicationId)
+                .flatMap(exists -> exists
+                    ? Mono.error(new ConcurrentUpdateException("La solicitud " + applicationId + " fue modificada por otra operación, consúltela de nuevo."))
+                    : Mono.empty());
+
+        return spec.map((row, rowMetadata) -> ApplicationRowDecoder.decode(row))
+            .first()
+            .doOnNext(updated -> log.info("Application {} moved to status {} (version {})", applicationId, loanStatusId, updated.getVersion()))
+            .onErrorMap(ex -> {
+                log.error("Error updating the status of application {}: {}", applicationId, ex.getMessage(), ex);
+                return new DataPersistenceException("Error intentando editar la solicitud", ex);
+            })
+            .switchIfEmpty(notUpdated);
+    }
+
+    /**
+     * Reads one chunk of applications whose stored rate differs from the
+     * current rate of their loan type, both compared as numeric in the
+     * database, so what counts as stale survives restarts.
+     */
+    @Override
+    public Flux<Application> getApplicationsWithStaleMonthlyPayment(int loanTypeId, UUID after, int limit) {
+        String sql = SELECT_STALE_MONTHLY_PAYMENTS
+            + (after != null ? " AND application_id > $3" : "")
+            + STALE_MONTHLY_PAYMENTS_PAGE + "$2";
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql)
+            .bind(0, loanTypeId)
+            .bind(1, limit);
+        if (after != null) {
+            spec = spec.bind(2, after);
+        }
+        return spec.map((row, rowMetadata) -> ApplicationRowDecoder.decode(row))
+            .all()
+            .onErrorMap(ex -> {
+                log.error("Error reading stale monthly payments of loan type {}: {}", loanTypeId, ex.getMessage(), ex);
+                return new DataRetrievalException("Error intentando consultar las cuotas a recalcular", ex);
+            });
+    }
+
+    /**
+     * Stores the recalculated monthly payments in one statement, pairing each
+     * id with its payment and rate through unnest. A payment is only stored
+     * while its rate is still the loan type's current one; rows priced with a
+     * rate that changed meanwhile stay stale and are picked up again.
+     */
+    @Override
+    public Mono<Long> updateMonthlyPayments(List<Application> applications) {
+        if (applications.isEmpty()) {
+            return Mono.just(0L);
+        }
+        UUID[] ids = applications.stream().map(Application::getApplicationId).toArray(UUID[]::new);
+        BigDecimal[] payments = applications.stream().map(application -> BigDecimal.valueOf(application.getMonthlyPayment())).toArray(BigDecimal[]::new);
+        BigDecimal[] rates = applications.stream().map(application -> BigDecimal.valueOf(application.getMonthlyPaymentRate())).toArray(BigDecimal[]::new);
+
+        return databaseClient.sql(UPDATE_MONTHLY_PAYMENTS)
+            .bind(0, ids)
+            .bind(1, payments)
+            .bind(2, rates)
+            .fetch()
+            .rowsUpdated()
+            .doOnNext(updated -> log.info("Stored the monthly payment of {} applications", updated))
+            .onErrorMap(ex -> {
+                log.error("Error storing the monthly payment of {} applications: {}", ids.length, ex.getMessage(), ex);
+                return new DataPersistenceException("Error intentando actualizar las cuotas mensuales", ex);
+            });
     }
+
+    /**
+     * Changes the status of every given application in one statement, pairing
+     * each id with its own status through unnest, and queues a notification
+     * for every updated row. Ids that do not exist are simply not returned.
+     */
+    @Override
+    public Flux<Application> updateApplicationStatuses(List<Application> applications) {
+        if (applications.isEmpty()) {
+            return Flux.empty();
+        }
+        UUID[] ids = applications.stream().map(Application::getApplicationId).toArray(UUID[]::new);
+        Integer[] statuses = applications.stream().map(Application::getLoanStatusId).toArray(Integer[]::new);
+        log.info("Updating the status of {} applications", ids.length);
+
+        return databaseClient.sql(UPDATE_STATUSES)
+            .bind(0, ids)
+            .bind(1, statuses)
+            .map((row, rowMetadata) -> ApplicationRowDecoder.decode(row))
+            .all()
+            .onErrorMap(ex -> {
+                log.error("Error updating the status of {} applications: {}", ids.length, ex.getMessage(), ex);
+                return new DataPersistenceException("Error intentando editar las solicitudes", ex);
+            });
+    }
+
+    private record PageQuery(
+        SearchCriteria criteria,
+        boolean keyset,
+        boolean hasCursor,
+        boolean fetchExtraRow,
+        String sortBy,
+        String sortDirection
+    ) {}
+
+    private record CountResult(long total, CountStrategy strategy) {}
+
+    private record CountedRow(Application application, long totalCount) {}
 }
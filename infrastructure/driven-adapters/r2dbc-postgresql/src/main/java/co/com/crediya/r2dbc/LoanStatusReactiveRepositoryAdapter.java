@@ -1,6 +1,5 @@
 package co.com.crediya.r2dbc;
 
-import org.reactivecommons.utils.ObjectMapper;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -9,6 +8,7 @@ import co.com.crediya.model.loanstatus.LoanStatus;
 import co.com.crediya.model.loanstatus.gateways.LoanStatusRepository;
 import co.com.crediya.r2dbc.entity.LoanStatusEntity;
 import co.com.crediya.r2dbc.helper.ReactiveAdapterOperations;
+import co.com.crediya.r2dbc.mapper.LoanStatusEntityMapper;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -21,8 +21,8 @@ public class LoanStatusReactiveRepositoryAdapter extends ReactiveAdapterOperatio
     Integer,
     LoanStatusReactiveRepository
 > implements LoanStatusRepository {
-    public LoanStatusReactiveRepositoryAdapter(LoanStatusReactiveRepository repository, ObjectMapper mapper) {
-        super(repository, mapper, d -> mapper.map(d, LoanStatus.class));
+    public LoanStatusReactiveRepositoryAdapter(LoanStatusReactiveRepository repository, LoanStatusEntityMapper mapper) {
+        super(repository, mapper::toEntity, mapper::toModel);
     }
 
     @Override
@@ -32,7 +32,7 @@ public class LoanStatusReactiveRepositoryAdapter extends ReactiveAdapterOperatio
     
         return findAll()
             .doOnNext(loanStatus
-                -> log.debug("Retrieved loan statuses successfully"))
+                -> log.trace("Retrieved loan statuses successfully"))
             .doOnComplete(() -> log.info("Finished retrieving all loan statuses"))
             .onErrorMap(ex -> {
                 log.error("Error retrieving all loan statuses", ex);
@@ -47,7 +47,7 @@ public class LoanStatusReactiveRepositoryAdapter extends ReactiveAdapterOperatio
         log.info("Searching loan status with ID number: {}", loanStatusId);
     
         return repository.findById(loanStatusId)
-            .doOnNext(entity -> log.debug("Found loan status entity ID number {}", loanStatusId))
+            .doOnNext(entity -> log.trace("Found loan status entity ID number {}", loanStatusId))
             .map(this::toEntity)
             .doOnNext(entity -> log.info("Successfully mapped loan status ID number {}", loanStatusId))
             .switchIfEmpty(Mono.error(new DataRetrievalException("Estado de crédito con ID " + loanStatusId + " no encontrado")))
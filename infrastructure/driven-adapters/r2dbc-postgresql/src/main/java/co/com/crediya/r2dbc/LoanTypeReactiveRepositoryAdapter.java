@@ -1,6 +1,5 @@
 package co.com.crediya.r2dbc;
 
-import org.reactivecommons.utils.ObjectMapper;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -9,6 +8,7 @@ import co.com.crediya.model.loantype.LoanType;
 import co.com.crediya.model.loantype.gateways.LoanTypeRepository;
 import co.com.crediya.r2dbc.entity.LoanTypeEntity;
 import co.com.crediya.r2dbc.helper.ReactiveAdapterOperations;
+import co.com.crediya.r2dbc.mapper.LoanTypeEntityMapper;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -21,8 +21,8 @@ public class LoanTypeReactiveRepositoryAdapter extends ReactiveAdapterOperations
     Integer,
     LoanTypeReactiveRepository
 > implements LoanTypeRepository {
-    public LoanTypeReactiveRepositoryAdapter(LoanTypeReactiveRepository repository, ObjectMapper mapper) {
-        super(repository, mapper, d -> mapper.map(d, LoanType.class));
+    public LoanTypeReactiveRepositoryAdapter(LoanTypeReactiveRepository repository, LoanTypeEntityMapper mapper) {
+        super(repository, mapper::toEntity, mapper::toModel);
     }
 
     @Override
@@ -32,7 +32,7 @@ public class LoanTypeReactiveRepositoryAdapter extends ReactiveAdapterOperations
     
         return findAll()
             .doOnNext(loanType
-                -> log.debug("Retrieved loan types successfully"))
+                -> log.trace("Retrieved loan types successfully"))
             .doOnComplete(() -> log.info("Finished retrieving all loan types"))
             .onErrorMap(ex -> {
                 log.error("Error retrieving all loan types", ex);
@@ -47,7 +47,7 @@ public class LoanTypeReactiveRepositoryAdapter extends ReactiveAdapterOperations
         log.info("Searching loan type with ID number: {}", loanTypeId);
     
         return repository.findById(loanTypeId)
-            .doOnNext(entity -> log.debug("Found loan type entity ID number {}", loanTypeId))
+            .doOnNext(entity -> log.trace("Found loan type entity ID number {}", loanTypeId))
             .map(this::toEntity)
             .doOnNext(entity -> log.info("Successfully mapped loan type ID number {}", loanTypeId))
             .switchIfEmpty(Mono.error(new DataRetrievalException("Tipo de crédito con ID " + loanTypeId + " no encontrado")))
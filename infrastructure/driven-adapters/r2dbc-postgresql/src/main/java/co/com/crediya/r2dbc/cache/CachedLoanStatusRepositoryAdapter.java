@@ -0,0 +1,64 @@
+package co.com.crediya.r2dbc.cache;
+
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import co.com.crediya.model.loanstatus.LoanStatus;
+import co.com.crediya.model.loanstatus.gateways.LoanStatusRepository;
+import co.com.crediya.model.referencedata.IdLookupTable;
+import co.com.crediya.r2dbc.LoanStatusReactiveRepositoryAdapter;
+import co.com.crediya.r2dbc.config.ReferenceDataCacheProperties;
+import co.com.crediya.r2dbc.routing.ReadReplicaRoutingConnectionFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Primary
+@Repository
+@Slf4j
+public class CachedLoanStatusRepositoryAdapter implements LoanStatusRepository {
+    private final LoanStatusReactiveRepositoryAdapter delegate;
+    private final ReferenceDataCache<LoanStatus> cache;
+
+    public CachedLoanStatusRepositoryAdapter(
+        LoanStatusReactiveRepositoryAdapter delegate,
+        ReferenceDataCacheProperties properties,
+        MeterRegistry registry
+    ) {
+        this.delegate = delegate;
+        this.cache = new ReferenceDataCache<>(
+            "loan_status",
+            // Reloads follow change notifications from the primary, so they must not read a lagging replica
+            () -> delegate.getAllLoanStatuses().contextWrite(ReadReplicaRoutingConnectionFactory.PRIMARY),
+            LoanStatus::getLoanStatusId,
+            properties.refreshInterval(),
+            registry);
+    }
+
+    @Override
+    public Flux<LoanStatus> getAllLoanStatuses() {
+        return cache.get()
+            .flatMapIterable(ReferenceDataCache.Snapshot::values);
+    }
+
+    @Override
+    public Mono<LoanStatus> getLoanStatusById(int loanStatusId) {
+        return cache.get()
+            .flatMap(snapshot -> Mono.justOrEmpty(snapshot.get(loanStatusId)))
+            .switchIfEmpty(Mono.defer(() -> {
+                log.debug("Loan status {} not found in cache, querying the database", loanStatusId);
+                return delegate.getLoanStatusById(loanStatusId);
+            }));
+    }
+
+    @Override
+    public Mono<IdLookupTable<LoanStatus>> getLoanStatusLookup() {
+        return cache.get()
+            .map(ReferenceDataCache.Snapshot::table);
+    }
+
+    public Mono<Void> refresh() {
+        return cache.forceReload().then();
+    }
+}
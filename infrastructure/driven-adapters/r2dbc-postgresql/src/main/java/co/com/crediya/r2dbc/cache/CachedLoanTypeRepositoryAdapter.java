@@ -0,0 +1,64 @@
+package co.com.crediya.r2dbc.cache;
+
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import co.com.crediya.model.loantype.LoanType;
+import co.com.crediya.model.loantype.gateways.LoanTypeRepository;
+import co.com.crediya.model.referencedata.IdLookupTable;
+import co.com.crediya.r2dbc.LoanTypeReactiveRepositoryAdapter;
+import co.com.crediya.r2dbc.config.ReferenceDataCacheProperties;
+import co.com.crediya.r2dbc.routing.ReadReplicaRoutingConnectionFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Primary
+@Repository
+@Slf4j
+public class CachedLoanTypeRepositoryAdapter implements LoanTypeRepository {
+    private final LoanTypeReactiveRepositoryAdapter delegate;
+    private final ReferenceDataCache<LoanType> cache;
+
+    public CachedLoanTypeRepositoryAdapter(
+        LoanTypeReactiveRepositoryAdapter delegate,
+        ReferenceDataCacheProperties properties,
+        MeterRegistry registry
+    ) {
+        this.delegate = delegate;
+        this.cache = new ReferenceDataCache<>(
+            "loan_type",
+            // Reloads follow change notifications from the primary, so they must not read a lagging replica
+            () -> delegate.getAllLoanTypes().contextWrite(ReadReplicaRoutingConnectionFactory.PRIMARY),
+            LoanType::getLoanTypeId,
+            properties.refreshInterval(),
+            registry);
+    }
+
+    @Override
+    public Flux<LoanType> getAllLoanTypes() {
+        return cache.get()
+            .flatMapIterable(ReferenceDataCache.Snapshot::values);
+    }
+
+    @Override
+    public Mono<LoanType> getLoanTypeById(int loanTypeId) {
+        return cache.get()
+            .flatMap(snapshot -> Mono.justOrEmpty(snapshot.get(loanTypeId)))
+            .switchIfEmpty(Mono.defer(() -> {
+                log.debug("Loan type {} not found in cache, querying the database", loanTypeId);
+                return delegate.getLoanTypeById(loanTypeId);
+            }));
+    }
+
+    @Override
+    public Mono<IdLookupTable<LoanType>> getLoanTypeLookup() {
+        return cache.get()
+            .map(ReferenceDataCache.Snapshot::table);
+    }
+
+    public Mono<Void> refresh() {
+        return cache.forceReload().then();
+    }
+}
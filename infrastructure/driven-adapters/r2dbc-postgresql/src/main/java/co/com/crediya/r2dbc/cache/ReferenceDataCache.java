@@ -0,0 +1,153 @@
+package co.com.crediya.r2dbc.cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+import co.com.crediya.model.referencedata.IdLookupTable;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * In-memory snapshot of a small reference table (loan types, loan statuses).
+ * The table is loaded once, served from memory afterwards and reloaded in the
+ * background once the snapshot is older than the configured refresh interval.
+ * A change notification asks for a {@link #forceReload()}, which never settles
+ * for a load that was already reading the table when the change arrived.
+ */
+@Slf4j
+public class ReferenceDataCache<T> {
+    private final String name;
+    private final Supplier<Flux<T>> loader;
+    private final ToIntFunction<T> idExtractor;
+    private final long refreshIntervalNanos;
+
+    private final AtomicReference<Snapshot<T>> snapshot = new AtomicReference<>();
+    private final AtomicReference<Load<T>> inFlight = new AtomicReference<>();
+    /** Bumped by every forced reload; each load remembers the value it started at. */
+    private final AtomicLong requestedGeneration = new AtomicLong();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter refreshes;
+    private final Counter refreshFailures;
+
+    public ReferenceDataCache(
+        String name,
+        Supplier<Flux<T>> loader,
+        ToIntFunction<T> idExtractor,
+        Duration refreshInterval,
+        MeterRegistry registry
+    ) {
+        this.name = name;
+        this.loader = loader;
+        this.idExtractor = idExtractor;
+        this.refreshIntervalNanos = refreshInterval.toNanos();
+
+        this.hits = registry.counter("reference.data.cache.requests", "cache", name, "result", "hit");
+        this.misses = registry.counter("reference.data.cache.requests", "cache", name, "result", "miss");
+        this.refreshes = registry.counter("reference.data.cache.refreshes", "cache", name, "outcome", "success");
+        this.refreshFailures = registry.counter("reference.data.cache.refreshes", "cache", name, "outcome", "failure");
+        Gauge.builder("reference.data.cache.size", snapshot, ref -> ref.get() == null ? 0 : ref.get().values().size())
+            .tag("cache", name)
+            .register(registry);
+    }
+
+    public Mono<Snapshot<T>> get() {
+        Snapshot<T> current = snapshot.get();
+        if (current == null) {
+            misses.increment();
+            return reload();
+        }
+
+        hits.increment();
+        if (System.nanoTime() - current.loadedAt() >= refreshIntervalNanos) {
+            reload().subscribe(
+                refreshed -> log.debug("Reference data cache {} refreshed in background", name),
+                ex -> log.warn("Background refresh of reference data cache {} failed, serving previous snapshot", name, ex));
+        }
+        return Mono.just(current);
+    }
+
+    /** Loads the table, joining the load in flight if there is one. */
+    public Mono<Snapshot<T>> reload() {
+        return reloadFrom(0);
+    }
+
+    /**
+     * Loads the table with a load that starts after this call. A load already
+     * in flight may have read the table before the change being reported, so
+     * it is only joined if it started later; otherwise one more load is
+     * chained after it.
+     */
+    public Mono<Snapshot<T>> forceReload() {
+        long generation = requestedGeneration.incrementAndGet();
+        return reloadFrom(generation);
+    }
+
+    private Mono<Snapshot<T>> reloadFrom(long generation) {
+        while (true) {
+            Load<T> current = inFlight.get();
+            if (current != null) {
+                if (current.generation() >= generation) {
+                    return current.result();
+                }
+                return current.result()
+                    .onErrorResume(ex -> Mono.empty())
+                    .then(Mono.defer(() -> reloadFrom(generation)));
+            }
+
+            Sinks.One<Snapshot<T>> sink = Sinks.one();
+            Mono<Snapshot<T>> shared = sink.asMono();
+            // Read before the load starts, so every forced reload counted here was asked for earlier
+            long startedAt = requestedGeneration.get();
+            if (!inFlight.compareAndSet(null, new Load<>(startedAt, shared))) {
+                continue;
+            }
+
+            log.info("Loading reference data cache {}", name);
+            loader.get()
+                .collectList()
+                .map(this::toSnapshot)
+                .subscribe(
+                    loaded -> {
+                        snapshot.set(loaded);
+                        refreshes.increment();
+                        inFlight.set(null);
+                        log.info("Reference data cache {} loaded with {} entries", name, loaded.values().size());
+                        sink.tryEmitValue(loaded);
+                    },
+                    ex -> {
+                        refreshFailures.increment();
+                        inFlight.set(null);
+                        log.error("Error loading reference data cache {}", name, ex);
+                        sink.tryEmitError(ex);
+                    });
+            return shared;
+        }
+    }
+
+    private record Load<T>(long generation, Mono<Snapshot<T>> result) {}
+
+    private Snapshot<T> toSnapshot(List<T> values) {
+        return new Snapshot<>(IdLookupTable.of(values, idExtractor), System.nanoTime());
+    }
+
+    public record Snapshot<T>(IdLookupTable<T> table, long loadedAt) {
+        public List<T> values() {
+            return table.values();
+        }
+
+        public T get(int id) {
+            return table.get(id);
+        }
+    }
+}
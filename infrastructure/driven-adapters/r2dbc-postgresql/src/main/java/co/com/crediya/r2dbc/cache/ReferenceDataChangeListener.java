@@ -0,0 +1,128 @@
+package co.com.crediya.r2dbc.cache;
+
+import java.time.Duration;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import co.com.crediya.r2dbc.config.PostgreSQLConnectionPool;
+import co.com.crediya.r2dbc.config.PostgresqlConnectionProperties;
+import io.r2dbc.postgresql.PostgresqlConnectionFactory;
+import io.r2dbc.postgresql.api.Notification;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.postgresql.api.PostgresqlResult;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * Keeps the reference data caches consistent across instances.
+ * The loan_type and loan_status triggers publish the name of the changed table
+ * on {@value #CHANNEL}; this listener holds a dedicated connection (outside of
+ * the pool) subscribed to that channel and reloads the matching cache as soon
+ * as a notification arrives. Both caches are reloaded after every (re)connect,
+ * since notifications sent while disconnected are lost. The connection is
+ * re-established with backoff whether it fails or the server ends it cleanly.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(prefix = "adapter.r2dbc.reference-data", name = "listen-enabled", havingValue = "true", matchIfMissing = true)
+public class ReferenceDataChangeListener {
+    public static final String CHANNEL = "reference_data_changed";
+    public static final String LOAN_TYPE_TABLE = "loan_type";
+    public static final String LOAN_STATUS_TABLE = "loan_status";
+
+    private static final Duration MIN_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(30);
+
+    private final PostgresqlConnectionFactory connectionFactory;
+    private final CachedLoanTypeRepositoryAdapter loanTypeRepository;
+    private final CachedLoanStatusRepositoryAdapter loanStatusRepository;
+
+    private Disposable subscription;
+
+    public ReferenceDataChangeListener(
+        PostgresqlConnectionProperties properties,
+        CachedLoanTypeRepositoryAdapter loanTypeRepository,
+        CachedLoanStatusRepositoryAdapter loanStatusRepository
+    ) {
+        this(new PostgresqlConnectionFactory(PostgreSQLConnectionPool.connectionConfiguration(properties)),
+            loanTypeRepository, loanStatusRepository);
+    }
+
+    ReferenceDataChangeListener(
+        PostgresqlConnectionFactory connectionFactory,
+        CachedLoanTypeRepositoryAdapter loanTypeRepository,
+        CachedLoanStatusRepositoryAdapter loanStatusRepository
+    ) {
+        this.connectionFactory = connectionFactory;
+        this.loanTypeRepository = loanTypeRepository;
+        this.loanStatusRepository = loanStatusRepository;
+    }
+
+    @PostConstruct
+    public void start() {
+        subscription = listenWithReconnect().subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    Flux<Void> listenWithReconnect() {
+        return listen()
+            // A cleanly closed session completes the notifications; reconnect as for an error
+            .concatWith(Mono.error(() -> new IllegalStateException("Notification stream on " + CHANNEL + " ended")))
+            .retryWhen(Retry.backoff(Long.MAX_VALUE, MIN_BACKOFF)
+                .maxBackoff(MAX_BACKOFF)
+                .doBeforeRetry(signal -> log.warn("Connection listening on {} lost, reconnecting (attempt {})",
+                    CHANNEL, signal.totalRetries() + 1, signal.failure())));
+    }
+
+    private Flux<Void> listen() {
+        return Flux.usingWhen(
+            connectionFactory.create(),
+            connection -> connection.createStatement("LISTEN " + CHANNEL)
+                .execute()
+                .flatMap(PostgresqlResult::getRowsUpdated)
+                .then(Mono.fromRunnable(() -> log.info("Listening for reference data changes on {}", CHANNEL)))
+                .then(refreshAll())
+                .thenMany(connection.getNotifications())
+                .concatMap(this::onNotification),
+            PostgresqlConnection::close);
+    }
+
+    Mono<Void> onNotification(Notification notification) {
+        String table = notification.getParameter();
+        log.info("Reference data changed on table {}, reloading cache", table);
+
+        Mono<Void> refresh = switch (table == null ? "" : table) {
+            case LOAN_TYPE_TABLE -> loanTypeRepository.refresh();
+            case LOAN_STATUS_TABLE -> loanStatusRepository.refresh();
+            default -> {
+                log.warn("Ignoring notification on {} for unknown table {}", CHANNEL, table);
+                yield Mono.empty();
+            }
+        };
+
+        return refresh.onErrorResume(ex -> {
+            log.error("Error reloading reference data for table {}", table, ex);
+            return Mono.empty();
+        });
+    }
+
+    private Mono<Void> refreshAll() {
+        return Mono.when(loanTypeRepository.refresh(), loanStatusRepository.refresh())
+            .onErrorResume(ex -> {
+                log.error("Error reloading reference data caches", ex);
+                return Mono.empty();
+            });
+    }
+}
@@ -0,0 +1,19 @@
+package co.com.crediya.r2dbc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "adapter.r2dbc.bulk-insert")
+public record BulkInsertProperties(
+        Integer batchSize) {
+
+    public static final int DEFAULT_BATCH_SIZE = 500;
+    // Postgres accepts at most 65535 bind parameters per statement
+    public static final int MAX_BATCH_SIZE = 65535 / 8;
+
+    public BulkInsertProperties {
+        if (batchSize == null || batchSize < 1) {
+            batchSize = DEFAULT_BATCH_SIZE;
+        }
+        batchSize = Math.min(batchSize, MAX_BATCH_SIZE);
+    }
+}
@@ -0,0 +1,62 @@
+package co.com.crediya.r2dbc.config;
+
+import java.util.function.ToIntFunction;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.pool.PoolMetrics;
+import io.r2dbc.spi.Connection;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link ConnectionPool} that reports its occupancy and how long callers wait
+ * for a connection, tagged with the pool name:
+ * {@code r2dbc.pool.connections} by state (acquired, idle, allocated, pending
+ * acquisitions and the configured maximum) and the {@code r2dbc.pool.acquire}
+ * timer by outcome. A growing acquire time with pending acquisitions means
+ * the pool is too small for the load; idle connections that never drop mean
+ * it is too large.
+ */
+public class InstrumentedConnectionPool extends ConnectionPool {
+    private final Timer acquireSuccess;
+    private final Timer acquireFailure;
+
+    public InstrumentedConnectionPool(ConnectionPoolConfiguration configuration, String name, MeterRegistry registry) {
+        super(configuration);
+        this.acquireSuccess = Timer.builder("r2dbc.pool.acquire")
+            .tag("pool", name)
+            .tag("outcome", "success")
+            .publishPercentileHistogram()
+            .register(registry);
+        this.acquireFailure = Timer.builder("r2dbc.pool.acquire")
+            .tag("pool", name)
+            .tag("outcome", "failure")
+            .register(registry);
+
+        gauge(registry, name, "acquired", PoolMetrics::acquiredSize);
+        gauge(registry, name, "idle", PoolMetrics::idleSize);
+        gauge(registry, name, "allocated", PoolMetrics::allocatedSize);
+        gauge(registry, name, "pending", PoolMetrics::pendingAcquireSize);
+        gauge(registry, name, "max", PoolMetrics::getMaxAllocatedSize);
+    }
+
+    @Override
+    public Mono<Connection> create() {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start();
+            return super.create()
+                .doOnSuccess(connection -> sample.stop(acquireSuccess))
+                .doOnError(ex -> sample.stop(acquireFailure));
+        });
+    }
+
+    private void gauge(MeterRegistry registry, String name, String state, ToIntFunction<PoolMetrics> metric) {
+        Gauge.builder("r2dbc.pool.connections", this, pool -> pool.getMetrics().map(metric::applyAsInt).orElse(0))
+            .tag("pool", name)
+            .tag("state", state)
+            .register(registry);
+    }
+}
@@ -1,5 +1,6 @@
 package co.com.crediya.r2dbc.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import io.r2dbc.pool.ConnectionPool;
 import io.r2dbc.pool.ConnectionPoolConfiguration;
 import io.r2dbc.postgresql.PostgresqlConnectionConfiguration;
@@ -7,35 +8,43 @@ import io.r2dbc.postgresql.PostgresqlConnectionFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.time.Duration;
-
 @Configuration
 public class PostgreSQLConnectionPool {
-    public static final int INITIAL_SIZE = 12;
-    public static final int MAX_SIZE = 15;
-    public static final int MAX_IDLE_TIME = 30;
     public static final int DEFAULT_PORT = 5432;
+    public static final int PREPARED_STATEMENT_CACHE_QUERIES = 256;
 
 	@Bean
-	public ConnectionPool getConnectionConfig(PostgresqlConnectionProperties properties) {
-		PostgresqlConnectionConfiguration dbConfiguration = PostgresqlConnectionConfiguration.builder()
+	public ConnectionPool getConnectionConfig(PostgresqlConnectionProperties properties, MeterRegistry registry) {
+		return connectionPool(properties, "api-postgres-connection-pool", registry);
+	}
+
+    public static ConnectionPool connectionPool(PostgresqlConnectionProperties properties, String name, MeterRegistry registry) {
+        PostgresqlConnectionProperties.Pool pool = properties.pool();
+        ConnectionPoolConfiguration poolConfiguration = ConnectionPoolConfiguration.builder()
+                .connectionFactory(new PostgresqlConnectionFactory(connectionConfiguration(properties)))
+                .name(name)
+                .initialSize(pool.initialSize())
+                .maxSize(pool.maxSize())
+                .maxIdleTime(pool.maxIdleTime())
+                .maxLifeTime(pool.maxLifeTime())
+                .maxAcquireTime(pool.maxAcquireTime())
+                .maxCreateConnectionTime(pool.maxCreateConnectionTime())
+                .backgroundEvictionInterval(pool.backgroundEvictionInterval())
+                .validationQuery(pool.validationQuery())
+                .build();
+
+        return new InstrumentedConnectionPool(poolConfiguration, name, registry);
+    }
+
+    public static PostgresqlConnectionConfiguration connectionConfiguration(PostgresqlConnectionProperties properties) {
+        return PostgresqlConnectionConfiguration.builder()
                 .host(properties.host())
                 .port(properties.port())
                 .database(properties.database())
                 .schema(properties.schema())
                 .username(properties.username())
                 .password(properties.password())
+                .preparedStatementCacheQueries(PREPARED_STATEMENT_CACHE_QUERIES)
                 .build();
-
-        ConnectionPoolConfiguration poolConfiguration = ConnectionPoolConfiguration.builder()
-                .connectionFactory(new PostgresqlConnectionFactory(dbConfiguration))
-                .name("api-postgres-connection-pool")
-                .initialSize(INITIAL_SIZE)
-                .maxSize(MAX_SIZE)
-                .maxIdleTime(Duration.ofMinutes(MAX_IDLE_TIME))
-                .validationQuery("SELECT 1")
-                .build();
-
-		return new ConnectionPool(poolConfiguration);
-	}
-}
\ No newline at end of file
+    }
+}
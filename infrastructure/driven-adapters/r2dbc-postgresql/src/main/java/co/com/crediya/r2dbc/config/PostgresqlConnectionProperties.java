@@ -1,5 +1,7 @@
 package co.com.crediya.r2dbc.config;
 
+import java.time.Duration;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 @ConfigurationProperties(prefix = "spring.r2dbc")
@@ -9,5 +11,66 @@ public record PostgresqlConnectionProperties(
         String database,
         String schema,
         String username,
-        String password) {
+        String password,
+        Pool pool) {
+
+    public PostgresqlConnectionProperties {
+        if (pool == null) {
+            pool = new Pool(null, null, null, null, null, null, null, null);
+        }
+    }
+
+    /**
+     * Connection pool sizing and timeouts. The acquire and create timeouts fail
+     * a request instead of letting it wait forever on an exhausted pool or an
+     * unreachable database, and the background eviction closes idle or expired
+     * connections even when the pool sees no traffic.
+     */
+    public record Pool(
+            Integer initialSize,
+            Integer maxSize,
+            Duration maxIdleTime,
+            Duration maxLifeTime,
+            Duration maxAcquireTime,
+            Duration maxCreateConnectionTime,
+            Duration backgroundEvictionInterval,
+            String validationQuery) {
+
+        public static final int DEFAULT_INITIAL_SIZE = 12;
+        public static final int DEFAULT_MAX_SIZE = 15;
+        public static final Duration DEFAULT_MAX_IDLE_TIME = Duration.ofMinutes(30);
+        public static final Duration DEFAULT_MAX_LIFE_TIME = Duration.ofMinutes(60);
+        public static final Duration DEFAULT_MAX_ACQUIRE_TIME = Duration.ofSeconds(5);
+        public static final Duration DEFAULT_MAX_CREATE_CONNECTION_TIME = Duration.ofSeconds(5);
+        public static final Duration DEFAULT_BACKGROUND_EVICTION_INTERVAL = Duration.ofMinutes(2);
+        public static final String DEFAULT_VALIDATION_QUERY = "SELECT 1";
+
+        public Pool {
+            if (maxSize == null || maxSize < 1) {
+                maxSize = DEFAULT_MAX_SIZE;
+            }
+            if (initialSize == null || initialSize < 0) {
+                initialSize = Math.min(DEFAULT_INITIAL_SIZE, maxSize);
+            }
+            initialSize = Math.min(initialSize, maxSize);
+            if (maxIdleTime == null) {
+                maxIdleTime = DEFAULT_MAX_IDLE_TIME;
+            }
+            if (maxLifeTime == null) {
+                maxLifeTime = DEFAULT_MAX_LIFE_TIME;
+            }
+            if (maxAcquireTime == null) {
+                maxAcquireTime = DEFAULT_MAX_ACQUIRE_TIME;
+            }
+            if (maxCreateConnectionTime == null) {
+                maxCreateConnectionTime = DEFAULT_MAX_CREATE_CONNECTION_TIME;
+            }
+            if (backgroundEvictionInterval == null) {
+                backgroundEvictionInterval = DEFAULT_BACKGROUND_EVICTION_INTERVAL;
+            }
+            if (validationQuery == null || validationQuery.isBlank()) {
+                validationQuery = DEFAULT_VALIDATION_QUERY;
+            }
+        }
+    }
 }
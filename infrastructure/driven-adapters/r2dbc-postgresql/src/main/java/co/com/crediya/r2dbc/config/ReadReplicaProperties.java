@@ -0,0 +1,50 @@
+package co.com.crediya.r2dbc.config;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Read replicas that serve {@code @Transactional(readOnly = true)} work. They
+ * share the database, schema and credentials of {@code spring.r2dbc}; only the
+ * host and port differ.
+ */
+@ConfigurationProperties(prefix = "adapter.r2dbc.read-replicas")
+public record ReadReplicaProperties(
+        Boolean enabled,
+        List<Endpoint> endpoints,
+        Duration maxLag,
+        Duration checkInterval,
+        Duration checkTimeout) {
+
+    public static final Duration DEFAULT_MAX_LAG = Duration.ofSeconds(5);
+    public static final Duration DEFAULT_CHECK_INTERVAL = Duration.ofSeconds(5);
+    public static final Duration DEFAULT_CHECK_TIMEOUT = Duration.ofSeconds(2);
+
+    public ReadReplicaProperties {
+        if (enabled == null) {
+            enabled = false;
+        }
+        if (endpoints == null) {
+            endpoints = List.of();
+        }
+        if (maxLag == null) {
+            maxLag = DEFAULT_MAX_LAG;
+        }
+        if (checkInterval == null) {
+            checkInterval = DEFAULT_CHECK_INTERVAL;
+        }
+        if (checkTimeout == null) {
+            checkTimeout = DEFAULT_CHECK_TIMEOUT;
+        }
+    }
+
+    public record Endpoint(String host, Integer port) {
+        public Endpoint {
+            if (port == null) {
+                port = PostgreSQLConnectionPool.DEFAULT_PORT;
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package co.com.crediya.r2dbc.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.ReactiveTransactionManager;
+
+import co.com.crediya.r2dbc.routing.ReadOnlyRoutingTransactionManager;
+import co.com.crediya.r2dbc.routing.ReadReplicaRoutingConnectionFactory;
+import co.com.crediya.r2dbc.routing.ReplicaLagMonitor;
+import co.com.crediya.r2dbc.routing.ReplicaNode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+
+/**
+ * Sends {@code @Transactional(readOnly = true)} work to the configured read
+ * replicas. The routing factory becomes the primary ConnectionFactory, so the
+ * DatabaseClient and the Spring Data repositories go through it, and the
+ * transaction manager is replaced by one that exposes the read-only flag
+ * before the connection is acquired.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "adapter.r2dbc.read-replicas", name = "enabled", havingValue = "true")
+public class ReadReplicaRoutingConfig {
+
+    @Bean
+    @Primary
+    public ReadReplicaRoutingConnectionFactory routingConnectionFactory(
+        ConnectionPool primaryPool,
+        PostgresqlConnectionProperties properties,
+        ReadReplicaProperties replicaProperties,
+        MeterRegistry registry
+    ) {
+        List<ReplicaNode> replicas = new ArrayList<>();
+        for (ReadReplicaProperties.Endpoint endpoint : replicaProperties.endpoints()) {
+            String name = endpoint.host() + ":" + endpoint.port();
+            PostgresqlConnectionProperties replica = new PostgresqlConnectionProperties(
+                endpoint.host(),
+                endpoint.port(),
+                properties.database(),
+                properties.schema(),
+                properties.username(),
+                properties.password(),
+                properties.pool());
+            replicas.add(new ReplicaNode(name,
+                PostgreSQLConnectionPool.connectionPool(replica, "api-postgres-replica-pool-" + name, registry)));
+        }
+        return new ReadReplicaRoutingConnectionFactory(primaryPool, replicas, registry);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+        ReadReplicaRoutingConnectionFactory routingConnectionFactory,
+        ReadReplicaProperties replicaProperties,
+        MeterRegistry registry
+    ) {
+        return new ReplicaLagMonitor(
+            routingConnectionFactory.replicas(),
+            replicaProperties.maxLag(),
+            replicaProperties.checkInterval(),
+            replicaProperties.checkTimeout(),
+            registry);
+    }
+
+    @Bean
+    public ReactiveTransactionManager transactionManager(ReadReplicaRoutingConnectionFactory routingConnectionFactory) {
+        return new ReadOnlyRoutingTransactionManager(routingConnectionFactory);
+    }
+}
@@ -0,0 +1,18 @@
+package co.com.crediya.r2dbc.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "adapter.r2dbc.reference-data")
+public record ReferenceDataCacheProperties(
+        Duration refreshInterval) {
+
+    public static final Duration DEFAULT_REFRESH_INTERVAL = Duration.ofMinutes(10);
+
+    public ReferenceDataCacheProperties {
+        if (refreshInterval == null) {
+            refreshInterval = DEFAULT_REFRESH_INTERVAL;
+        }
+    }
+}
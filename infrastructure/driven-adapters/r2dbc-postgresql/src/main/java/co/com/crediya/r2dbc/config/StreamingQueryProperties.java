@@ -0,0 +1,16 @@
+package co.com.crediya.r2dbc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "adapter.r2dbc.streaming")
+public record StreamingQueryProperties(
+        Integer fetchSize) {
+
+    public static final int DEFAULT_FETCH_SIZE = 256;
+
+    public StreamingQueryProperties {
+        if (fetchSize == null || fetchSize < 1) {
+            fetchSize = DEFAULT_FETCH_SIZE;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package co.com.crediya.r2dbc.entity;
 import java.util.UUID;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.Table;
 
@@ -32,4 +33,11 @@ public class ApplicationEntity {
     private Integer loanTypeId;
     @Column("loan_status_id")
     private Integer loanStatusId;
+    @Version
+    @Column("version")
+    private Long version;
+    @Column("monthly_payment")
+    private Double monthlyPayment;
+    @Column("monthly_payment_rate")
+    private Double monthlyPaymentRate;
 }
@@ -0,0 +1,80 @@
+package co.com.crediya.r2dbc.helper;
+
+import java.util.UUID;
+
+import co.com.crediya.model.application.record.ApplicationRecord;
+import co.com.crediya.model.loanstatus.LoanStatus;
+import co.com.crediya.model.loantype.LoanType;
+import io.r2dbc.spi.Readable;
+
+/**
+ * Decodes rows of the applications / loan_type / loan_status join straight
+ * into {@link ApplicationRecord}s. Queries must select {@link #COLUMNS} from
+ * {@link #FROM}, in that order. Both joins are outer joins, matching the
+ * in-memory lookup: an application whose type or status no longer exists is
+ * still returned, with a null loan type or loan status.
+ */
+public final class ApplicationRecordRowDecoder {
+    public static final String COLUMNS =
+        "a.application_id, a.user_email, a.loan_amount, a.loan_term, "
+            + "t.loan_type_id, t.name, t.min_amount, t.max_amount, t.interest_rate, t.auto_validation, "
+            + "s.loan_status_id, s.name, s.description, a.version";
+    public static final String FROM =
+        "applications a"
+            + " LEFT JOIN loan_type t ON t.loan_type_id = a.loan_type_id"
+            + " LEFT JOIN loan_status s ON s.loan_status_id = a.loan_status_id";
+
+    private static final int APPLICATION_ID = 0;
+    private static final int USER_EMAIL = 1;
+    private static final int LOAN_AMOUNT = 2;
+    private static final int LOAN_TERM = 3;
+    private static final int LOAN_TYPE_ID = 4;
+    private static final int LOAN_TYPE_NAME = 5;
+    private static final int MIN_AMOUNT = 6;
+    private static final int MAX_AMOUNT = 7;
+    private static final int INTEREST_RATE = 8;
+    private static final int AUTO_VALIDATION = 9;
+    private static final int LOAN_STATUS_ID = 10;
+    private static final int LOAN_STATUS_NAME = 11;
+    private static final int DESCRIPTION = 12;
+    private static final int VERSION = 13;
+
+    private ApplicationRecordRowDecoder() {
+    }
+
+    public static ApplicationRecord decode(Readable row) {
+        return new ApplicationRecord(
+            row.get(APPLICATION_ID, UUID.class),
+            row.get(USER_EMAIL, String.class),
+            row.get(LOAN_AMOUNT, Double.class),
+            row.get(LOAN_TERM, Double.class),
+            decodeLoanType(row),
+            decodeLoanStatus(row),
+            row.get(VERSION, Long.class));
+    }
+
+    private static LoanType decodeLoanType(Readable row) {
+        Integer loanTypeId = row.get(LOAN_TYPE_ID, Integer.class);
+        if (loanTypeId == null) {
+            return null;
+        }
+        return new LoanType(
+            loanTypeId,
+            row.get(LOAN_TYPE_NAME, String.class),
+            row.get(MIN_AMOUNT, Double.class),
+            row.get(MAX_AMOUNT, Double.class),
+            row.get(INTEREST_RATE, Double.class),
+            row.get(AUTO_VALIDATION, Boolean.class));
+    }
+
+    private static LoanStatus decodeLoanStatus(Readable row) {
+        Integer loanStatusId = row.get(LOAN_STATUS_ID, Integer.class);
+        if (loanStatusId == null) {
+            return null;
+        }
+        return new LoanStatus(
+            loanStatusId,
+            row.get(LOAN_STATUS_NAME, String.class),
+            row.get(DESCRIPTION, String.class));
+    }
+}
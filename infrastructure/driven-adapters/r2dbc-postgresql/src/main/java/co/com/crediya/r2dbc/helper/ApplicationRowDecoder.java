@@ -0,0 +1,44 @@
+package co.com.crediya.r2dbc.helper;
+
+import java.util.UUID;
+
+import co.com.crediya.model.application.Application;
+import io.r2dbc.spi.Readable;
+
+/**
+ * Decodes application rows straight into the domain model, skipping the
+ * intermediate {@code ApplicationEntity} and the mapper. Queries must select
+ * {@link #COLUMNS} first and in that order, so every column is read by its
+ * fixed index instead of being looked up by name on each row. Extra columns,
+ * such as a window count, go after them starting at {@link #NEXT_INDEX}.
+ */
+public final class ApplicationRowDecoder {
+    public static final String COLUMNS =
+        "application_id, user_email, loan_amount, loan_term, loan_type_id, loan_status_id, version, monthly_payment";
+    public static final int NEXT_INDEX = 8;
+
+    private static final int APPLICATION_ID = 0;
+    private static final int USER_EMAIL = 1;
+    private static final int LOAN_AMOUNT = 2;
+    private static final int LOAN_TERM = 3;
+    private static final int LOAN_TYPE_ID = 4;
+    private static final int LOAN_STATUS_ID = 5;
+    private static final int VERSION = 6;
+    private static final int MONTHLY_PAYMENT = 7;
+
+    private ApplicationRowDecoder() {
+    }
+
+    public static Application decode(Readable row) {
+        Application application = new Application(
+            row.get(APPLICATION_ID, UUID.class),
+            row.get(USER_EMAIL, String.class),
+            row.get(LOAN_AMOUNT, Double.class),
+            row.get(LOAN_TERM, Double.class),
+            row.get(LOAN_TYPE_ID, Integer.class),
+            row.get(LOAN_STATUS_ID, Integer.class));
+        application.setVersion(row.get(VERSION, Long.class));
+        application.setMonthlyPayment(row.get(MONTHLY_PAYMENT, Double.class));
+        return application;
+    }
+}
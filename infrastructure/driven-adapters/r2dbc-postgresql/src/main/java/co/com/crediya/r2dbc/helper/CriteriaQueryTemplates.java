@@ -0,0 +1,112 @@
+package co.com.crediya.r2dbc.helper;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Pre-rendered SQL for the application search, keyed by the shape of the
+ * criteria rather than by its values. Every shape always renders to the same
+ * text with the same placeholder numbering, so the driver's per-connection
+ * prepared statement cache parses and plans it only once. The number of
+ * shapes is bounded by the whitelisted filter and sort columns.
+ *
+ * Placeholders are numbered in this order: filter values (in
+ * {@link Shape#filterColumns()} order), the cursor sort value (unless sorting
+ * by application_id), the cursor application_id, LIMIT and OFFSET.
+ */
+@Component
+public class CriteriaQueryTemplates {
+    private static final String APPLICATION_ID = "application_id";
+    /** Filter keys that bound a column instead of matching it exactly. */
+    private static final Map<String, String> RANGE_FILTERS = Map.of(
+        "monthly_payment_min", "monthly_payment >= ",
+        "monthly_payment_max", "monthly_payment <= ");
+
+    private final ConcurrentMap<Shape, Template> templates = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+
+    public CriteriaQueryTemplates(MeterRegistry registry) {
+        this.hits = registry.counter("r2dbc.query.templates.requests", "result", "hit");
+        this.misses = registry.counter("r2dbc.query.templates.requests", "result", "miss");
+        Gauge.builder("r2dbc.query.templates.size", templates, Map::size)
+            .register(registry);
+    }
+
+    public Template get(Shape shape) {
+        Template template = templates.get(shape);
+        if (template != null) {
+            hits.increment();
+            return template;
+        }
+        misses.increment();
+        return templates.computeIfAbsent(shape, CriteriaQueryTemplates::render);
+    }
+
+    static Template render(Shape shape) {
+        StringBuilder where = new StringBuilder(" WHERE 1=1");
+        int placeholder = 0;
+        for (String column : shape.filterColumns()) {
+            where.append(" AND ").append(RANGE_FILTERS.getOrDefault(column, column + " = ")).append("$").append(++placeholder);
+        }
+        String filtersOnly = where.toString();
+
+        if (shape.seek()) {
+            String operator = "DESC".equals(shape.sortDirection()) ? " < " : " > ";
+            if (APPLICATION_ID.equals(shape.sortBy())) {
+                where.append(" AND application_id").append(operator).append("$").append(++placeholder);
+            } else {
+                where.append(" AND (").append(shape.sortBy()).append(", application_id)").append(operator)
+                    .append("($").append(++placeholder).append(", $").append(++placeholder).append(")");
+            }
+        }
+
+        StringBuilder sql = new StringBuilder("SELECT ").append(ApplicationRowDecoder.COLUMNS)
+            .append(shape.window() ? ", COUNT(*) OVER() AS total_count" : "")
+            .append(" FROM applications").append(where);
+
+        if (shape.sortBy() != null) {
+            sql.append(" ORDER BY ").append(shape.sortBy()).append(" ").append(shape.sortDirection());
+            if (!APPLICATION_ID.equals(shape.sortBy())) {
+                sql.append(", application_id ").append(shape.sortDirection());
+            }
+        }
+
+        sql.append(" LIMIT $").append(++placeholder);
+        if (!shape.keyset()) {
+            sql.append(" OFFSET $").append(++placeholder);
+        }
+
+        return new Template(
+            sql.toString(),
+            "SELECT COUNT(*) FROM applications" + filtersOnly,
+            "EXPLAIN (FORMAT JSON) SELECT 1 FROM applications" + filtersOnly);
+    }
+
+    /**
+     * @param filterColumns whitelisted filter columns or range filter keys, sorted
+     * @param sortBy        whitelisted sort column, or null for no ORDER BY
+     * @param sortDirection ASC or DESC
+     * @param seek          whether a cursor predicate is added
+     * @param keyset        keyset mode (no OFFSET)
+     * @param window        whether the total is computed with COUNT(*) OVER()
+     */
+    public record Shape(
+        List<String> filterColumns,
+        String sortBy,
+        String sortDirection,
+        boolean seek,
+        boolean keyset,
+        boolean window
+    ) {}
+
+    public record Template(String dataSql, String countSql, String estimateSql) {}
+}
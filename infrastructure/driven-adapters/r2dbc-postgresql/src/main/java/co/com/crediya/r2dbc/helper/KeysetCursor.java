@@ -0,0 +1,32 @@
+package co.com.crediya.r2dbc.helper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Continuation token for keyset pagination: the sort column and direction the
+ * page was read with, plus the sort key and application_id of its last row.
+ * Serialized as an opaque base64url string; clients must send it back as-is.
+ */
+public record KeysetCursor(String sortBy, String sortDirection, String lastValue, UUID lastApplicationId) {
+    private static final String SEPARATOR = "\n";
+
+    public String encode() {
+        String raw = String.join(SEPARATOR, sortBy, sortDirection, lastValue, lastApplicationId.toString());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, 4);
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("Cursor de paginación inválido");
+            }
+            return new KeysetCursor(parts[0], parts[1], parts[2], UUID.fromString(parts[3]));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Cursor de paginación inválido", e);
+        }
+    }
+}
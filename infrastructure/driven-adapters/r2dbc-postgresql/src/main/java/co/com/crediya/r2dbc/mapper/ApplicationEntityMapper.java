@@ -0,0 +1,15 @@
+package co.com.crediya.r2dbc.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import co.com.crediya.model.application.Application;
+import co.com.crediya.r2dbc.entity.ApplicationEntity;
+
+@Mapper(componentModel = "spring")
+public interface ApplicationEntityMapper {
+    @Mapping(target = "userIdNumber", ignore = true)
+    Application toModel(ApplicationEntity applicationEntity);
+
+    ApplicationEntity toEntity(Application application);
+}
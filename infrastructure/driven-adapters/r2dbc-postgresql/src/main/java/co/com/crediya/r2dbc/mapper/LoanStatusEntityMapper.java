@@ -0,0 +1,13 @@
+package co.com.crediya.r2dbc.mapper;
+
+import org.mapstruct.Mapper;
+
+import co.com.crediya.model.loanstatus.LoanStatus;
+import co.com.crediya.r2dbc.entity.LoanStatusEntity;
+
+@Mapper(componentModel = "spring")
+public interface LoanStatusEntityMapper {
+    LoanStatus toModel(LoanStatusEntity loanStatusEntity);
+
+    LoanStatusEntity toEntity(LoanStatus loanStatus);
+}
@@ -0,0 +1,13 @@
+package co.com.crediya.r2dbc.mapper;
+
+import org.mapstruct.Mapper;
+
+import co.com.crediya.model.loantype.LoanType;
+import co.com.crediya.r2dbc.entity.LoanTypeEntity;
+
+@Mapper(componentModel = "spring")
+public interface LoanTypeEntityMapper {
+    LoanType toModel(LoanTypeEntity loanTypeEntity);
+
+    LoanTypeEntity toEntity(LoanType loanType);
+}
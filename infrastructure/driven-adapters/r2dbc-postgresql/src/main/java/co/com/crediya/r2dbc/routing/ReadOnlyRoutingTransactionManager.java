@@ -0,0 +1,31 @@
+package co.com.crediya.r2dbc.routing;
+
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+
+import io.r2dbc.spi.ConnectionFactory;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link R2dbcTransactionManager} that publishes the read-only flag before it
+ * opens the transaction's connection. The base class only sets it once the
+ * transaction has begun, too late for
+ * {@link ReadReplicaRoutingConnectionFactory} to pick a replica.
+ */
+public class ReadOnlyRoutingTransactionManager extends R2dbcTransactionManager {
+
+    public ReadOnlyRoutingTransactionManager(ConnectionFactory connectionFactory) {
+        super(connectionFactory);
+    }
+
+    @Override
+    protected Mono<Void> doBegin(
+        TransactionSynchronizationManager synchronizationManager,
+        Object transaction,
+        TransactionDefinition definition
+    ) {
+        synchronizationManager.setCurrentTransactionReadOnly(definition.isReadOnly());
+        return super.doBegin(synchronizationManager, transaction, definition);
+    }
+}
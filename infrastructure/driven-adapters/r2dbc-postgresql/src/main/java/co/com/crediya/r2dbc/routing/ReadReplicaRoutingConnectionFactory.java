@@ -0,0 +1,118 @@
+package co.com.crediya.r2dbc.routing;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+/**
+ * Hands out replica connections to read-only transactions and primary
+ * connections to everything else. Replicas are taken round robin among the
+ * ones {@link ReplicaLagMonitor} reports within the lag tolerance; when none
+ * is, or the chosen one cannot open a connection, the primary serves the read.
+ *
+ * The read-only flag must be visible before the connection is requested,
+ * which is what {@link ReadOnlyRoutingTransactionManager} ensures. Callers
+ * that must see their own or very recent writes can pin a read to the primary
+ * with {@link #PRIMARY}.
+ */
+@Slf4j
+public class ReadReplicaRoutingConnectionFactory implements ConnectionFactory, DisposableBean {
+    public static final String CTX_FORCE_PRIMARY = "r2dbc.routing.force-primary";
+    public static final Function<Context, Context> PRIMARY = ctx -> ctx.put(CTX_FORCE_PRIMARY, true);
+
+    private final ConnectionFactory primary;
+    private final List<ReplicaNode> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+
+    private final Counter primaryConnections;
+    private final Counter replicaConnections;
+    private final Counter fallbacks;
+
+    public ReadReplicaRoutingConnectionFactory(ConnectionFactory primary, List<ReplicaNode> replicas, MeterRegistry registry) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.primaryConnections = registry.counter("r2dbc.routing.connections", "target", "primary");
+        this.replicaConnections = registry.counter("r2dbc.routing.connections", "target", "replica");
+        this.fallbacks = registry.counter("r2dbc.routing.connections", "target", "primary-fallback");
+    }
+
+    @Override
+    public Mono<Connection> create() {
+        return Mono.deferContextual(ctx -> {
+            if (Boolean.TRUE.equals(ctx.getOrDefault(CTX_FORCE_PRIMARY, false))) {
+                return fromPrimary();
+            }
+            return TransactionSynchronizationManager.forCurrentTransaction()
+                .map(TransactionSynchronizationManager::isCurrentTransactionReadOnly)
+                .onErrorResume(NoTransactionException.class, e -> Mono.just(false))
+                .flatMap(readOnly -> Boolean.TRUE.equals(readOnly) ? fromReplica() : fromPrimary());
+        });
+    }
+
+    @Override
+    public ConnectionFactoryMetadata getMetadata() {
+        return primary.getMetadata();
+    }
+
+    public List<ReplicaNode> replicas() {
+        return replicas;
+    }
+
+    private Mono<Connection> fromPrimary() {
+        primaryConnections.increment();
+        return Mono.from(primary.create());
+    }
+
+    private Mono<Connection> fromReplica() {
+        ReplicaNode replica = nextHealthyReplica();
+        if (replica == null) {
+            fallbacks.increment();
+            return Mono.from(primary.create());
+        }
+        replicaConnections.increment();
+        return Mono.<Connection>from(replica.connectionFactory().create())
+            .onErrorResume(ex -> {
+                replica.markUnhealthy(ex);
+                fallbacks.increment();
+                return Mono.from(primary.create());
+            });
+    }
+
+    private ReplicaNode nextHealthyReplica() {
+        int size = replicas.size();
+        if (size == 0) {
+            return null;
+        }
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            ReplicaNode replica = replicas.get((start + i) % size);
+            if (replica.isHealthy()) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void destroy() {
+        for (ReplicaNode replica : replicas) {
+            if (replica.connectionFactory() instanceof Disposable disposable) {
+                disposable.dispose();
+            }
+        }
+    }
+}
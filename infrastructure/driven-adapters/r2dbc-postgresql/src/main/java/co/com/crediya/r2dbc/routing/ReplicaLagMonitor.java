@@ -0,0 +1,106 @@
+package co.com.crediya.r2dbc.routing;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.spi.Connection;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Periodically measures the replay lag of every read replica and keeps it in
+ * or out of rotation. A replica whose WAL receive and replay positions match
+ * is caught up and reports no lag, so an idle primary does not make it look
+ * stale; otherwise the lag is the age of the last replayed transaction.
+ * Matching positions only mean "caught up" while the WAL receiver is
+ * streaming: a disconnected receiver stops both positions at the same point,
+ * so a replica without a streaming receiver is taken out of rotation. Reading
+ * the receiver status needs the pg_read_all_stats (or pg_monitor) role. A
+ * failed or timed out probe also takes the replica out of rotation until the
+ * next successful one.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+    /** NULL when the replica is not streaming WAL from the primary. */
+    static final String LAG_QUERY = "SELECT CASE"
+        + " WHEN NOT pg_is_in_recovery() THEN 0"
+        + " WHEN NOT EXISTS (SELECT 1 FROM pg_stat_wal_receiver WHERE status = 'streaming') THEN NULL"
+        + " WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0"
+        + " ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)"
+        + " END::float8";
+
+    private final List<ReplicaNode> replicas;
+    private final Duration maxLag;
+    private final Duration checkInterval;
+    private final Duration checkTimeout;
+
+    private Disposable subscription;
+
+    public ReplicaLagMonitor(
+        List<ReplicaNode> replicas,
+        Duration maxLag,
+        Duration checkInterval,
+        Duration checkTimeout,
+        MeterRegistry registry
+    ) {
+        this.replicas = replicas;
+        this.maxLag = maxLag;
+        this.checkInterval = checkInterval;
+        this.checkTimeout = checkTimeout;
+        for (ReplicaNode replica : replicas) {
+            Gauge.builder("r2dbc.replica.lag", replica, ReplicaNode::lagSeconds)
+                .tag("replica", replica.name())
+                .baseUnit("seconds")
+                .register(registry);
+            Gauge.builder("r2dbc.replica.healthy", replica, node -> node.isHealthy() ? 1 : 0)
+                .tag("replica", replica.name())
+                .register(registry);
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        subscription = Flux.interval(Duration.ZERO, checkInterval)
+            .onBackpressureDrop()
+            .concatMap(tick -> checkAll())
+            .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    Mono<Void> checkAll() {
+        return Flux.fromIterable(replicas)
+            .flatMap(this::check)
+            .then();
+    }
+
+    private Mono<Void> check(ReplicaNode replica) {
+        return Mono.usingWhen(
+                replica.connectionFactory().create(),
+                connection -> Mono.from(connection.createStatement(LAG_QUERY).execute())
+                    .flatMap(result -> Mono.from(result.map((row, rowMetadata) -> Optional.ofNullable(row.get(0, Double.class))))),
+                Connection::close)
+            .timeout(checkTimeout)
+            .doOnNext(lagSeconds -> lagSeconds.ifPresentOrElse(
+                lag -> replica.recordLag(lag, maxLag),
+                () -> replica.markUnhealthy(new IllegalStateException("WAL receiver is not streaming from the primary"))))
+            .onErrorResume(ex -> {
+                log.debug("Lag check on read replica {} failed", replica.name(), ex);
+                replica.markUnhealthy(ex);
+                return Mono.empty();
+            })
+            .then();
+    }
+}
@@ -0,0 +1,58 @@
+package co.com.crediya.r2dbc.routing;
+
+import java.time.Duration;
+
+import io.r2dbc.spi.ConnectionFactory;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A read replica and its last known health. Replicas start unhealthy and only
+ * receive traffic once {@link ReplicaLagMonitor} has measured their lag.
+ */
+@Slf4j
+public class ReplicaNode {
+    private final String name;
+    private final ConnectionFactory connectionFactory;
+
+    private volatile boolean healthy;
+    private volatile double lagSeconds = Double.NaN;
+
+    public ReplicaNode(String name, ConnectionFactory connectionFactory) {
+        this.name = name;
+        this.connectionFactory = connectionFactory;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public ConnectionFactory connectionFactory() {
+        return connectionFactory;
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    public double lagSeconds() {
+        return lagSeconds;
+    }
+
+    void recordLag(double lagSeconds, Duration maxLag) {
+        this.lagSeconds = lagSeconds;
+        boolean withinTolerance = lagSeconds * 1000 <= maxLag.toMillis();
+        if (withinTolerance != healthy) {
+            log.info("Read replica {} is now {} (lag {}s, tolerance {})",
+                name, withinTolerance ? "in rotation" : "out of rotation", lagSeconds, maxLag);
+        }
+        healthy = withinTolerance;
+    }
+
+    void markUnhealthy(Throwable cause) {
+        if (healthy) {
+            log.warn("Read replica {} taken out of rotation: {}", name, cause.getMessage());
+        }
+        lagSeconds = Double.NaN;
+        healthy = false;
+    }
+}
@@ -0,0 +1,149 @@
+package co.com.crediya.r2dbc;
+
+import co.com.crediya.model.application.Application;
+import co.com.crediya.model.application.exception.DataPersistenceException;
+import co.com.crediya.model.application.record.OutboxNotification;
+import co.com.crediya.r2dbc.helper.ApplicationRowDecoder;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.FetchSpec;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BiFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ApplicationOutboxRepositoryAdapterTest {
+
+    @Mock
+    private DatabaseClient databaseClient;
+
+    @Mock
+    private DatabaseClient.GenericExecuteSpec genericExecuteSpec;
+
+    @InjectMocks
+    private ApplicationOutboxRepositoryAdapter adapter;
+
+    private UUID applicationId;
+
+    @BeforeEach
+    void setUp() {
+        applicationId = UUID.randomUUID();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("Should claim pending notifications skipping rows locked by other relays")
+    void shouldClaimPendingNotifications() {
+        // Arrange
+        RowsFetchSpec<OutboxNotification> fetchSpec = mock(RowsFetchSpec.class);
+        ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<BiFunction<Row, RowMetadata, OutboxNotification>> mapping = ArgumentCaptor.forClass(BiFunction.class);
+        when(databaseClient.sql(sqlCaptor.capture())).thenReturn(genericExecuteSpec);
+        doReturn(genericExecuteSpec).when(genericExecuteSpec).bind(anyInt(), any());
+        doReturn(fetchSpec).when(genericExecuteSpec).map(mapping.capture());
+        when(fetchSpec.all()).thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(adapter.claimPending(50, Duration.ofSeconds(30)))
+            .verifyComplete();
+
+        String sql = sqlCaptor.getValue();
+        assertTrue(sql.contains("ORDER BY outbox_id LIMIT $1 FOR UPDATE SKIP LOCKED"));
+        assertTrue(sql.contains("claimed_until IS NULL OR claimed_until < CURRENT_TIMESTAMP"));
+        verify(genericExecuteSpec).bind(0, 50);
+        verify(genericExecuteSpec).bind(1, 30.0);
+
+        Row row = mock(Row.class);
+        when(row.get(0, UUID.class)).thenReturn(applicationId);
+        when(row.get(1, String.class)).thenReturn("test@example.com");
+        when(row.get(5, Integer.class)).thenReturn(3);
+        when(row.get(6, Long.class)).thenReturn(4L);
+        when(row.get(ApplicationRowDecoder.NEXT_INDEX, Long.class)).thenReturn(17L);
+        OutboxNotification notification = mapping.getValue().apply(row, mock(RowMetadata.class));
+        Application application = notification.application();
+        assertEquals(17L, notification.outboxId());
+        assertEquals(applicationId, application.getApplicationId());
+        assertEquals(3, application.getLoanStatusId());
+        assertEquals(4L, application.getVersion());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("Should wrap claim errors in DataPersistenceException")
+    void shouldWrapClaimErrors() {
+        // Arrange
+        RowsFetchSpec<OutboxNotification> fetchSpec = mock(RowsFetchSpec.class);
+        when(databaseClient.sql(anyString())).thenReturn(genericExecuteSpec);
+        doReturn(genericExecuteSpec).when(genericExecuteSpec).bind(anyInt(), any());
+        doReturn(fetchSpec).when(genericExecuteSpec).map(any(BiFunction.class));
+        when(fetchSpec.all()).thenReturn(Flux.error(new RuntimeException("Simulated error")));
+
+        // Act & Assert
+        StepVerifier.create(adapter.claimPending(50, Duration.ofSeconds(30)))
+            .expectError(DataPersistenceException.class)
+            .verify();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("Should delete sent notifications in one statement")
+    void shouldDeleteSentNotifications() {
+        // Arrange
+        FetchSpec<Map<String, Object>> fetchSpec = mock(FetchSpec.class);
+        when(databaseClient.sql(anyString())).thenReturn(genericExecuteSpec);
+        doReturn(genericExecuteSpec).when(genericExecuteSpec).bind(anyInt(), any());
+        doReturn(fetchSpec).when(genericExecuteSpec).fetch();
+        when(fetchSpec.rowsUpdated()).thenReturn(Mono.just(2L));
+
+        // Act & Assert
+        StepVerifier.create(adapter.markSent(List.of(4L, 9L)))
+            .expectNext(2L)
+            .verifyComplete();
+
+        verify(databaseClient).sql("DELETE FROM application_outbox WHERE outbox_id = ANY($1::bigint[])");
+        verify(genericExecuteSpec).bind(0, new Long[] {4L, 9L});
+    }
+
+    @Test
+    @DisplayName("Should not touch the database when nothing was sent")
+    void shouldSkipEmptyMarkSent() {
+        // Act & Assert
+        StepVerifier.create(adapter.markSent(List.of()))
+            .expectNext(0L)
+            .verifyComplete();
+
+        verifyNoInteractions(databaseClient);
+    }
+}
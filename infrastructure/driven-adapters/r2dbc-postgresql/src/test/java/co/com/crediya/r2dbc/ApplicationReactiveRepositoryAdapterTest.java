@@ -1,40 +1,65 @@
 package co.com.crediya.r2dbc;
 
 import co.com.crediya.model.application.Application;
+import co.com.crediya.model.application.criteria.CountStrategy;
+import co.com.crediya.model.application.criteria.PageResult;
 import co.com.crediya.model.application.criteria.SearchCriteria;
+import co.com.crediya.model.application.exception.ConcurrentUpdateException;
 import co.com.crediya.model.application.exception.DataPersistenceException;
 import co.com.crediya.model.application.exception.DataRetrievalException;
+import co.com.crediya.model.application.record.ApplicationRecord;
+import co.com.crediya.r2dbc.config.BulkInsertProperties;
+import co.com.crediya.r2dbc.config.StreamingQueryProperties;
 import co.com.crediya.r2dbc.entity.ApplicationEntity;
+import co.com.crediya.r2dbc.mapper.ApplicationEntityMapper;
+import co.com.crediya.r2dbc.helper.ApplicationRecordRowDecoder;
+import co.com.crediya.r2dbc.helper.ApplicationRowDecoder;
+import co.com.crediya.r2dbc.helper.CriteriaQueryTemplates;
+import co.com.crediya.r2dbc.helper.KeysetCursor;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
-import org.reactivecommons.utils.ObjectMapper;
 import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.FetchSpec;
 import org.springframework.r2dbc.core.RowsFetchSpec;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import io.r2dbc.spi.Statement;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
-import java.util.Collections;
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -45,7 +70,7 @@ class ApplicationReactiveRepositoryAdapterTest {
     private ApplicationReactiveRepository repository;
 
     @Mock
-    private ObjectMapper mapper;
+    private ApplicationEntityMapper mapper;
 
     @Mock
     private DatabaseClient databaseClient;
@@ -54,7 +79,16 @@ class ApplicationReactiveRepositoryAdapterTest {
     private DatabaseClient.GenericExecuteSpec genericExecuteSpec;
 
     @Mock
-    private RowsFetchSpec<ApplicationEntity> rowsFetchSpec;
+    private RowsFetchSpec<Application> rowsFetchSpec;
+
+    @Spy
+    private CriteriaQueryTemplates queryTemplates = new CriteriaQueryTemplates(new SimpleMeterRegistry());
+
+    @Spy
+    private BulkInsertProperties bulkInsertProperties = new BulkInsertProperties(2);
+
+    @Spy
+    private StreamingQueryProperties streamingQueryProperties = new StreamingQueryProperties(50);
 
     @InjectMocks
     private ApplicationReactiveRepositoryAdapter adapter;
@@ -106,25 +140,39 @@ class ApplicationReactiveRepositoryAdapterTest {
         applicationEntity2.setLoanStatusId(1);
     }
 
+    @SuppressWarnings("unchecked")
     @Test
     @DisplayName("Should get all applications successfully")
     void shouldGetAllApplicationsSuccessfully() {
         // Arrange
-        when(repository.findAll()).thenReturn(Flux.just(applicationEntity1, applicationEntity2));
-        when(mapper.map(applicationEntity1, Application.class)).thenReturn(application1);
-        when(mapper.map(applicationEntity2, Application.class)).thenReturn(application2);
+        when(databaseClient.sql(anyString())).thenReturn(genericExecuteSpec);
+        doReturn(genericExecuteSpec).when(genericExecuteSpec).filter(any(Function.class));
+        doReturn(rowsFetchSpec).when(genericExecuteSpec).map(any(BiFunction.class));
+        when(rowsFetchSpec.all()).thenReturn(Flux.just(application1, application2));
 
         // Act & Assert
         StepVerifier.create(adapter.getAllApplications())
             .expectNext(application1, application2)
             .verifyComplete();
+
+        verify(databaseClient).sql("SELECT " + ApplicationRowDecoder.COLUMNS + " FROM applications");
+
+        ArgumentCaptor<Function<Statement, Statement>> filter = ArgumentCaptor.forClass(Function.class);
+        verify(genericExecuteSpec).filter(filter.capture());
+        Statement statement = mock(Statement.class);
+        filter.getValue().apply(statement);
+        verify(statement).fetchSize(50);
     }
 
+    @SuppressWarnings("unchecked")
     @Test
     @DisplayName("Should return DataRetrievalException when getAllApplications fails")
     void shouldReturnDataRetrievalExceptionWhenGetAllApplicationsFails() {
         // Arrange
-        when(repository.findAll()).thenReturn(Flux.error(new RuntimeException("Simulated error")));
+        when(databaseClient.sql(anyString())).thenReturn(genericExecuteSpec);
+        doReturn(genericExecuteSpec).when(genericExecuteSpec).filter(any(Function.class));
+        doReturn(rowsFetchSpec).when(genericExecuteSpec).map(any(BiFunction.class));
+        when(rowsFetchSpec.all()).thenReturn(Flux.error(new RuntimeException("Simulated error")));
 
         // Act & Assert
         StepVerifier.create(adapter.getAllApplications())
@@ -132,26 +180,57 @@ class ApplicationReactiveRepositoryAdapterTest {
             .verify();
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("Should read an application with its type and status in one joined query")
+    void shouldGetApplicationRecordByApplicationIdWithOneQuery() {
+        // Arrange
+        ApplicationRecord applicationRecord = new ApplicationRecord(applicationId1, "test1@example.com", 10000.0, 36.0, null, null, null);
+        RowsFetchSpec<ApplicationRecord> recordsFetchSpec = mock(RowsFetchSpec.class);
+        when(databaseClient.sql(anyString())).thenReturn(genericExecuteSpec);
+        doReturn(genericExecuteSpec).when(genericExecuteSpec).bind(anyInt(), any());
+        doReturn(recordsFetchSpec).when(genericExecuteSpec).map(any(BiFunction.class));
+        when(recordsFetchSpec.one()).thenReturn(Mono.just(applicationRecord));
+
+        // Act & Assert
+        StepVerifier.create(adapter.getApplicationRecordByApplicationId(applicationId1))
+            .expectNext(applicationRecord)
+            .verifyComplete();
+
+        verify(databaseClient).sql("SELECT " + ApplicationRecordRowDecoder.COLUMNS + " FROM "
+            + ApplicationRecordRowDecoder.FROM + " WHERE a.application_id = $1");
+        verify(genericExecuteSpec).bind(0, applicationId1);
+    }
+
+    @SuppressWarnings("unchecked")
     @Test
     @DisplayName("Should get applications by user email successfully")
     void shouldGetApplicationsByUserEmailSuccessfully() {
         // Arrange
         String userEmail = "test1@example.com";
-        when(repository.findByUserEmail(userEmail)).thenReturn(Flux.just(applicationEntity1));
-        when(mapper.map(applicationEntity1, Application.class)).thenReturn(application1);
+        when(databaseClient.sql(anyString())).thenReturn(genericExecuteSpec);
+        doReturn(genericExecuteSpec).when(genericExecuteSpec).bind(anyInt(), any());
+        doReturn(rowsFetchSpec).when(genericExecuteSpec).map(any(BiFunction.class));
+        when(rowsFetchSpec.all()).thenReturn(Flux.just(application1));
 
         // Act & Assert
         StepVerifier.create(adapter.getApplicationsByUserEmail(userEmail))
             .expectNext(application1)
             .verifyComplete();
+
+        verify(genericExecuteSpec).bind(0, userEmail);
     }
 
+    @SuppressWarnings("unchecked")
     @Test
     @DisplayName("Should return DataRetrievalException when getApplicationsByUserEmail fails")
     void shouldReturnDataRetrievalExceptionWhenGetApplicationsByUserEmailFails() {
         // Arrange
         String userEmail = "test1@example.com";
-        when(repository.findByUserEmail(userEmail)).thenReturn(Flux.error(new RuntimeException("Simulated error")));
+        when(databaseClient.sql(anyString())).thenReturn(genericExecuteSpec);
+        doReturn(genericExecuteSpec).when(genericExecuteSpec).bind(anyInt(), any());
+        doReturn(rowsFetchSpec).when(genericExecuteSpec).map(any(BiFunction.class));
+        when(rowsFetchSpec.all()).thenReturn(Flux.error(new RuntimeException("Simulated error")));
 
         // Act & Assert
         StepVerifier.create(adapter.getApplicationsByUserEmail(userEmail))
@@ -165,7 +244,7 @@ class ApplicationReactiveRepositoryAdapterTest {
         // Arrange
         UUID applicationId = applicationId1;
         when(repository.findById(applicationId)).thenReturn(Mono.just(applicationEntity1));
-        when(mapper.map(applicationEntity1, Application.class)).thenReturn(application1);
+        when(mapper.toModel(applicationEntity1)).thenReturn(application1);
 
         // Act & Assert
         StepVerifier.create(adapter.getApplicationsByApplicationId(applicationId))
@@ -190,9 +269,9 @@ class ApplicationReactiveRepositoryAdapterTest {
     @DisplayName("Should save application successfully")
     void shouldSaveApplicationSuccessfully() {
         // Arrange
-        when(mapper.map(application1, ApplicationEntity.class)).thenReturn(applicationEntity1);
+        when(mapper.toEntity(application1)).thenReturn(applicationEntity1);
         when(repository.save(any(ApplicationEntity.class))).thenReturn(Mono.just(applicationEntity1));
-        when(mapper.map(applicationEntity1, Application.class)).thenReturn(application1);
+        when(mapper.toModel(applicationEntity1)).thenReturn(application1);
 
         // Act & Assert
         StepVerifier.create(adapter.saveApplication(Mono.just(application1)))
@@ -204,7 +283,7 @@ class ApplicationReactiveRepositoryAdapterTest {
     @DisplayName("Should return DataPersistenceException when saveApplication fails")
     void shouldReturnDataPersistenceExceptionWhenSaveApplicationFails() {
         // Arrange
-        when(mapper.map(application1, ApplicationEntity.class)).thenReturn(applicationEntity1);
+        when(mapper.toEntity(application1)).thenReturn(applicationEntity1);
         when(repository.save(any(ApplicationEntity.class))).thenReturn(Mono.error(new RuntimeException("Simulated save error")));
 
         // Act & Assert
@@ -213,6 +292,191 @@ class ApplicationReactiveRepositoryAdapterTest {
             .verify();
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("Should insert bulk rows with one multi-row statement per batch")
+    void shouldSaveApplicationsInBatches() {
+        // Arrange
+        RowsFetchSpec<UUID> idsFetchSpec = mock(RowsFetchSpec.class);
+        ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+        when(databaseClient.sql(sqlCaptor.capture())).thenReturn(genericExecuteSpec);
+        doReturn(genericExecuteSpec).when(genericExecuteSpec).bind(anyInt(), any());
+        doReturn(genericExecuteSpec).when(genericExecuteSpec).bindNull(anyInt(), any());
+        doReturn(idsFetchSpec).when(genericExecuteSpec).map(any(BiFunction.class));
+        when(idsFetchSpec.all())
+            .thenReturn(Flux.just(applicationId1, applicationId2))
+            .thenReturn(Flux.just(UUID.randomUUID()));
+
+        // Act & Assert
+        StepVerifier.create(adapter.saveApplications(Flux.just(application1, application2, application1)))
+            .assertNext(result -> {
+                assertEquals(3, result.received());
+                assertEquals(3, result.saved());
+                assertTrue(result.errors().isEmpty());
+            })
+            .verifyComplete();
+
+        assertEquals(2, sqlCaptor.getAllValues().size());
+        assertTrue(sqlCaptor.getAllValues().get(0).endsWith(
+            "VALUES ($1, $2, $3, $4, $5, $6, $7, $8), ($9, $10, $11, $12, $13, $14, $15, $16) RETURNING application_id"));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("Should retry a failed batch row by row and report the failing rows")
+    void shouldReportFailingRowsOfBulkInsert() {
+        // Arrange
+        RowsFetchSpec<UUID> idsFetchSpec = mock(RowsFetchSpec.class);
+        when(databaseClient.sql(anyString())).thenReturn(genericExecuteSpec);
+        doReturn(genericExecuteSpec).when(genericExecuteSpec).bind(anyInt(), any());
+        doReturn(genericExecuteSpec).when(genericExecuteSpec).bindNull(anyInt(), any());
+        doReturn(idsFetchSpec).when(genericExecuteSpec).map(any(BiFunction.class));
+        when(idsFetchSpec.all())
+            .thenReturn(Flux.error(new RuntimeException("violates check constraint")))
+            .thenReturn(Flux.just(applicationId1))
+            .thenReturn(Flux.error(new RuntimeException("violates check constraint")))
+            .thenReturn(Flux.just(UUID.randomUUID()));
+
+        // Act & Assert
+        StepVerifier.create(adapter.saveApplications(Flux.just(application1, application2, application1)))
+            .assertNext(result -> {
+                assertEquals(3, result.received());
+                assertEquals(2, result.saved());
+                assertEquals(1, result.errors().size());
+                assertEquals(1, result.errors().get(0).index());
+            })
+            .verifyComplete();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("Should update the status and bump the version in one statement")
+    void shouldUpdateApplicationStatusAtomically() {
+        // Arrange
+        ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+        when(databaseClient.sql(sqlCaptor.capture())).thenReturn(genericExecuteSpec);
+        doReturn(genericExecuteSpec).when(genericExecuteSpec).bind(anyInt(), any());
+        doReturn(rowsFetchSpec).when(genericExecuteSpec).map(any(BiFunction.class));
+        when(rowsFetchSpec.first()).thenReturn(Mono.just(application1));
+
+        // Act & Assert
+        StepVerifier.create(adapter.updateApplicationStatus(applicationId1, 2, 3L))
+            .expectNext(application1)
+            .verifyComplete();
+
+        assertTrue(sqlCaptor.getValue().contains("version = version + 1 WHERE application_id = $2 AND version = $3 RETURNING"));
+        assertTrue(sqlCaptor.getValue().contains("INSERT INTO application_outbox (application_id, loan_status_id, version)"));
+        verify(genericExecuteSpec).bind(0, 2);
+        verify(genericExecuteSpec).bind(1, applicationId1);
+        verify(genericExecuteSpec).bind(2, 3L);
+        verify(repository, times(0)).existsById(any(UUID.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("Should report a conflict when the expected version is stale")
+    void shouldFailWithConflictWhenVersionIsStale() {
+        // Arrange
+        when(databaseClient.sql(anyString())).thenReturn(genericExecuteSpec);
+        doReturn(genericExecuteSpec).when(genericExecuteSpec).bind(anyInt(), any());
+        doReturn(rowsFetchSpec).when(genericExecuteSpec).map(any(BiFunction.class));
+        when(rowsFetchSpec.first()).thenReturn(Mono.empty());
+        when(repository.existsById(applicationId1)).thenReturn(Mono.just(true));
+
+        // Act & Assert
+        StepVerifier.create(adapter.updateApplicationStatus(applicationId1, 2, 3L))
+            .expectError(ConcurrentUpdateException.class)
+            .verify();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("Should complete empty when the application does not exist")
+    void shouldCompleteEmptyWhenUpdatedApplicationDoesNotExist() {
+        // Arrange
+        when(databaseClient.sql(anyString())).thenReturn(genericExecuteSpec);
+        doReturn(genericExecuteSpec).when(genericExecuteSpec).bind(anyInt(), any());
+        doReturn(rowsFetchSpec).when(genericExecuteSpec).map(any(BiFunction.class));
+        when(rowsFetchSpec.first()).thenReturn(Mono.empty());
+        when(repository.existsById(applicationId1)).thenReturn(Mono.just(false));
+
+        // Act & Assert
+        StepVerifier.create(adapter.updateApplicationStatus(applicationId1, 2, 3L))
+            .verifyComplete();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("Should read the next chunk of applications priced with a rate other than the loan type's stored one")
+    void shouldGetApplicationsWithStaleMonthlyPayment() {
+        // Arrange
+        ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+        when(databaseClient.sql(sqlCaptor.capture())).thenReturn(genericExecuteSpec);
+        doReturn(genericExecuteSpec).when(genericExecuteSpec).bind(anyInt(), any());
+        doReturn(rowsFetchSpec).when(genericExecuteSpec).map(any(BiFunction.class));
+        when(rowsFetchSpec.all()).thenReturn(Flux.just(application2));
+
+        // Act & Assert
+        StepVerifier.create(adapter.getApplicationsWithStaleMonthlyPayment(1, applicationId1, 100))
+            .expectNext(application2)
+            .verifyComplete();
+
+        assertEquals("SELECT " + ApplicationRowDecoder.COLUMNS + " FROM applications"
+            + " WHERE loan_type_id = $1"
+            + " AND monthly_payment_rate IS DISTINCT FROM (SELECT interest_rate FROM loan_type WHERE loan_type_id = $1)"
+            + " AND application_id > $3 ORDER BY application_id LIMIT $2", sqlCaptor.getValue());
+        verify(genericExecuteSpec).bind(1, 100);
+        verify(genericExecuteSpec).bind(2, applicationId1);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("Should store recalculated monthly payments in a single statement")
+    void shouldUpdateMonthlyPaymentsInOneStatement() {
+        // Arrange
+        FetchSpec<Map<String, Object>> fetchSpec = mock(FetchSpec.class);
+        when(databaseClient.sql(anyString())).thenReturn(genericExecuteSpec);
+        doReturn(genericExecuteSpec).when(genericExecuteSpec).bind(anyInt(), any());
+        doReturn(fetchSpec).when(genericExecuteSpec).fetch();
+        when(fetchSpec.rowsUpdated()).thenReturn(Mono.just(2L));
+        application1.setMonthlyPayment(435.12);
+        application1.setMonthlyPaymentRate(12.5);
+        application2.setMonthlyPayment(870.24);
+        application2.setMonthlyPaymentRate(12.5);
+
+        // Act & Assert
+        StepVerifier.create(adapter.updateMonthlyPayments(List.of(application1, application2)))
+            .expectNext(2L)
+            .verifyComplete();
+
+        verify(genericExecuteSpec).bind(0, new UUID[] {applicationId1, applicationId2});
+        verify(genericExecuteSpec).bind(1, new BigDecimal[] {new BigDecimal("435.12"), new BigDecimal("870.24")});
+        verify(genericExecuteSpec).bind(2, new BigDecimal[] {new BigDecimal("12.5"), new BigDecimal("12.5")});
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("Should update every status in a single statement")
+    void shouldUpdateApplicationStatusesInOneStatement() {
+        // Arrange
+        ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+        when(databaseClient.sql(sqlCaptor.capture())).thenReturn(genericExecuteSpec);
+        doReturn(genericExecuteSpec).when(genericExecuteSpec).bind(anyInt(), any());
+        doReturn(rowsFetchSpec).when(genericExecuteSpec).map(any(BiFunction.class));
+        when(rowsFetchSpec.all()).thenReturn(Flux.just(application1, application2));
+
+        // Act & Assert
+        StepVerifier.create(adapter.updateApplicationStatuses(List.of(application1, application2)))
+            .expectNext(application1, application2)
+            .verifyComplete();
+
+        assertTrue(sqlCaptor.getValue().contains("FROM unnest($1::uuid[], $2::int[])"));
+        assertTrue(sqlCaptor.getValue().contains("INSERT INTO application_outbox (application_id, loan_status_id, version)"));
+        verify(databaseClient, times(1)).sql(anyString());
+        verify(genericExecuteSpec).bind(0, new UUID[] {applicationId1, applicationId2});
+        verify(genericExecuteSpec).bind(1, new Integer[] {1, 1});
+    }
+
     @SuppressWarnings("unchecked")
     @Test
     @DisplayName("Should find applications by criteria successfully")
@@ -226,7 +490,6 @@ class ApplicationReactiveRepositoryAdapterTest {
                 .filters(Map.of("loan_type_id", 1))
                 .build();
 
-        List<ApplicationEntity> applicationEntities = Collections.singletonList(applicationEntity1);
 
         // Crear el mock para la consulta de conteo primero
         DatabaseClient.GenericExecuteSpec countSpec = mock(DatabaseClient.GenericExecuteSpec.class);
@@ -241,8 +504,7 @@ class ApplicationReactiveRepositoryAdapterTest {
         doReturn(genericExecuteSpec).when(genericExecuteSpec).bind(anyInt(), any());
         // Corregir el método map para usar BiFunction en lugar de Function
         doReturn(rowsFetchSpec).when(genericExecuteSpec).map(any(BiFunction.class));
-        when(rowsFetchSpec.all()).thenReturn(Flux.fromIterable(applicationEntities));
-        when(mapper.map(applicationEntity1, Application.class)).thenReturn(application1);
+        when(rowsFetchSpec.all()).thenReturn(Flux.just(application1));
 
         // Configuración para la consulta de conteo
         doReturn(countSpec).when(countSpec).bind(anyInt(), any());
@@ -269,7 +531,6 @@ class ApplicationReactiveRepositoryAdapterTest {
                 .size(10)
                 .build();
 
-        List<ApplicationEntity> applicationEntities = Collections.singletonList(applicationEntity1);
 
         // Crear el mock para la consulta de conteo primero
         DatabaseClient.GenericExecuteSpec countSpec = mock(DatabaseClient.GenericExecuteSpec.class);
@@ -284,8 +545,7 @@ class ApplicationReactiveRepositoryAdapterTest {
         doReturn(genericExecuteSpec).when(genericExecuteSpec).bind(anyInt(), any());
         // Corregir el método map para usar BiFunction en lugar de Function
         doReturn(rowsFetchSpec).when(genericExecuteSpec).map(any(BiFunction.class));
-        when(rowsFetchSpec.all()).thenReturn(Flux.fromIterable(applicationEntities));
-        when(mapper.map(applicationEntity1, Application.class)).thenReturn(application1);
+        when(rowsFetchSpec.all()).thenReturn(Flux.just(application1));
 
         // Configuración para la consulta de conteo
         doReturn(countSpec).when(countSpec).bind(anyInt(), any());
@@ -366,8 +626,7 @@ class ApplicationReactiveRepositoryAdapterTest {
         doReturn(genericExecuteSpec).when(genericExecuteSpec).bind(anyInt(), any());
         // Corregir el método map para usar BiFunction en lugar de Function
         doReturn(rowsFetchSpec).when(genericExecuteSpec).map(any(BiFunction.class));
-        when(rowsFetchSpec.all()).thenReturn(Flux.just(applicationEntity1));
-        when(mapper.map(applicationEntity1, Application.class)).thenReturn(application1);
+        when(rowsFetchSpec.all()).thenReturn(Flux.just(application1));
 
         // Configuración para la consulta de conteo
         doReturn(countSpec).when(countSpec).bind(anyInt(), any());
@@ -381,6 +640,150 @@ class ApplicationReactiveRepositoryAdapterTest {
                 .verify();
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("Should seek past the cursor and return the next cursor in keyset mode")
+    void shouldSeekPastCursorInKeysetMode() {
+        // Arrange
+        String cursor = new KeysetCursor("loan_amount", "ASC", "5000", UUID.randomUUID()).encode();
+        SearchCriteria criteria = SearchCriteria.builder()
+                .page(0)
+                .size(1)
+                .sortBy("loan_amount")
+                .sortDirection("asc")
+                .cursor(cursor)
+                .build();
+
+        DatabaseClient.GenericExecuteSpec countSpec = mock(DatabaseClient.GenericExecuteSpec.class);
+        RowsFetchSpec<Long> countRowsFetchSpec = mock(RowsFetchSpec.class);
+        ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+
+        when(databaseClient.sql(sqlCaptor.capture()))
+            .thenReturn(genericExecuteSpec)
+            .thenReturn(countSpec);
+
+        doReturn(genericExecuteSpec).when(genericExecuteSpec).bind(anyInt(), any());
+        doReturn(rowsFetchSpec).when(genericExecuteSpec).map(any(BiFunction.class));
+        when(rowsFetchSpec.all()).thenReturn(Flux.just(application1, application2));
+
+        doReturn(countSpec).when(countSpec).bind(anyInt(), any());
+        doReturn(countRowsFetchSpec).when(countSpec).map(any(BiFunction.class));
+        when(countRowsFetchSpec.first()).thenReturn(Mono.just(2L));
+
+        // Act & Assert
+        StepVerifier.create(adapter.findByCriteria(criteria))
+                .expectNextMatches(pageResult ->
+                        pageResult.getContent().equals(List.of(application1)) &&
+                                pageResult.isHasNext() &&
+                                KeysetCursor.decode(pageResult.getNextCursor()).lastApplicationId().equals(applicationId1))
+                .verifyComplete();
+
+        String sql = sqlCaptor.getAllValues().get(0);
+        assertTrue(sql.contains("(loan_amount, application_id) > ($1, $2)"));
+        assertTrue(sql.contains("ORDER BY loan_amount ASC, application_id ASC LIMIT $3"));
+        assertFalse(sql.contains("OFFSET"));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("Should skip the count query and fetch one extra row with the NONE count strategy")
+    void shouldSkipCountWithNoneStrategy() {
+        // Arrange
+        SearchCriteria criteria = SearchCriteria.builder()
+                .page(0)
+                .size(1)
+                .countStrategy(CountStrategy.NONE)
+                .build();
+
+        when(databaseClient.sql(anyString())).thenReturn(genericExecuteSpec);
+        doReturn(genericExecuteSpec).when(genericExecuteSpec).bind(anyInt(), any());
+        doReturn(rowsFetchSpec).when(genericExecuteSpec).map(any(BiFunction.class));
+        when(rowsFetchSpec.all()).thenReturn(Flux.just(application1, application2));
+
+        // Act & Assert
+        StepVerifier.create(adapter.findByCriteria(criteria))
+                .expectNextMatches(pageResult ->
+                        pageResult.getContent().equals(List.of(application1)) &&
+                                pageResult.isHasNext() &&
+                                pageResult.getTotalElements() == PageResult.UNKNOWN_TOTAL &&
+                                pageResult.getCountStrategy() == CountStrategy.NONE)
+                .verifyComplete();
+
+        verify(databaseClient, times(1)).sql(anyString());
+        verify(genericExecuteSpec).bind(0, 2);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("Should read the total from the page query with the WINDOW count strategy")
+    void shouldCountInPageQueryWithWindowStrategy() {
+        // Arrange
+        SearchCriteria criteria = SearchCriteria.builder()
+                .page(0)
+                .size(10)
+                .countStrategy(CountStrategy.WINDOW)
+                .build();
+
+        RowsFetchSpec<Object> windowRowsFetchSpec = mock(RowsFetchSpec.class);
+        ArgumentCaptor<BiFunction<Row, RowMetadata, Object>> mapperCaptor = ArgumentCaptor.forClass(BiFunction.class);
+        Row row = mock(Row.class);
+        when(row.get(0, UUID.class)).thenReturn(applicationId1);
+        when(row.get(ApplicationRowDecoder.NEXT_INDEX, Long.class)).thenReturn(42L);
+
+        when(databaseClient.sql(anyString())).thenReturn(genericExecuteSpec);
+        doReturn(genericExecuteSpec).when(genericExecuteSpec).bind(anyInt(), any());
+        doReturn(windowRowsFetchSpec).when(genericExecuteSpec).map(mapperCaptor.capture());
+        when(windowRowsFetchSpec.all()).thenAnswer(invocation -> Flux.just(mapperCaptor.getValue().apply(row, null)));
+
+        // Act & Assert
+        StepVerifier.create(adapter.findByCriteria(criteria))
+                .expectNextMatches(pageResult ->
+                        pageResult.getContent().size() == 1 &&
+                                pageResult.getContent().get(0).getApplicationId().equals(applicationId1) &&
+                                pageResult.getTotalElements() == 42L &&
+                                pageResult.getCountStrategy() == CountStrategy.WINDOW)
+                .verifyComplete();
+
+        verify(databaseClient).sql(startsWith(
+                "SELECT " + ApplicationRowDecoder.COLUMNS + ", COUNT(*) OVER() AS total_count FROM applications"));
+        verify(databaseClient, times(1)).sql(anyString());
+    }
+
+    @Test
+    @DisplayName("Should return IllegalArgumentException when the cursor does not match the sort")
+    void shouldReturnIllegalArgumentExceptionForMismatchedCursor() {
+        // Arrange
+        SearchCriteria criteria = SearchCriteria.builder()
+                .page(0)
+                .size(10)
+                .sortBy("user_email")
+                .sortDirection("asc")
+                .cursor(new KeysetCursor("loan_amount", "ASC", "5000", UUID.randomUUID()).encode())
+                .build();
+
+        // Act & Assert
+        StepVerifier.create(adapter.findByCriteria(criteria))
+                .expectErrorMatches(error -> error instanceof IllegalArgumentException
+                        && error.getMessage().equals("El cursor no corresponde al ordenamiento solicitado"))
+                .verify();
+        verifyNoInteractions(databaseClient);
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException for invalid sort direction")
+    void shouldThrowIllegalArgumentExceptionForInvalidSortDirection() {
+        // Arrange
+        SearchCriteria criteria = SearchCriteria.builder()
+                .page(0)
+                .size(10)
+                .sortBy("loan_amount")
+                .sortDirection("asc; DROP TABLE applications")
+                .build();
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> adapter.findByCriteria(criteria));
+    }
+
     @Test
     @DisplayName("Should throw IllegalArgumentException for invalid filter column")
     void shouldThrowIllegalArgumentExceptionForInvalidFilterColumn() {
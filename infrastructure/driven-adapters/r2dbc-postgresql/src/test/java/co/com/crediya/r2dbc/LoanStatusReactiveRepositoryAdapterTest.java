@@ -3,6 +3,7 @@ package co.com.crediya.r2dbc;
 import co.com.crediya.model.application.exception.DataRetrievalException;
 import co.com.crediya.model.loanstatus.LoanStatus;
 import co.com.crediya.r2dbc.entity.LoanStatusEntity;
+import co.com.crediya.r2dbc.mapper.LoanStatusEntityMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -10,7 +11,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.reactivecommons.utils.ObjectMapper;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -24,7 +24,7 @@ class LoanStatusReactiveRepositoryAdapterTest {
     private LoanStatusReactiveRepository repository;
 
     @Mock
-    private ObjectMapper mapper;
+    private LoanStatusEntityMapper mapper;
 
     @InjectMocks
     private LoanStatusReactiveRepositoryAdapter adapter;
@@ -50,8 +50,8 @@ class LoanStatusReactiveRepositoryAdapterTest {
     void shouldGetAllLoanStatusesSuccessfully() {
         // Arrange
         when(repository.findAll()).thenReturn(Flux.just(loanStatusEntity1, loanStatusEntity2));
-        when(mapper.map(loanStatusEntity1, LoanStatus.class)).thenReturn(loanStatus1);
-        when(mapper.map(loanStatusEntity2, LoanStatus.class)).thenReturn(loanStatus2);
+        when(mapper.toModel(loanStatusEntity1)).thenReturn(loanStatus1);
+        when(mapper.toModel(loanStatusEntity2)).thenReturn(loanStatus2);
 
         // Act & Assert
         StepVerifier.create(adapter.getAllLoanStatuses())
@@ -77,7 +77,7 @@ class LoanStatusReactiveRepositoryAdapterTest {
         // Arrange
         int loanStatusId = 1;
         when(repository.findById(loanStatusId)).thenReturn(Mono.just(loanStatusEntity1));
-        when(mapper.map(loanStatusEntity1, LoanStatus.class)).thenReturn(loanStatus1);
+        when(mapper.toModel(loanStatusEntity1)).thenReturn(loanStatus1);
 
         // Act & Assert
         StepVerifier.create(adapter.getLoanStatusById(loanStatusId))
@@ -3,6 +3,7 @@ package co.com.crediya.r2dbc;
 import co.com.crediya.model.application.exception.DataRetrievalException;
 import co.com.crediya.model.loantype.LoanType;
 import co.com.crediya.r2dbc.entity.LoanTypeEntity;
+import co.com.crediya.r2dbc.mapper.LoanTypeEntityMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -10,7 +11,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.reactivecommons.utils.ObjectMapper;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -24,7 +24,7 @@ class LoanTypeReactiveRepositoryAdapterTest {
     private LoanTypeReactiveRepository repository;
 
     @Mock
-    private ObjectMapper mapper;
+    private LoanTypeEntityMapper mapper;
 
     @InjectMocks
     private LoanTypeReactiveRepositoryAdapter adapter;
@@ -50,8 +50,8 @@ class LoanTypeReactiveRepositoryAdapterTest {
     void shouldGetAllLoanTypesSuccessfully() {
         // Arrange
         when(repository.findAll()).thenReturn(Flux.just(loanTypeEntity1, loanTypeEntity2));
-        when(mapper.map(loanTypeEntity1, LoanType.class)).thenReturn(loanType1);
-        when(mapper.map(loanTypeEntity2, LoanType.class)).thenReturn(loanType2);
+        when(mapper.toModel(loanTypeEntity1)).thenReturn(loanType1);
+        when(mapper.toModel(loanTypeEntity2)).thenReturn(loanType2);
 
         // Act & Assert
         StepVerifier.create(adapter.getAllLoanTypes())
@@ -77,7 +77,7 @@ class LoanTypeReactiveRepositoryAdapterTest {
         // Arrange
         int loanTypeId = 1;
         when(repository.findById(loanTypeId)).thenReturn(Mono.just(loanTypeEntity1));
-        when(mapper.map(loanTypeEntity1, LoanType.class)).thenReturn(loanType1);
+        when(mapper.toModel(loanTypeEntity1)).thenReturn(loanType1);
 
         // Act & Assert
         StepVerifier.create(adapter.getLoanTypeById(loanTypeId))
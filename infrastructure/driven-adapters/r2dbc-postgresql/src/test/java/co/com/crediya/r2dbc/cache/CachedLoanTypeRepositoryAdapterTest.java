@@ -0,0 +1,69 @@
+package co.com.crediya.r2dbc.cache;
+
+import co.com.crediya.model.loantype.LoanType;
+import co.com.crediya.r2dbc.LoanTypeReactiveRepositoryAdapter;
+import co.com.crediya.r2dbc.config.ReferenceDataCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachedLoanTypeRepositoryAdapterTest {
+
+    @Mock
+    private LoanTypeReactiveRepositoryAdapter delegate;
+
+    private CachedLoanTypeRepositoryAdapter adapter;
+
+    private LoanType loanType1;
+    private LoanType loanType2;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new CachedLoanTypeRepositoryAdapter(delegate, new ReferenceDataCacheProperties(null), new SimpleMeterRegistry());
+        loanType1 = LoanType.builder().loanTypeId(1).name("Personal Loan").build();
+        loanType2 = LoanType.builder().loanTypeId(2).name("Car Loan").build();
+    }
+
+    @Test
+    @DisplayName("Should query the loan types table only once")
+    void shouldQueryLoanTypesOnlyOnce() {
+        // Arrange
+        when(delegate.getAllLoanTypes()).thenReturn(Flux.just(loanType1, loanType2));
+
+        // Act & Assert
+        StepVerifier.create(adapter.getAllLoanTypes())
+            .expectNext(loanType1, loanType2)
+            .verifyComplete();
+        StepVerifier.create(adapter.getLoanTypeById(2))
+            .expectNext(loanType2)
+            .verifyComplete();
+
+        verify(delegate, times(1)).getAllLoanTypes();
+    }
+
+    @Test
+    @DisplayName("Should fall back to the database when the loan type is not cached")
+    void shouldFallBackToDatabaseWhenNotCached() {
+        // Arrange
+        LoanType loanType3 = LoanType.builder().loanTypeId(3).name("Mortgage").build();
+        when(delegate.getAllLoanTypes()).thenReturn(Flux.just(loanType1));
+        when(delegate.getLoanTypeById(3)).thenReturn(Mono.just(loanType3));
+
+        // Act & Assert
+        StepVerifier.create(adapter.getLoanTypeById(3))
+            .expectNext(loanType3)
+            .verifyComplete();
+    }
+}
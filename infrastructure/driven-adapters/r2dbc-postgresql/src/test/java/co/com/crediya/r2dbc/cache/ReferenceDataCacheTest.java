@@ -0,0 +1,146 @@
+package co.com.crediya.r2dbc.cache;
+
+import co.com.crediya.model.loantype.LoanType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ReferenceDataCacheTest {
+
+    private MeterRegistry registry;
+    private AtomicInteger loads;
+    private LoanType loanType1;
+    private LoanType loanType2;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        loads = new AtomicInteger();
+        loanType1 = LoanType.builder().loanTypeId(1).name("Personal Loan").interestRate(12.5).build();
+        loanType2 = LoanType.builder().loanTypeId(2).name("Car Loan").interestRate(9.5).build();
+    }
+
+    private ReferenceDataCache<LoanType> cache(Duration refreshInterval) {
+        return new ReferenceDataCache<>("loan_type", () -> {
+            loads.incrementAndGet();
+            return Flux.just(loanType1, loanType2);
+        }, LoanType::getLoanTypeId, refreshInterval, registry);
+    }
+
+    @Test
+    @DisplayName("Should load the table once and serve later reads from memory")
+    void shouldLoadOnceAndServeFromMemory() {
+        // Arrange
+        ReferenceDataCache<LoanType> cache = cache(Duration.ofMinutes(10));
+
+        // Act & Assert
+        StepVerifier.create(cache.get())
+            .expectNextMatches(snapshot -> snapshot.values().size() == 2 && snapshot.get(2) == loanType2)
+            .verifyComplete();
+        StepVerifier.create(cache.get())
+            .expectNextMatches(snapshot -> snapshot.get(1) == loanType1)
+            .verifyComplete();
+
+        assertEquals(1, loads.get());
+        assertEquals(1.0, registry.get("reference.data.cache.requests").tag("result", "miss").counter().count());
+        assertEquals(1.0, registry.get("reference.data.cache.requests").tag("result", "hit").counter().count());
+        assertEquals(2.0, registry.get("reference.data.cache.size").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should refresh the snapshot once the refresh interval elapses")
+    void shouldRefreshWhenIntervalElapses() {
+        // Arrange
+        ReferenceDataCache<LoanType> cache = cache(Duration.ZERO);
+
+        // Act
+        cache.get().block();
+        cache.get().block();
+
+        // Assert
+        assertEquals(2, loads.get());
+        assertEquals(2.0, registry.get("reference.data.cache.refreshes").tag("outcome", "success").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should propagate load errors and count the failed refresh")
+    void shouldPropagateLoadErrors() {
+        // Arrange
+        ReferenceDataCache<LoanType> cache = new ReferenceDataCache<>("loan_type",
+            () -> Flux.error(new RuntimeException("Simulated error")),
+            LoanType::getLoanTypeId, Duration.ofMinutes(10), registry);
+
+        // Act & Assert
+        StepVerifier.create(cache.get())
+            .expectError(RuntimeException.class)
+            .verify();
+        assertEquals(1.0, registry.get("reference.data.cache.refreshes").tag("outcome", "failure").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should chain a fresh load when a change arrives while an older load is in flight")
+    void shouldChainFreshLoadOnForcedReload() {
+        // Arrange
+        Sinks.One<List<LoanType>> staleLoad = Sinks.one();
+        LoanType renamed = loanType1.toBuilder().name("Personal Loan Plus").build();
+        ReferenceDataCache<LoanType> cache = new ReferenceDataCache<>("loan_type",
+            () -> loads.incrementAndGet() == 1
+                ? staleLoad.asMono().flatMapMany(Flux::fromIterable)
+                : Flux.just(renamed, loanType2),
+            LoanType::getLoanTypeId, Duration.ofMinutes(10), registry);
+        Mono<ReferenceDataCache.Snapshot<LoanType>> inFlight = cache.reload();
+
+        // Act
+        Mono<ReferenceDataCache.Snapshot<LoanType>> forced = cache.forceReload();
+        staleLoad.tryEmitValue(List.of(loanType1, loanType2));
+
+        // Assert
+        StepVerifier.create(inFlight)
+            .expectNextMatches(snapshot -> snapshot.get(1) == loanType1)
+            .verifyComplete();
+        StepVerifier.create(forced)
+            .expectNextMatches(snapshot -> snapshot.get(1) == renamed)
+            .verifyComplete();
+        StepVerifier.create(cache.get())
+            .expectNextMatches(snapshot -> snapshot.get(1) == renamed)
+            .verifyComplete();
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should join a load that started after the change instead of loading again")
+    void shouldJoinLoadStartedAfterForcedReload() {
+        // Arrange
+        Sinks.One<List<LoanType>> load = Sinks.one();
+        ReferenceDataCache<LoanType> cache = new ReferenceDataCache<>("loan_type", () -> {
+            loads.incrementAndGet();
+            return load.asMono().flatMapMany(Flux::fromIterable);
+        }, LoanType::getLoanTypeId, Duration.ofMinutes(10), registry);
+
+        // Act
+        Mono<ReferenceDataCache.Snapshot<LoanType>> forced = cache.forceReload();
+        Mono<ReferenceDataCache.Snapshot<LoanType>> joined = cache.reload();
+        load.tryEmitValue(List.of(loanType1, loanType2));
+
+        // Assert
+        StepVerifier.create(forced)
+            .expectNextMatches(snapshot -> snapshot.values().size() == 2)
+            .verifyComplete();
+        StepVerifier.create(joined)
+            .expectNextMatches(snapshot -> snapshot.values().size() == 2)
+            .verifyComplete();
+        assertEquals(1, loads.get());
+    }
+}
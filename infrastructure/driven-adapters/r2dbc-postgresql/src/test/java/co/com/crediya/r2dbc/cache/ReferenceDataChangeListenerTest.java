@@ -0,0 +1,137 @@
+package co.com.crediya.r2dbc.cache;
+
+import co.com.crediya.r2dbc.config.PostgresqlConnectionProperties;
+import io.r2dbc.postgresql.PostgresqlConnectionFactory;
+import io.r2dbc.postgresql.api.Notification;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.postgresql.api.PostgresqlResult;
+import io.r2dbc.postgresql.api.PostgresqlStatement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReferenceDataChangeListenerTest {
+
+    @Mock
+    private CachedLoanTypeRepositoryAdapter loanTypeRepository;
+
+    @Mock
+    private CachedLoanStatusRepositoryAdapter loanStatusRepository;
+
+    @Mock
+    private Notification notification;
+
+    private ReferenceDataChangeListener listener;
+
+    @BeforeEach
+    void setUp() {
+        PostgresqlConnectionProperties properties = new PostgresqlConnectionProperties(
+            "localhost", 5432, "cy_applications_db", "public", "postgres", "postgres", null);
+        listener = new ReferenceDataChangeListener(properties, loanTypeRepository, loanStatusRepository);
+    }
+
+    @Test
+    @DisplayName("Should reload the loan type cache when loan_type changes")
+    void shouldReloadLoanTypesOnNotification() {
+        // Arrange
+        when(notification.getParameter()).thenReturn(ReferenceDataChangeListener.LOAN_TYPE_TABLE);
+        when(loanTypeRepository.refresh()).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(listener.onNotification(notification))
+            .verifyComplete();
+
+        verify(loanTypeRepository).refresh();
+        verify(loanStatusRepository, never()).refresh();
+    }
+
+    @Test
+    @DisplayName("Should reload the loan status cache when loan_status changes")
+    void shouldReloadLoanStatusesOnNotification() {
+        // Arrange
+        when(notification.getParameter()).thenReturn(ReferenceDataChangeListener.LOAN_STATUS_TABLE);
+        when(loanStatusRepository.refresh()).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(listener.onNotification(notification))
+            .verifyComplete();
+
+        verify(loanStatusRepository).refresh();
+        verify(loanTypeRepository, never()).refresh();
+    }
+
+    @Test
+    @DisplayName("Should keep listening when a reload fails")
+    void shouldSwallowReloadErrors() {
+        // Arrange
+        when(notification.getParameter()).thenReturn(ReferenceDataChangeListener.LOAN_TYPE_TABLE);
+        when(loanTypeRepository.refresh()).thenReturn(Mono.error(new RuntimeException("Database error")));
+
+        // Act & Assert
+        StepVerifier.create(listener.onNotification(notification))
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should ignore notifications for unknown tables")
+    void shouldIgnoreUnknownTables() {
+        // Arrange
+        when(notification.getParameter()).thenReturn("applications");
+
+        // Act & Assert
+        StepVerifier.create(listener.onNotification(notification))
+            .verifyComplete();
+
+        verify(loanTypeRepository, never()).refresh();
+        verify(loanStatusRepository, never()).refresh();
+    }
+
+    @Test
+    @DisplayName("Should listen again and reload every cache when the server ends the session cleanly")
+    void shouldReconnectWhenNotificationsComplete() {
+        // Arrange
+        PostgresqlConnectionFactory connectionFactory = mock(PostgresqlConnectionFactory.class);
+        PostgresqlConnection connection = mock(PostgresqlConnection.class);
+        PostgresqlStatement statement = mock(PostgresqlStatement.class);
+        PostgresqlResult result = mock(PostgresqlResult.class);
+        doReturn(Mono.just(connection)).when(connectionFactory).create();
+        when(connection.createStatement("LISTEN " + ReferenceDataChangeListener.CHANNEL)).thenReturn(statement);
+        doReturn(Flux.just(result)).when(statement).execute();
+        when(result.getRowsUpdated()).thenReturn(Mono.just(0L));
+        when(connection.getNotifications()).thenReturn(Flux.empty(), Flux.never());
+        when(connection.close()).thenReturn(Mono.empty());
+        when(loanTypeRepository.refresh()).thenReturn(Mono.empty());
+        when(loanStatusRepository.refresh()).thenReturn(Mono.empty());
+        ReferenceDataChangeListener reconnecting =
+            new ReferenceDataChangeListener(connectionFactory, loanTypeRepository, loanStatusRepository);
+
+        // Act & Assert
+        StepVerifier.withVirtualTime(reconnecting::listenWithReconnect)
+            .expectSubscription()
+            .thenAwait(Duration.ofSeconds(5))
+            .then(() -> {
+                verify(connection, times(2)).getNotifications();
+                verify(connection).close();
+                verify(loanTypeRepository, times(2)).refresh();
+                verify(loanStatusRepository, times(2)).refresh();
+            })
+            .thenCancel()
+            .verify();
+    }
+}
@@ -1,11 +1,17 @@
 package co.com.crediya.r2dbc.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.Mockito.when;
 
@@ -17,6 +23,7 @@ class PostgreSQLConnectionPoolTest {
     @Mock
     private PostgresqlConnectionProperties properties;
 
+    private final MeterRegistry registry = new SimpleMeterRegistry();
 
     @BeforeEach
     void setUp() {
@@ -28,10 +35,39 @@ class PostgreSQLConnectionPoolTest {
         when(properties.schema()).thenReturn("schema");
         when(properties.username()).thenReturn("username");
         when(properties.password()).thenReturn("password");
+        when(properties.pool()).thenReturn(new PostgresqlConnectionProperties.Pool(
+            0, 4, Duration.ofMinutes(10), null, Duration.ofSeconds(1), null, null, null));
     }
 
     @Test
     void getConnectionConfigSuccess() {
-        assertNotNull(connectionPool.getConnectionConfig(properties));
+        assertNotNull(connectionPool.getConnectionConfig(properties, registry));
+    }
+
+    @Test
+    void shouldRegisterPoolMetersTaggedWithThePoolName() {
+        ConnectionPool pool = connectionPool.getConnectionConfig(properties, registry);
+
+        assertEquals(4.0, registry.get("r2dbc.pool.connections")
+            .tag("pool", "api-postgres-connection-pool")
+            .tag("state", "max")
+            .gauge()
+            .value());
+        assertNotNull(registry.get("r2dbc.pool.acquire")
+            .tag("pool", "api-postgres-connection-pool")
+            .tag("outcome", "success")
+            .timer());
+
+        pool.dispose();
+    }
+
+    @Test
+    void shouldFallBackToDefaultPoolSettings() {
+        PostgresqlConnectionProperties.Pool pool = new PostgresqlConnectionProperties.Pool(
+            null, 8, null, null, null, null, null, " ");
+
+        assertEquals(8, pool.initialSize());
+        assertEquals(PostgresqlConnectionProperties.Pool.DEFAULT_MAX_ACQUIRE_TIME, pool.maxAcquireTime());
+        assertEquals(PostgresqlConnectionProperties.Pool.DEFAULT_VALIDATION_QUERY, pool.validationQuery());
     }
 }
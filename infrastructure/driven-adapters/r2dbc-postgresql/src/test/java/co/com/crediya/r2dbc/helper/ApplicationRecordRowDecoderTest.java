@@ -0,0 +1,72 @@
+package co.com.crediya.r2dbc.helper;
+
+import co.com.crediya.model.application.record.ApplicationRecord;
+import io.r2dbc.spi.Row;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ApplicationRecordRowDecoderTest {
+
+    @Test
+    @DisplayName("Should decode a joined row into the application record with its type and status")
+    void shouldDecodeJoinedRow() {
+        // Arrange
+        UUID applicationId = UUID.randomUUID();
+        Row row = applicationRow(applicationId);
+        when(row.get(4, Integer.class)).thenReturn(1);
+        when(row.get(5, String.class)).thenReturn("Personal");
+        when(row.get(6, Double.class)).thenReturn(1000.0);
+        when(row.get(7, Double.class)).thenReturn(50000.0);
+        when(row.get(8, Double.class)).thenReturn(12.5);
+        when(row.get(9, Boolean.class)).thenReturn(true);
+        when(row.get(10, Integer.class)).thenReturn(2);
+        when(row.get(11, String.class)).thenReturn("Aprobada");
+        when(row.get(12, String.class)).thenReturn("Solicitud aprobada");
+
+        // Act
+        ApplicationRecord applicationRecord = ApplicationRecordRowDecoder.decode(row);
+
+        // Assert
+        assertEquals(applicationId, applicationRecord.applicationId());
+        assertEquals("test@example.com", applicationRecord.userEmail());
+        assertEquals(5000.0, applicationRecord.loanAmount());
+        assertEquals(12.0, applicationRecord.loanTerm());
+        assertEquals(1, applicationRecord.loanType().getLoanTypeId());
+        assertEquals("Personal", applicationRecord.loanType().getName());
+        assertEquals(12.5, applicationRecord.loanType().getInterestRate());
+        assertEquals(true, applicationRecord.loanType().getAutoValidation());
+        assertEquals(2, applicationRecord.loanStatus().getLoanStatusId());
+        assertEquals("Aprobada", applicationRecord.loanStatus().getName());
+        assertEquals("Solicitud aprobada", applicationRecord.loanStatus().getDescription());
+    }
+
+    @Test
+    @DisplayName("Should leave the type and status empty when the outer join finds no match")
+    void shouldDecodeUnmatchedJoinAsNull() {
+        // Arrange
+        Row row = applicationRow(UUID.randomUUID());
+
+        // Act
+        ApplicationRecord applicationRecord = ApplicationRecordRowDecoder.decode(row);
+
+        // Assert
+        assertNull(applicationRecord.loanType());
+        assertNull(applicationRecord.loanStatus());
+    }
+
+    private Row applicationRow(UUID applicationId) {
+        Row row = mock(Row.class);
+        when(row.get(0, UUID.class)).thenReturn(applicationId);
+        when(row.get(1, String.class)).thenReturn("test@example.com");
+        when(row.get(2, Double.class)).thenReturn(5000.0);
+        when(row.get(3, Double.class)).thenReturn(12.0);
+        return row;
+    }
+}
@@ -0,0 +1,49 @@
+package co.com.crediya.r2dbc.helper;
+
+import co.com.crediya.model.application.Application;
+import io.r2dbc.spi.Row;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ApplicationRowDecoderTest {
+
+    @Test
+    @DisplayName("Should decode the selected columns by index into the domain model")
+    void shouldDecodeRowByIndex() {
+        // Arrange
+        UUID applicationId = UUID.randomUUID();
+        Row row = mock(Row.class);
+        when(row.get(0, UUID.class)).thenReturn(applicationId);
+        when(row.get(1, String.class)).thenReturn("test@example.com");
+        when(row.get(2, Double.class)).thenReturn(5000.0);
+        when(row.get(3, Double.class)).thenReturn(12.0);
+        when(row.get(4, Integer.class)).thenReturn(1);
+        when(row.get(5, Integer.class)).thenReturn(2);
+        when(row.get(6, Long.class)).thenReturn(4L);
+        when(row.get(7, Double.class)).thenReturn(435.12);
+
+        // Act
+        Application application = ApplicationRowDecoder.decode(row);
+
+        // Assert
+        assertEquals(applicationId, application.getApplicationId());
+        assertEquals("test@example.com", application.getUserEmail());
+        assertEquals(5000.0, application.getLoanAmount());
+        assertEquals(12.0, application.getLoanTerm());
+        assertEquals(1, application.getLoanTypeId());
+        assertEquals(2, application.getLoanStatusId());
+        assertEquals(4L, application.getVersion());
+        assertEquals(435.12, application.getMonthlyPayment());
+        verify(row, never()).get(anyString(), any(Class.class));
+    }
+}
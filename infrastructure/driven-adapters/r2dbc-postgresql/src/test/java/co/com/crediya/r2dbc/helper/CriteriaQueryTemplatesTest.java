@@ -0,0 +1,89 @@
+package co.com.crediya.r2dbc.helper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class CriteriaQueryTemplatesTest {
+
+    @Test
+    @DisplayName("Should reuse the rendered template for the same criteria shape")
+    void shouldReuseTemplateForSameShape() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        CriteriaQueryTemplates templates = new CriteriaQueryTemplates(registry);
+        CriteriaQueryTemplates.Shape shape = new CriteriaQueryTemplates.Shape(
+            List.of("loan_type_id"), "amount", "ASC", false, false, false);
+
+        // Act
+        CriteriaQueryTemplates.Template first = templates.get(shape);
+        CriteriaQueryTemplates.Template second = templates.get(new CriteriaQueryTemplates.Shape(
+            List.of("loan_type_id"), "amount", "ASC", false, false, false));
+        CriteriaQueryTemplates.Template other = templates.get(new CriteriaQueryTemplates.Shape(
+            List.of("loan_type_id"), "amount", "DESC", false, false, false));
+
+        // Assert
+        assertSame(first, second);
+        assertNotSame(first, other);
+        assertEquals(1.0, registry.get("r2dbc.query.templates.requests").tag("result", "hit").counter().count());
+        assertEquals(2.0, registry.get("r2dbc.query.templates.requests").tag("result", "miss").counter().count());
+        assertEquals(2.0, registry.get("r2dbc.query.templates.size").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should number filter, cursor and paging placeholders in order")
+    void shouldRenderKeysetTemplate() {
+        // Arrange
+        CriteriaQueryTemplates.Shape shape = new CriteriaQueryTemplates.Shape(
+            List.of("loan_status_id", "loan_type_id"), "amount", "DESC", true, true, false);
+
+        // Act
+        CriteriaQueryTemplates.Template template = CriteriaQueryTemplates.render(shape);
+
+        // Assert
+        assertEquals("SELECT " + ApplicationRowDecoder.COLUMNS + " FROM applications WHERE 1=1 AND loan_status_id = $1 AND loan_type_id = $2"
+            + " AND (amount, application_id) < ($3, $4) ORDER BY amount DESC, application_id DESC LIMIT $5",
+            template.dataSql());
+        assertEquals("SELECT COUNT(*) FROM applications WHERE 1=1 AND loan_status_id = $1 AND loan_type_id = $2",
+            template.countSql());
+    }
+
+    @Test
+    @DisplayName("Should render range filters as bounds on the monthly payment")
+    void shouldRenderMonthlyPaymentRange() {
+        // Arrange
+        CriteriaQueryTemplates.Shape shape = new CriteriaQueryTemplates.Shape(
+            List.of("loan_type_id", "monthly_payment_max", "monthly_payment_min"), "monthly_payment", "ASC", false, false, false);
+
+        // Act
+        CriteriaQueryTemplates.Template template = CriteriaQueryTemplates.render(shape);
+
+        // Assert
+        assertEquals("SELECT " + ApplicationRowDecoder.COLUMNS + " FROM applications WHERE 1=1 AND loan_type_id = $1"
+            + " AND monthly_payment <= $2 AND monthly_payment >= $3"
+            + " ORDER BY monthly_payment ASC, application_id ASC LIMIT $4 OFFSET $5",
+            template.dataSql());
+    }
+
+    @Test
+    @DisplayName("Should render the window count and offset for page based queries")
+    void shouldRenderWindowTemplate() {
+        // Arrange
+        CriteriaQueryTemplates.Shape shape = new CriteriaQueryTemplates.Shape(
+            List.of(), null, null, false, false, true);
+
+        // Act
+        CriteriaQueryTemplates.Template template = CriteriaQueryTemplates.render(shape);
+
+        // Assert
+        assertEquals("SELECT " + ApplicationRowDecoder.COLUMNS + ", COUNT(*) OVER() AS total_count FROM applications WHERE 1=1 LIMIT $1 OFFSET $2",
+            template.dataSql());
+        assertEquals("EXPLAIN (FORMAT JSON) SELECT 1 FROM applications WHERE 1=1", template.estimateSql());
+    }
+}
@@ -0,0 +1,32 @@
+package co.com.crediya.r2dbc.helper;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class KeysetCursorTest {
+
+    @Test
+    @DisplayName("Should decode the same cursor it encodes")
+    void shouldRoundTrip() {
+        // Arrange
+        KeysetCursor cursor = new KeysetCursor("user_email", "DESC", "user@example.com", UUID.randomUUID());
+
+        // Act
+        KeysetCursor decoded = KeysetCursor.decode(cursor.encode());
+
+        // Assert
+        assertEquals(cursor, decoded);
+    }
+
+    @Test
+    @DisplayName("Should reject malformed cursors")
+    void shouldRejectMalformedCursor() {
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode("not-a-cursor"));
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode("%%%"));
+    }
+}
@@ -0,0 +1,86 @@
+package co.com.crediya.r2dbc.mapper;
+
+import co.com.crediya.model.application.Application;
+import co.com.crediya.model.loantype.LoanType;
+import co.com.crediya.r2dbc.entity.ApplicationEntity;
+import co.com.crediya.r2dbc.entity.LoanTypeEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ApplicationEntityMapperTest {
+
+    private final ApplicationEntityMapper mapper = Mappers.getMapper(ApplicationEntityMapper.class);
+
+    @Test
+    @DisplayName("Should copy every column of the application row into the model")
+    void shouldMapEntityToModel() {
+        // Arrange
+        UUID applicationId = UUID.randomUUID();
+        ApplicationEntity entity = new ApplicationEntity(applicationId, "test@example.com", 5000.0, 12.0, 1, 2, 0L, 435.12, 12.5);
+
+        // Act
+        Application application = mapper.toModel(entity);
+
+        // Assert
+        assertEquals(applicationId, application.getApplicationId());
+        assertEquals("test@example.com", application.getUserEmail());
+        assertEquals(5000.0, application.getLoanAmount());
+        assertEquals(12.0, application.getLoanTerm());
+        assertEquals(1, application.getLoanTypeId());
+        assertEquals(2, application.getLoanStatusId());
+        assertEquals(435.12, application.getMonthlyPayment());
+        assertEquals(12.5, application.getMonthlyPaymentRate());
+        assertNull(application.getUserIdNumber());
+    }
+
+    @Test
+    @DisplayName("Should copy the model into the application row")
+    void shouldMapModelToEntity() {
+        // Arrange
+        Application application = Application.builder()
+            .applicationId(UUID.randomUUID())
+            .userIdNumber(123L)
+            .userEmail("test@example.com")
+            .loanAmount(5000.0)
+            .loanTerm(12.0)
+            .loanTypeId(1)
+            .loanStatusId(2)
+            .build();
+
+        // Act
+        ApplicationEntity entity = mapper.toEntity(application);
+
+        // Assert
+        assertEquals(application.getApplicationId(), entity.getApplicationId());
+        assertEquals("test@example.com", entity.getUserEmail());
+        assertEquals(5000.0, entity.getLoanAmount());
+        assertEquals(12.0, entity.getLoanTerm());
+        assertEquals(1, entity.getLoanTypeId());
+        assertEquals(2, entity.getLoanStatusId());
+    }
+
+    @Test
+    @DisplayName("Should map loan type rows without reflection")
+    void shouldMapLoanType() {
+        // Arrange
+        LoanTypeEntityMapper loanTypeMapper = Mappers.getMapper(LoanTypeEntityMapper.class);
+        LoanTypeEntity entity = new LoanTypeEntity(1, "Personal", 1000.0, 50000.0, 12.5, true);
+
+        // Act
+        LoanType loanType = loanTypeMapper.toModel(entity);
+
+        // Assert
+        assertEquals(1, loanType.getLoanTypeId());
+        assertEquals("Personal", loanType.getName());
+        assertEquals(1000.0, loanType.getMinAmount());
+        assertEquals(50000.0, loanType.getMaxAmount());
+        assertEquals(12.5, loanType.getInterestRate());
+        assertEquals(true, loanType.getAutoValidation());
+    }
+}
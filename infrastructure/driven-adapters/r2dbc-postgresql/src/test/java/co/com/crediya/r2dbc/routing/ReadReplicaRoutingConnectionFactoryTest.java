@@ -0,0 +1,134 @@
+package co.com.crediya.r2dbc.routing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.reactive.TransactionContextManager;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ReadReplicaRoutingConnectionFactoryTest {
+
+    private static final Duration MAX_LAG = Duration.ofSeconds(5);
+
+    @Mock
+    private ConnectionFactory primary;
+
+    @Mock
+    private ConnectionFactory replicaFactory;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection replicaConnection;
+
+    private ReplicaNode replica;
+    private ReadReplicaRoutingConnectionFactory routing;
+
+    @BeforeEach
+    void setUp() {
+        replica = new ReplicaNode("replica-1:5432", replicaFactory);
+        routing = new ReadReplicaRoutingConnectionFactory(primary, List.of(replica), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("Should use the primary outside of a read-only transaction")
+    void shouldUsePrimaryOutsideReadOnlyTransaction() {
+        // Arrange
+        replica.recordLag(0, MAX_LAG);
+        doReturn(Mono.just(primaryConnection)).when(primary).create();
+
+        // Act & Assert
+        StepVerifier.create(routing.create())
+            .expectNext(primaryConnection)
+            .verifyComplete();
+
+        verify(replicaFactory, never()).create();
+    }
+
+    @Test
+    @DisplayName("Should send read-only transactions to a replica within the lag tolerance")
+    void shouldUseReplicaForReadOnlyTransaction() {
+        // Arrange
+        replica.recordLag(1.5, MAX_LAG);
+        doReturn(Mono.just(replicaConnection)).when(replicaFactory).create();
+
+        // Act & Assert
+        StepVerifier.create(inReadOnlyTransaction(routing.create()))
+            .expectNext(replicaConnection)
+            .verifyComplete();
+
+        verify(primary, never()).create();
+    }
+
+    @Test
+    @DisplayName("Should fall back to the primary when the replica lags behind the tolerance")
+    void shouldFallBackToPrimaryWhenReplicaLags() {
+        // Arrange
+        replica.recordLag(30, MAX_LAG);
+        doReturn(Mono.just(primaryConnection)).when(primary).create();
+
+        // Act & Assert
+        StepVerifier.create(inReadOnlyTransaction(routing.create()))
+            .expectNext(primaryConnection)
+            .verifyComplete();
+
+        verify(replicaFactory, never()).create();
+    }
+
+    @Test
+    @DisplayName("Should fall back to the primary and take the replica out of rotation when it cannot connect")
+    void shouldFallBackToPrimaryWhenReplicaFails() {
+        // Arrange
+        replica.recordLag(0, MAX_LAG);
+        doReturn(Mono.error(new IllegalStateException("Connection refused"))).when(replicaFactory).create();
+        doReturn(Mono.just(primaryConnection)).when(primary).create();
+
+        // Act & Assert
+        StepVerifier.create(inReadOnlyTransaction(routing.create()))
+            .expectNext(primaryConnection)
+            .verifyComplete();
+
+        assertFalse(replica.isHealthy());
+    }
+
+    @Test
+    @DisplayName("Should use the primary for reads pinned to it")
+    void shouldUsePrimaryWhenForced() {
+        // Arrange
+        replica.recordLag(0, MAX_LAG);
+        doReturn(Mono.just(primaryConnection)).when(primary).create();
+
+        // Act & Assert
+        StepVerifier.create(inReadOnlyTransaction(routing.create().contextWrite(ReadReplicaRoutingConnectionFactory.PRIMARY)))
+            .expectNext(primaryConnection)
+            .verifyComplete();
+
+        verify(replicaFactory, never()).create();
+    }
+
+    private Mono<Connection> inReadOnlyTransaction(Mono<Connection> connection) {
+        return TransactionSynchronizationManager.forCurrentTransaction()
+            .doOnNext(synchronizationManager -> synchronizationManager.setCurrentTransactionReadOnly(true))
+            .then(connection)
+            .contextWrite(TransactionContextManager.getOrCreateContext())
+            .contextWrite(TransactionContextManager.getOrCreateContextHolder());
+    }
+}
@@ -0,0 +1,99 @@
+package co.com.crediya.r2dbc.routing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import io.r2dbc.spi.Statement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.BiFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaLagMonitorTest {
+
+    private static final Duration MAX_LAG = Duration.ofSeconds(5);
+
+    @Mock
+    private ConnectionFactory replicaFactory;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private Statement statement;
+
+    @Mock
+    private Result result;
+
+    @Mock
+    private Row row;
+
+    @Mock
+    private RowMetadata rowMetadata;
+
+    private ReplicaNode replica;
+    private ReplicaLagMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        replica = new ReplicaNode("replica-1:5432", replicaFactory);
+        monitor = new ReplicaLagMonitor(List.of(replica), MAX_LAG, Duration.ofSeconds(10), Duration.ofSeconds(1),
+            new SimpleMeterRegistry());
+        doReturn(Mono.just(connection)).when(replicaFactory).create();
+        doReturn(Mono.empty()).when(connection).close();
+        when(connection.createStatement(ReplicaLagMonitor.LAG_QUERY)).thenReturn(statement);
+        doReturn(Mono.just(result)).when(statement).execute();
+        doAnswer(invocation -> {
+            BiFunction<Row, RowMetadata, ?> mapping = invocation.getArgument(0);
+            return Flux.just(mapping.apply(row, rowMetadata));
+        }).when(result).map(any(BiFunction.class));
+    }
+
+    @Test
+    @DisplayName("Should put a streaming replica within tolerance in rotation")
+    void shouldPutCaughtUpReplicaInRotation() {
+        // Arrange
+        when(row.get(0, Double.class)).thenReturn(0.0);
+
+        // Act & Assert
+        StepVerifier.create(monitor.checkAll())
+            .verifyComplete();
+        assertTrue(replica.isHealthy());
+        assertEquals(0.0, replica.lagSeconds());
+    }
+
+    @Test
+    @DisplayName("Should take a replica out of rotation when its WAL receiver is not streaming")
+    void shouldTakeDisconnectedReplicaOutOfRotation() {
+        // Arrange
+        replica.recordLag(0, MAX_LAG);
+        when(row.get(0, Double.class)).thenReturn(null);
+
+        // Act & Assert
+        StepVerifier.create(monitor.checkAll())
+            .verifyComplete();
+        assertFalse(replica.isHealthy());
+        assertTrue(Double.isNaN(replica.lagSeconds()));
+    }
+}
@@ -11,6 +11,7 @@ import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import co.com.crediya.consumer.helper.SingleFlight;
 import co.com.crediya.model.application.exception.ServiceNotAvailabeException;
 import co.com.crediya.model.application.gateways.UserGateway;
 import co.com.crediya.model.application.record.UserBasicInfo;
@@ -22,10 +23,16 @@ import reactor.core.publisher.Mono;
 @Slf4j
 public class RestConsumer implements UserGateway {
     private final WebClient client;
+    private final SingleFlight<String, UserBasicInfo> userByEmailCalls = new SingleFlight<>();
+    private final SingleFlight<Long, UserBasicInfo> userByIdNumberCalls = new SingleFlight<>();
 
     @CircuitBreaker(name = "getUserByEmail" , fallbackMethod = "getUserByEmailFallback")
     @Override
     public Mono<UserBasicInfo> getUserByEmail(String userEmail) {
+        return userByEmailCalls.execute(userEmail, this::fetchUserByEmail);
+    }
+
+    private Mono<UserBasicInfo> fetchUserByEmail(String userEmail) {
         log.info("Validating if user with email {} exists", userEmail);      
         return client.get()
             .uri(uriBuilder -> 
@@ -71,6 +78,10 @@ public class RestConsumer implements UserGateway {
     @CircuitBreaker(name = "getUserByIdNumber" , fallbackMethod = "getUserByIdNumberFallback")
     @Override
     public Mono<UserBasicInfo> getUserByIdNumber(Long idNumber) {
+        return userByIdNumberCalls.execute(idNumber, this::fetchUserByIdNumber);
+    }
+
+    private Mono<UserBasicInfo> fetchUserByIdNumber(Long idNumber) {
         log.info("Validating if user with idNumber {} exists", idNumber);      
         return client.get()
             .uri(uriBuilder -> 
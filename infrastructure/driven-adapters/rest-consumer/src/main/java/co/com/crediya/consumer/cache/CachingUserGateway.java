@@ -0,0 +1,136 @@
+package co.com.crediya.consumer.cache;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import co.com.crediya.consumer.RestConsumer;
+import co.com.crediya.consumer.config.UserBatchProperties;
+import co.com.crediya.consumer.config.UserCacheProperties;
+import co.com.crediya.consumer.helper.BatchLoader;
+import co.com.crediya.consumer.jwt.JwtUserResolver;
+import co.com.crediya.model.application.gateways.UserGateway;
+import co.com.crediya.model.application.record.UserBasicInfo;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+/**
+ * Caches the users service lookups made by {@link RestConsumer}.
+ * Lookups by email (single and batch) share one cache, lookups by id number
+ * have their own; each one has its own TTL and size. The caller resolved from
+ * the token is never cached; it is read from the verified token claims when
+ * local verification is enabled.
+ * Email misses are micro-batched into the infoUsuarios batch endpoint.
+ */
+@Primary
+@Service
+@Slf4j
+public class CachingUserGateway implements UserGateway {
+    private final RestConsumer delegate;
+    private final RefreshAheadCache<String, UserBasicInfo> byEmail;
+    private final RefreshAheadCache<Long, UserBasicInfo> byIdNumber;
+    private final BatchLoader<String, UserBasicInfo> emailBatchLoader;
+    private final Function<String, Mono<UserBasicInfo>> emailLoader;
+    private final JwtUserResolver jwtUserResolver;
+
+    public CachingUserGateway(
+        RestConsumer delegate,
+        UserCacheProperties cacheProperties,
+        UserBatchProperties batchProperties,
+        JwtUserResolver jwtUserResolver,
+        MeterRegistry registry
+    ) {
+        this.delegate = delegate;
+        this.jwtUserResolver = jwtUserResolver;
+        this.byEmail = new RefreshAheadCache<>("users.by_email", cacheProperties.byEmail(), registry);
+        this.byIdNumber = new RefreshAheadCache<>("users.by_id_number", cacheProperties.byIdNumber(), registry);
+        if (Boolean.TRUE.equals(batchProperties.enabled())) {
+            this.emailBatchLoader = new BatchLoader<>(
+                delegate::getUsersBasicInfo, UserBasicInfo::email, batchProperties.maxSize(), batchProperties.linger());
+            this.emailLoader = emailBatchLoader::load;
+        } else {
+            this.emailBatchLoader = null;
+            this.emailLoader = delegate::getUserByEmail;
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        if (emailBatchLoader != null) {
+            emailBatchLoader.dispose();
+        }
+    }
+
+    @Override
+    public Mono<UserBasicInfo> getUserByIdNumber(Long idNumber) {
+        return byIdNumber.get(idNumber, delegate::getUserByIdNumber);
+    }
+
+    @Override
+    public Mono<UserBasicInfo> getUserByEmail(String userEmail) {
+        return byEmail.get(userEmail, emailLoader);
+    }
+
+    @Override
+    public Flux<UserBasicInfo> getUsersBasicInfo(List<String> usersEmails) {
+        return Flux.deferContextual(ctx -> {
+            List<UserBasicInfo> cached = new ArrayList<>();
+            List<String> missing = new ArrayList<>();
+            List<String> stale = new ArrayList<>();
+
+            for (String email : new LinkedHashSet<>(usersEmails)) {
+                UserBasicInfo user = byEmail.getIfPresent(email);
+                if (user == null) {
+                    missing.add(email);
+                    continue;
+                }
+                cached.add(user);
+                if (byEmail.isStale(email) && byEmail.startRefresh(email)) {
+                    stale.add(email);
+                }
+            }
+
+            if (!stale.isEmpty()) {
+                refreshInBackground(stale, ctx);
+            }
+            if (missing.isEmpty()) {
+                return Flux.fromIterable(cached);
+            }
+
+            log.debug("{} of {} users not cached, querying the users service", missing.size(), usersEmails.size());
+            return Flux.concat(
+                Flux.fromIterable(cached),
+                delegate.getUsersBasicInfo(missing)
+                    .doOnNext(this::cacheByEmail));
+        });
+    }
+
+    @Override
+    public Mono<UserBasicInfo> getRequestUserByToken() {
+        return jwtUserResolver.resolve()
+            .switchIfEmpty(Mono.defer(delegate::getRequestUserByToken));
+    }
+
+    private void refreshInBackground(List<String> emails, ContextView ctx) {
+        delegate.getUsersBasicInfo(emails)
+            .contextWrite(context -> context.putAll(ctx))
+            .doFinally(signal -> emails.forEach(byEmail::endRefresh))
+            .subscribe(
+                this::cacheByEmail,
+                ex -> log.warn("Background refresh of {} users failed, serving cached values: {}", emails.size(), ex.getMessage()));
+    }
+
+    private void cacheByEmail(UserBasicInfo user) {
+        if (user.email() != null) {
+            byEmail.put(user.email(), user);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package co.com.crediya.consumer.cache;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import co.com.crediya.consumer.config.UserCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+/**
+ * Bounded (W-TinyLFU) cache in front of a remote lookup.
+ * Entries expire after the configured TTL; a hit past {@code refreshAfter}
+ * is served immediately and reloaded in background, so hot keys never expire
+ * under load. The reload runs with the caller's Reactor context, which carries
+ * the auth token the users service expects.
+ */
+@Slf4j
+public class RefreshAheadCache<K, V> {
+    private final String name;
+    private final Cache<K, Entry<V>> cache;
+    private final long refreshAfterNanos;
+    private final Set<K> refreshing = ConcurrentHashMap.newKeySet();
+
+    public RefreshAheadCache(String name, UserCacheProperties.Spec spec, MeterRegistry registry) {
+        this.name = name;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(spec.maximumSize())
+            .expireAfterWrite(spec.ttl())
+            .recordStats()
+            .build();
+        this.refreshAfterNanos = spec.refreshAfter().toNanos();
+        CaffeineCacheMetrics.monitor(registry, cache, name);
+    }
+
+    public Mono<V> get(K key, Function<K, Mono<V>> loader) {
+        return Mono.deferContextual(ctx -> {
+            Entry<V> entry = cache.getIfPresent(key);
+            if (entry == null) {
+                return loader.apply(key)
+                    .doOnNext(value -> put(key, value));
+            }
+
+            if (isStale(entry)) {
+                refresh(key, loader, ctx);
+            }
+            return Mono.just(entry.value());
+        });
+    }
+
+    /**
+     * Returns the cached value or {@code null}, recording the hit or miss.
+     * Stale entries are returned as well; callers decide how to refresh them
+     * through {@link #isStale(Object)}.
+     */
+    public V getIfPresent(K key) {
+        Entry<V> entry = cache.getIfPresent(key);
+        return entry == null ? null : entry.value();
+    }
+
+    public boolean isStale(K key) {
+        Entry<V> entry = cache.asMap().get(key);
+        return entry != null && isStale(entry);
+    }
+
+    /**
+     * Marks the key as being refreshed. Returns {@code false} when another
+     * refresh for the same key is already running.
+     */
+    public boolean startRefresh(K key) {
+        return refreshing.add(key);
+    }
+
+    public void endRefresh(K key) {
+        refreshing.remove(key);
+    }
+
+    public void put(K key, V value) {
+        cache.put(key, new Entry<>(value, System.nanoTime()));
+    }
+
+    private boolean isStale(Entry<V> entry) {
+        return System.nanoTime() - entry.loadedAt() >= refreshAfterNanos;
+    }
+
+    private void refresh(K key, Function<K, Mono<V>> loader, ContextView ctx) {
+        if (!startRefresh(key)) {
+            return;
+        }
+        loader.apply(key)
+            .contextWrite(context -> context.putAll(ctx))
+            .doFinally(signal -> endRefresh(key))
+            .subscribe(
+                value -> put(key, value),
+                ex -> log.warn("Background refresh of {} for key {} failed, serving cached value: {}", name, key, ex.getMessage()));
+    }
+
+    private record Entry<V>(V value, long loadedAt) {}
+}
@@ -0,0 +1,74 @@
+package co.com.crediya.consumer.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Local verification of the bearer token. Either {@code secret} (HMAC) or
+ * {@code jwkSetUri} (RSA/EC keys) must be set when enabled. The JWK set is
+ * fetched again before {@code jwkSetTtl} when a token names an unknown key id,
+ * at most once per {@code jwkSetRefetchCooldown}. When set, {@code issuer}
+ * must match the iss claim and {@code audience} must be one of the aud values.
+ */
+@ConfigurationProperties(prefix = "adapter.restconsumer.jwt")
+public record JwtProperties(
+    Boolean enabled,
+    String secret,
+    String jwkSetUri,
+    Duration jwkSetTtl,
+    Duration jwkSetRefetchCooldown,
+    String issuer,
+    String audience,
+    Claims claims
+) {
+    public static final Duration DEFAULT_JWK_SET_TTL = Duration.ofMinutes(15);
+    public static final Duration DEFAULT_JWK_SET_REFETCH_COOLDOWN = Duration.ofSeconds(30);
+
+    public JwtProperties {
+        if (enabled == null) {
+            enabled = Boolean.FALSE;
+        }
+        if (jwkSetTtl == null) {
+            jwkSetTtl = DEFAULT_JWK_SET_TTL;
+        }
+        if (jwkSetRefetchCooldown == null) {
+            jwkSetRefetchCooldown = DEFAULT_JWK_SET_REFETCH_COOLDOWN;
+        }
+        if (issuer != null && issuer.isBlank()) {
+            issuer = null;
+        }
+        if (audience != null && audience.isBlank()) {
+            audience = null;
+        }
+        if (claims == null) {
+            claims = new Claims(null, null, null, null, null);
+        }
+    }
+
+    public record Claims(
+        String idNumber,
+        String email,
+        String role,
+        String name,
+        String lastname
+    ) {
+        public Claims {
+            if (idNumber == null) {
+                idNumber = "idNumber";
+            }
+            if (email == null) {
+                email = "email";
+            }
+            if (role == null) {
+                role = "role";
+            }
+            if (name == null) {
+                name = "name";
+            }
+            if (lastname == null) {
+                lastname = "lastname";
+            }
+        }
+    }
+}
@@ -39,16 +39,20 @@ public class RestConsumerConfig {
     }
 
     private ClientHttpConnector getClientHttpConnector() {
+        return clientHttpConnector(restConsumerProperties.timeout());
+    }
+
+    public static ClientHttpConnector clientHttpConnector(int timeoutMillis) {
         /*
         IF YO REQUIRE APPEND SSL CERTIFICATE SELF SIGNED: this should be in the default cacerts trustore
         */
         return new ReactorClientHttpConnector(HttpClient.create()
                 .compress(true)
                 .keepAlive(true)
-                .option(CONNECT_TIMEOUT_MILLIS, restConsumerProperties.timeout())
+                .option(CONNECT_TIMEOUT_MILLIS, timeoutMillis)
                 .doOnConnected(connection -> {
-                    connection.addHandlerLast(new ReadTimeoutHandler(restConsumerProperties.timeout(), MILLISECONDS));
-                    connection.addHandlerLast(new WriteTimeoutHandler(restConsumerProperties.timeout(), MILLISECONDS));
+                    connection.addHandlerLast(new ReadTimeoutHandler(timeoutMillis, MILLISECONDS));
+                    connection.addHandlerLast(new WriteTimeoutHandler(timeoutMillis, MILLISECONDS));
                 }));
     }
 
@@ -0,0 +1,27 @@
+package co.com.crediya.consumer.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "adapter.restconsumer.batch")
+public record UserBatchProperties(
+    Boolean enabled,
+    Integer maxSize,
+    Duration linger
+) {
+    public static final int DEFAULT_MAX_SIZE = 50;
+    public static final Duration DEFAULT_LINGER = Duration.ofMillis(5);
+
+    public UserBatchProperties {
+        if (enabled == null) {
+            enabled = Boolean.TRUE;
+        }
+        if (maxSize == null || maxSize < 1) {
+            maxSize = DEFAULT_MAX_SIZE;
+        }
+        if (linger == null) {
+            linger = DEFAULT_LINGER;
+        }
+    }
+}
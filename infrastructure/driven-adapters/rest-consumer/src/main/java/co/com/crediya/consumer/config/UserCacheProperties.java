@@ -0,0 +1,46 @@
+package co.com.crediya.consumer.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "adapter.restconsumer.cache")
+public record UserCacheProperties(
+    Spec byEmail,
+    Spec byIdNumber
+) {
+
+    public UserCacheProperties {
+        if (byEmail == null) {
+            byEmail = new Spec(null, null, null);
+        }
+        if (byIdNumber == null) {
+            byIdNumber = new Spec(null, null, null);
+        }
+    }
+
+    /**
+     * Entries expire {@code ttl} after being loaded; a hit older than
+     * {@code refreshAfter} is still served but triggers a reload in background.
+     */
+    public record Spec(
+        Duration ttl,
+        Duration refreshAfter,
+        Long maximumSize
+    ) {
+        public static final Duration DEFAULT_TTL = Duration.ofMinutes(10);
+        public static final long DEFAULT_MAXIMUM_SIZE = 10_000L;
+
+        public Spec {
+            if (ttl == null) {
+                ttl = DEFAULT_TTL;
+            }
+            if (refreshAfter == null || refreshAfter.compareTo(ttl) >= 0) {
+                refreshAfter = ttl.multipliedBy(4).dividedBy(5);
+            }
+            if (maximumSize == null) {
+                maximumSize = DEFAULT_MAXIMUM_SIZE;
+            }
+        }
+    }
+}
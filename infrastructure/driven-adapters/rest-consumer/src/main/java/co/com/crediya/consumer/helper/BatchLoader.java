@@ -0,0 +1,83 @@
+package co.com.crediya.consumer.helper;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.concurrent.Queues;
+import reactor.util.context.ContextView;
+
+/**
+ * Collects single-key lookups for up to {@code linger}, or until
+ * {@code maxBatchSize} keys are waiting, and resolves them with one call to a
+ * batch endpoint. Each waiting subscriber receives the value for its key, or
+ * completes empty when the batch response does not include it.
+ * The batch call runs with the Reactor context of the first lookup in the batch.
+ * Lookups are queued on a multi-producer queue, so concurrent callers (Netty
+ * event loops included) enqueue without retrying or spinning.
+ */
+@Slf4j
+public class BatchLoader<K, V> {
+    private final Function<List<K>, Flux<V>> batchCall;
+    private final Function<V, K> keyExtractor;
+    // unsafe() drops the serialization guard; the MPSC queue is what makes concurrent emitNext safe
+    private final Sinks.Many<Pending<K, V>> queue =
+        Sinks.unsafe().many().unicast().onBackpressureBuffer(Queues.<Pending<K, V>>unboundedMultiproducer().get());
+    private final Disposable dispatcher;
+
+    public BatchLoader(Function<List<K>, Flux<V>> batchCall, Function<V, K> keyExtractor, int maxBatchSize, Duration linger) {
+        this.batchCall = batchCall;
+        this.keyExtractor = keyExtractor;
+        this.dispatcher = queue.asFlux()
+            .bufferTimeout(maxBatchSize, linger)
+            .flatMap(this::dispatch)
+            .subscribe();
+    }
+
+    public Mono<V> load(K key) {
+        return Mono.deferContextual(ctx -> {
+            Sinks.One<V> result = Sinks.one();
+            Sinks.EmitResult emitted = queue.tryEmitNext(new Pending<>(key, result, ctx));
+            if (emitted.isFailure()) {
+                return Mono.error(new IllegalStateException("Batch loader is no longer accepting lookups: " + emitted));
+            }
+            return result.asMono();
+        });
+    }
+
+    public void dispose() {
+        dispatcher.dispose();
+    }
+
+    private Mono<Void> dispatch(List<Pending<K, V>> batch) {
+        List<K> keys = batch.stream().map(Pending::key).distinct().toList();
+        log.debug("Dispatching batch of {} lookups for {} distinct keys", batch.size(), keys.size());
+
+        return batchCall.apply(keys)
+            .contextWrite(context -> context.putAll(batch.get(0).context()))
+            .collectMap(keyExtractor)
+            .doOnNext(found -> complete(batch, found))
+            .doOnError(ex -> batch.forEach(pending -> pending.result().tryEmitError(ex)))
+            .onErrorResume(ex -> Mono.empty())
+            .then();
+    }
+
+    private void complete(List<Pending<K, V>> batch, Map<K, V> found) {
+        for (Pending<K, V> pending : batch) {
+            V value = found.get(pending.key());
+            if (value == null) {
+                pending.result().tryEmitEmpty();
+            } else {
+                pending.result().tryEmitValue(value);
+            }
+        }
+    }
+
+    private record Pending<K, V>(K key, Sinks.One<V> result, ContextView context) {}
+}
@@ -0,0 +1,67 @@
+package co.com.crediya.consumer.helper;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Coalesces concurrent calls for the same key into a single upstream call.
+ * Subscribers that arrive while a call is in flight share its result or
+ * error. The call is cancelled only once every subscriber has cancelled, and
+ * the key is released as soon as it terminates, so nothing is cached.
+ * The key is released and the outcome recorded before any subscriber sees it,
+ * so a subscriber that picked up the call just as it finished replays the
+ * outcome instead of completing empty.
+ */
+public class SingleFlight<K, V> {
+    private final ConcurrentMap<K, Mono<V>> inFlight = new ConcurrentHashMap<>();
+
+    public Mono<V> execute(K key, Function<K, Mono<V>> call) {
+        return Mono.defer(() -> {
+            Mono<V> candidate = share(key, call);
+            Mono<V> existing = inFlight.putIfAbsent(key, candidate);
+            return existing != null ? existing : candidate;
+        });
+    }
+
+    int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private Mono<V> share(K key, Function<K, Mono<V>> call) {
+        AtomicReference<Mono<V>> self = new AtomicReference<>();
+        AtomicBoolean settled = new AtomicBoolean();
+        Sinks.One<V> outcome = Sinks.one();
+
+        Flux<V> running = Flux.from(Mono.defer(() -> call.apply(key))
+            .doOnEach(signal -> {
+                if (signal.isOnSubscribe() || !settled.compareAndSet(false, true)) {
+                    return;
+                }
+                inFlight.remove(key, self.get());
+                if (signal.isOnNext()) {
+                    outcome.tryEmitValue(signal.get());
+                } else if (signal.isOnError()) {
+                    outcome.tryEmitError(signal.getThrowable());
+                } else {
+                    outcome.tryEmitEmpty();
+                }
+            })
+            .doOnCancel(() -> inFlight.remove(key, self.get())))
+            .publish()
+            .refCount();
+
+        // The outcome is recorded before the call signals, so it always wins the race
+        Mono<V> shared = Mono.defer(() -> settled.get()
+            ? outcome.asMono()
+            : Mono.firstWithSignal(outcome.asMono(), running.then(Mono.<V>empty())));
+        self.set(shared);
+        return shared;
+    }
+}
@@ -0,0 +1,228 @@
+package co.com.crediya.consumer.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSObject;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.BadJOSEException;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.JWTClaimNames;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.proc.DefaultJWTClaimsVerifier;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import com.nimbusds.jwt.proc.JWTClaimsSetVerifier;
+import com.nimbusds.jwt.proc.JWTProcessor;
+
+import co.com.crediya.consumer.config.JwtProperties;
+import co.com.crediya.consumer.config.RestConsumerConfig;
+import co.com.crediya.consumer.config.RestConsumerProperties;
+import co.com.crediya.model.application.exception.UnauthorizedException;
+import co.com.crediya.model.application.record.UserBasicInfo;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Builds the authenticated user from the bearer token claims instead of
+ * calling consultarPorToken. The signature is verified against the configured
+ * HMAC secret or JWK set; exp, sub and iat must be present, and exp/nbf plus
+ * the configured issuer and audience are checked. Completes empty when local verification is disabled, there is
+ * no token, or the token lacks the id number, email or role claims, so the
+ * caller can fall back to the remote call. The same fallback applies while the
+ * JWK set cannot be loaded.
+ *
+ * A token signed with a key id missing from the cached JWK set triggers a new
+ * fetch, so rotated keys are picked up before the TTL runs out. Fetches are
+ * spaced by the refetch cooldown; inside it the token falls back to the
+ * remote call instead of being rejected. The JWK set is fetched with the
+ * application's WebClient.Builder and the rest consumer timeout.
+ */
+@Component
+@Slf4j
+public class JwtUserResolver {
+    private static final Set<JWSAlgorithm> ASYMMETRIC_ALGORITHMS = new HashSet<>();
+
+    static {
+        ASYMMETRIC_ALGORITHMS.addAll(JWSAlgorithm.Family.RSA);
+        ASYMMETRIC_ALGORITHMS.addAll(JWSAlgorithm.Family.EC);
+    }
+
+    private static final Set<String> REQUIRED_CLAIMS = Set.of(
+        JWTClaimNames.EXPIRATION_TIME, JWTClaimNames.SUBJECT, JWTClaimNames.ISSUED_AT);
+
+    private final WebClient webClient;
+    private final JwtProperties properties;
+    private final JWTClaimsSetVerifier<SecurityContext> claimsVerifier;
+    private final JWTProcessor<SecurityContext> secretProcessor;
+    private final AtomicReference<Mono<KeySet>> keySet;
+
+    public JwtUserResolver(JwtProperties properties, WebClient.Builder webClientBuilder,
+                           RestConsumerProperties restConsumerProperties) {
+        this.properties = properties;
+        this.webClient = webClientBuilder.clone()
+            .clientConnector(RestConsumerConfig.clientHttpConnector(restConsumerProperties.timeout()))
+            .build();
+        this.claimsVerifier = claimsVerifier(properties);
+        boolean enabled = Boolean.TRUE.equals(properties.enabled());
+        if (enabled && hasText(properties.secret())) {
+            JWKSource<SecurityContext> secret = new ImmutableSecret<>(properties.secret().getBytes(StandardCharsets.UTF_8));
+            this.secretProcessor = processor(secret, JWSAlgorithm.Family.HMAC_SHA);
+            this.keySet = null;
+        } else if (enabled && hasText(properties.jwkSetUri())) {
+            this.secretProcessor = null;
+            this.keySet = new AtomicReference<>(loadKeySet());
+        } else if (enabled) {
+            throw new IllegalStateException("adapter.restconsumer.jwt requires either secret or jwk-set-uri when enabled");
+        } else {
+            this.secretProcessor = null;
+            this.keySet = null;
+        }
+    }
+
+    public Mono<UserBasicInfo> resolve() {
+        if (!Boolean.TRUE.equals(properties.enabled())) {
+            return Mono.empty();
+        }
+        return Mono.deferContextual(ctx -> {
+            String token = ctx.getOrDefault(RestConsumerConfig.CTX_AUTH_TOKEN, null);
+            if (token == null || token.isBlank()) {
+                return Mono.empty();
+            }
+            return processorFor(token)
+                .onErrorResume(e -> Mono.empty())
+                .flatMap(jwtProcessor -> Mono.justOrEmpty(toUser(verify(jwtProcessor, token))));
+        });
+    }
+
+    private JWTClaimsSet verify(JWTProcessor<SecurityContext> jwtProcessor, String token) {
+        try {
+            return jwtProcessor.process(token, null);
+        } catch (ParseException | BadJOSEException | JOSEException e) {
+            log.warn("Rejected bearer token: {}", e.getMessage());
+            throw new UnauthorizedException("Token inválido o expirado.", e);
+        }
+    }
+
+    private UserBasicInfo toUser(JWTClaimsSet claims) {
+        JwtProperties.Claims names = properties.claims();
+        Long idNumber = toLong(claims.getClaim(names.idNumber()));
+        String email = toString(claims.getClaim(names.email()));
+        String role = toString(claims.getClaim(names.role()));
+        if (idNumber == null || email == null || role == null) {
+            log.debug("Token is missing user claims, resolving the user with the users service");
+            return null;
+        }
+        return new UserBasicInfo(
+            idNumber,
+            toString(claims.getClaim(names.name())),
+            toString(claims.getClaim(names.lastname())),
+            email,
+            null,
+            null,
+            role);
+    }
+
+    private static Long toLong(Object claim) {
+        if (claim instanceof Number number) {
+            return number.longValue();
+        }
+        if (claim instanceof String text && !text.isBlank()) {
+            try {
+                return Long.valueOf(text.trim());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private static String toString(Object claim) {
+        return claim == null ? null : claim.toString();
+    }
+
+    private Mono<JWTProcessor<SecurityContext>> processorFor(String token) {
+        if (secretProcessor != null) {
+            return Mono.just(secretProcessor);
+        }
+        Mono<KeySet> observed = keySet.get();
+        return observed.flatMap(keys -> {
+            String keyId = keyIdOf(token);
+            if (keyId == null || keys.jwkSet().getKeyByKeyId(keyId) != null) {
+                return Mono.just(keys.processor());
+            }
+            if (System.nanoTime() - keys.loadedAt() < properties.jwkSetRefetchCooldown().toNanos()) {
+                log.debug("Unknown key id {} and the JWK set was fetched recently, resolving the user with the users service", keyId);
+                return Mono.empty();
+            }
+            log.info("Unknown key id {}, fetching the JWK set again from {}", keyId, properties.jwkSetUri());
+            return refetch(observed).map(KeySet::processor);
+        });
+    }
+
+    private Mono<KeySet> refetch(Mono<KeySet> observed) {
+        // Only the first caller that saw the stale set replaces it; the rest join its fetch
+        Mono<KeySet> fresh = loadKeySet();
+        return keySet.compareAndSet(observed, fresh) ? fresh : keySet.get();
+    }
+
+    private Mono<KeySet> loadKeySet() {
+        return webClient.get()
+            .uri(properties.jwkSetUri())
+            .retrieve()
+            .bodyToMono(String.class)
+            .map(JwtUserResolver::parseJwkSet)
+            .map(jwkSet -> new KeySet(jwkSet, processor(new ImmutableJWKSet<>(jwkSet), ASYMMETRIC_ALGORITHMS), System.nanoTime()))
+            .doOnError(e -> log.error("Error loading JWK set from {}: {}", properties.jwkSetUri(), e.getMessage()))
+            .cache(loaded -> properties.jwkSetTtl(), error -> Duration.ZERO, () -> Duration.ZERO);
+    }
+
+    private static String keyIdOf(String token) {
+        try {
+            return JWSObject.parse(token).getHeader().getKeyID();
+        } catch (ParseException e) {
+            return null;
+        }
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private static JWTClaimsSetVerifier<SecurityContext> claimsVerifier(JwtProperties properties) {
+        JWTClaimsSet exactMatch = properties.issuer() == null
+            ? null
+            : new JWTClaimsSet.Builder().issuer(properties.issuer()).build();
+        Set<String> audiences = properties.audience() == null ? null : Set.of(properties.audience());
+        return new DefaultJWTClaimsVerifier<>(audiences, exactMatch, REQUIRED_CLAIMS, null);
+    }
+
+    private static JWKSet parseJwkSet(String json) {
+        try {
+            return JWKSet.parse(json);
+        } catch (ParseException e) {
+            throw new IllegalStateException("Invalid JWK set", e);
+        }
+    }
+
+    private JWTProcessor<SecurityContext> processor(JWKSource<SecurityContext> keySource, Set<JWSAlgorithm> algorithms) {
+        DefaultJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
+        jwtProcessor.setJWSKeySelector(new JWSVerificationKeySelector<>(algorithms, keySource));
+        jwtProcessor.setJWTClaimsSetVerifier(claimsVerifier);
+        return jwtProcessor;
+    }
+
+    private record KeySet(JWKSet jwkSet, JWTProcessor<SecurityContext> processor, long loadedAt) {}
+}
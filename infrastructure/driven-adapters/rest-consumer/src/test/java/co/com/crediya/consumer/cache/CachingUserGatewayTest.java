@@ -0,0 +1,176 @@
+package co.com.crediya.consumer.cache;
+
+import co.com.crediya.consumer.RestConsumer;
+import co.com.crediya.consumer.config.JwtProperties;
+import co.com.crediya.consumer.config.RestConsumerProperties;
+import co.com.crediya.consumer.config.UserBatchProperties;
+import co.com.crediya.consumer.config.UserCacheProperties;
+import co.com.crediya.consumer.jwt.JwtUserResolver;
+import co.com.crediya.model.application.exception.ServiceNotAvailabeException;
+import co.com.crediya.model.application.record.UserBasicInfo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachingUserGatewayTest {
+
+    @Mock
+    private RestConsumer delegate;
+
+    private final JwtUserResolver jwtUserResolver = new JwtUserResolver(new JwtProperties(null, null, null, null, null, null, null, null),
+        WebClient.builder(), new RestConsumerProperties(5000, null));
+
+    private CachingUserGateway gateway;
+
+    private UserBasicInfo user1;
+    private UserBasicInfo user2;
+
+    @BeforeEach
+    void setUp() {
+        gateway = new CachingUserGateway(delegate, new UserCacheProperties(null, null), new UserBatchProperties(false, null, null), jwtUserResolver, new SimpleMeterRegistry());
+        user1 = new UserBasicInfo(123L, "User", "One", "one@example.com", 1000.0, "Cédula", "CLIENTE");
+        user2 = new UserBasicInfo(456L, "User", "Two", "two@example.com", 2000.0, "Cédula", "CLIENTE");
+    }
+
+    @Test
+    @DisplayName("Should call the users service only once for the same email")
+    void shouldCacheUserByEmail() {
+        // Arrange
+        when(delegate.getUserByEmail(user1.email())).thenReturn(Mono.just(user1));
+
+        // Act & Assert
+        StepVerifier.create(gateway.getUserByEmail(user1.email()))
+            .expectNext(user1)
+            .verifyComplete();
+        StepVerifier.create(gateway.getUserByEmail(user1.email()))
+            .expectNext(user1)
+            .verifyComplete();
+
+        verify(delegate, times(1)).getUserByEmail(user1.email());
+    }
+
+    @Test
+    @DisplayName("Should call the users service only once for the same id number")
+    void shouldCacheUserByIdNumber() {
+        // Arrange
+        when(delegate.getUserByIdNumber(123L)).thenReturn(Mono.just(user1));
+
+        // Act & Assert
+        StepVerifier.create(gateway.getUserByIdNumber(123L))
+            .expectNext(user1)
+            .verifyComplete();
+        StepVerifier.create(gateway.getUserByIdNumber(123L))
+            .expectNext(user1)
+            .verifyComplete();
+
+        verify(delegate, times(1)).getUserByIdNumber(123L);
+    }
+
+    @Test
+    @DisplayName("Should not cache errors from the users service")
+    void shouldNotCacheErrors() {
+        // Arrange
+        when(delegate.getUserByEmail(user1.email()))
+            .thenReturn(Mono.error(new ServiceNotAvailabeException("User service unavailable", new RuntimeException())))
+            .thenReturn(Mono.just(user1));
+
+        // Act & Assert
+        StepVerifier.create(gateway.getUserByEmail(user1.email()))
+            .expectError(ServiceNotAvailabeException.class)
+            .verify();
+        StepVerifier.create(gateway.getUserByEmail(user1.email()))
+            .expectNext(user1)
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should only request the users missing from the cache in batch lookups")
+    void shouldRequestOnlyMissingUsersInBatch() {
+        // Arrange
+        when(delegate.getUsersBasicInfo(List.of(user1.email()))).thenReturn(Flux.just(user1));
+        when(delegate.getUsersBasicInfo(List.of(user2.email()))).thenReturn(Flux.just(user2));
+
+        // Act & Assert
+        StepVerifier.create(gateway.getUsersBasicInfo(List.of(user1.email())))
+            .expectNext(user1)
+            .verifyComplete();
+        StepVerifier.create(gateway.getUsersBasicInfo(List.of(user1.email(), user2.email())))
+            .expectNext(user1, user2)
+            .verifyComplete();
+        StepVerifier.create(gateway.getUsersBasicInfo(List.of(user2.email(), user1.email())))
+            .expectNextCount(2)
+            .verifyComplete();
+
+        verify(delegate, times(1)).getUsersBasicInfo(List.of(user1.email()));
+        verify(delegate, times(1)).getUsersBasicInfo(List.of(user2.email()));
+    }
+
+    @Test
+    @DisplayName("Should serve the cached user and refresh it in background once stale")
+    void shouldRefreshStaleEntriesInBackground() {
+        // Arrange
+        UserCacheProperties.Spec spec = new UserCacheProperties.Spec(Duration.ofMinutes(10), Duration.ZERO, null);
+        gateway = new CachingUserGateway(delegate, new UserCacheProperties(spec, spec), new UserBatchProperties(false, null, null), jwtUserResolver, new SimpleMeterRegistry());
+        UserBasicInfo updated = new UserBasicInfo(123L, "User", "Updated", user1.email(), 1000.0, "Cédula", "CLIENTE");
+        when(delegate.getUserByEmail(user1.email()))
+            .thenReturn(Mono.just(user1))
+            .thenReturn(Mono.just(updated));
+
+        // Act & Assert
+        StepVerifier.create(gateway.getUserByEmail(user1.email()))
+            .expectNext(user1)
+            .verifyComplete();
+        StepVerifier.create(gateway.getUserByEmail(user1.email()))
+            .expectNext(user1)
+            .verifyComplete();
+        StepVerifier.create(gateway.getUserByEmail(user1.email()))
+            .expectNext(updated)
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should resolve email cache misses through the batch endpoint")
+    void shouldBatchEmailCacheMisses() {
+        // Arrange
+        gateway = new CachingUserGateway(
+            delegate, new UserCacheProperties(null, null), new UserBatchProperties(true, 10, Duration.ofMillis(20)), jwtUserResolver, new SimpleMeterRegistry());
+        when(delegate.getUsersBasicInfo(List.of(user1.email(), user2.email()))).thenReturn(Flux.just(user1, user2));
+
+        // Act & Assert
+        StepVerifier.create(Mono.zip(gateway.getUserByEmail(user1.email()), gateway.getUserByEmail(user2.email())))
+            .expectNextMatches(users -> users.getT1().equals(user1) && users.getT2().equals(user2))
+            .verifyComplete();
+
+        verify(delegate, never()).getUserByEmail(user1.email());
+        gateway.close();
+    }
+
+    @Test
+    @DisplayName("Should resolve the authenticated user remotely when local verification is disabled")
+    void shouldResolveRequestUserRemotely() {
+        // Arrange
+        when(delegate.getRequestUserByToken()).thenReturn(Mono.just(user1));
+
+        // Act & Assert
+        StepVerifier.create(gateway.getRequestUserByToken())
+            .expectNext(user1)
+            .verifyComplete();
+    }
+}
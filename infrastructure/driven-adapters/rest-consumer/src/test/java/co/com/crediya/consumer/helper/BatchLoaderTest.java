@@ -0,0 +1,106 @@
+package co.com.crediya.consumer.helper;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BatchLoaderTest {
+
+    private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+    private BatchLoader<String, String> loader;
+
+    @AfterEach
+    void tearDown() {
+        loader.dispose();
+    }
+
+    @Test
+    @DisplayName("Should resolve concurrent lookups with a single batch call")
+    void shouldResolveConcurrentLookupsInOneBatch() {
+        // Arrange
+        loader = new BatchLoader<>(echo(), Function.identity(), 10, Duration.ofMillis(50));
+
+        // Act & Assert
+        StepVerifier.create(Mono.zip(loader.load("a"), loader.load("b"), loader.load("a")))
+            .expectNextMatches(values -> values.getT1().equals("a") && values.getT2().equals("b") && values.getT3().equals("a"))
+            .verifyComplete();
+        assertEquals(List.of(List.of("a", "b")), batches);
+    }
+
+    @Test
+    @DisplayName("Should dispatch as soon as the batch is full")
+    void shouldDispatchWhenBatchIsFull() {
+        // Arrange
+        loader = new BatchLoader<>(echo(), Function.identity(), 2, Duration.ofSeconds(30));
+
+        // Act & Assert
+        StepVerifier.create(Mono.zip(loader.load("a"), loader.load("b")))
+            .expectNextCount(1)
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("Should complete empty for keys missing from the batch response")
+    void shouldCompleteEmptyForMissingKeys() {
+        // Arrange
+        loader = new BatchLoader<>(keys -> Flux.empty(), Function.identity(), 10, Duration.ofMillis(10));
+
+        // Act & Assert
+        StepVerifier.create(loader.load("missing"))
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should propagate batch errors to every waiting lookup")
+    void shouldPropagateBatchErrors() {
+        // Arrange
+        loader = new BatchLoader<>(keys -> Flux.error(new IllegalStateException("boom")), Function.identity(), 10, Duration.ofMillis(10));
+
+        // Act & Assert
+        StepVerifier.create(loader.load("a"))
+            .expectError(IllegalStateException.class)
+            .verify();
+        StepVerifier.create(loader.load("b"))
+            .expectError(IllegalStateException.class)
+            .verify();
+    }
+
+    @Test
+    @DisplayName("Should resolve lookups issued from many threads at once")
+    void shouldResolveLookupsFromManyThreads() {
+        // Arrange
+        loader = new BatchLoader<>(echo(), Function.identity(), 50, Duration.ofMillis(20));
+
+        // Act & Assert
+        StepVerifier.create(Flux.range(0, 2_000)
+                .parallel(8)
+                .runOn(Schedulers.parallel())
+                .flatMap(i -> loader.load("key-" + i).map(value -> value.equals("key-" + i)))
+                .sequential()
+                .filter(Boolean::booleanValue)
+                .count())
+            .expectNext(2_000L)
+            .expectComplete()
+            .verify(Duration.ofSeconds(10));
+        assertEquals(2_000, batches.stream().mapToInt(List::size).sum());
+    }
+
+    private Function<List<String>, Flux<String>> echo() {
+        return keys -> {
+            batches.add(keys);
+            return Flux.fromIterable(keys);
+        };
+    }
+}
@@ -0,0 +1,114 @@
+package co.com.crediya.consumer.helper;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SingleFlightTest {
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+    @Test
+    @DisplayName("Should share one call between concurrent subscribers of the same key")
+    void shouldShareConcurrentCalls() {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+        Sinks.One<String> response = Sinks.one();
+
+        AtomicReference<String> firstResult = new AtomicReference<>();
+
+        // Act
+        singleFlight.execute("key", key -> {
+            calls.incrementAndGet();
+            return response.asMono();
+        }).subscribe(firstResult::set);
+        Mono<String> second = singleFlight.execute("key", key -> {
+            calls.incrementAndGet();
+            return Mono.just("other");
+        });
+
+        // Assert
+        StepVerifier.create(second)
+            .then(() -> response.tryEmitValue("value"))
+            .expectNext("value")
+            .verifyComplete();
+        assertEquals("value", firstResult.get());
+        assertEquals(1, calls.get());
+        assertEquals(0, singleFlight.inFlightCount());
+    }
+
+    @Test
+    @DisplayName("Should propagate the error to every waiting subscriber and release the key")
+    void shouldPropagateErrors() {
+        // Arrange
+        Sinks.One<String> response = Sinks.one();
+        Mono<String> first = singleFlight.execute("key", key -> response.asMono());
+        Mono<String> second = singleFlight.execute("key", key -> Mono.just("other"));
+
+        // Act & Assert
+        StepVerifier.create(Mono.zip(first, second))
+            .then(() -> response.tryEmitError(new IllegalStateException("boom")))
+            .expectError(IllegalStateException.class)
+            .verify();
+        StepVerifier.create(singleFlight.execute("key", key -> Mono.just("retried")))
+            .expectNext("retried")
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should cancel the call only when every subscriber has cancelled")
+    void shouldCancelWhenAllSubscribersCancel() {
+        // Arrange
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Mono<String> never = Mono.<String>never().doOnCancel(() -> cancelled.set(true));
+
+        // Act
+        var first = singleFlight.execute("key", key -> never).subscribe();
+        var second = singleFlight.execute("key", key -> Mono.just("other")).subscribe();
+        first.dispose();
+
+        // Assert
+        assertFalse(cancelled.get());
+        second.dispose();
+        assertTrue(cancelled.get());
+        assertEquals(0, singleFlight.inFlightCount());
+    }
+
+    @Test
+    @DisplayName("Should release the key before subscribers see the result")
+    void shouldReleaseKeyBeforeSubscribersSeeResult() {
+        // Arrange
+        Sinks.One<String> response = Sinks.one();
+        AtomicReference<String> followUp = new AtomicReference<>();
+        singleFlight.execute("key", key -> response.asMono())
+            .subscribe(value -> singleFlight.execute("key", key -> Mono.just("fresh")).subscribe(followUp::set));
+
+        // Act
+        response.tryEmitValue("value");
+
+        // Assert
+        assertEquals("fresh", followUp.get());
+        assertEquals(0, singleFlight.inFlightCount());
+    }
+
+    @Test
+    @DisplayName("Should not share calls for different keys")
+    void shouldNotShareDifferentKeys() {
+        // Act & Assert
+        StepVerifier.create(Mono.zip(
+                singleFlight.execute("a", key -> Mono.just(key + "-value")),
+                singleFlight.execute("b", key -> Mono.just(key + "-value"))))
+            .expectNextMatches(values -> values.getT1().equals("a-value") && values.getT2().equals("b-value"))
+            .verifyComplete();
+    }
+}
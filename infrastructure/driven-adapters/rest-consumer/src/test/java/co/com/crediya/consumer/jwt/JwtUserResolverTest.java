@@ -0,0 +1,231 @@
+package co.com.crediya.consumer.jwt;
+
+import co.com.crediya.consumer.config.JwtProperties;
+import co.com.crediya.consumer.config.RestConsumerConfig;
+import co.com.crediya.consumer.config.RestConsumerProperties;
+import co.com.crediya.model.application.exception.UnauthorizedException;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class JwtUserResolverTest {
+
+    private static final String SECRET = "0123456789abcdef0123456789abcdef";
+
+    private final JwtUserResolver resolver = resolver(new JwtProperties(true, SECRET, null, null, null, null, null, null));
+
+    @Test
+    @DisplayName("Should build the user from the token claims")
+    void shouldBuildUserFromClaims() throws JOSEException {
+        // Arrange
+        String token = sign(SECRET, userClaims().build());
+
+        // Act & Assert
+        StepVerifier.create(resolver.resolve().contextWrite(ctx -> ctx.put(RestConsumerConfig.CTX_AUTH_TOKEN, token)))
+            .expectNextMatches(user -> user.idNumber().equals(123L)
+                && user.email().equals("test@example.com")
+                && user.roleName().equals("CLIENTE"))
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should complete empty when the token lacks user claims")
+    void shouldCompleteEmptyWhenClaimsAreMissing() throws JOSEException {
+        // Arrange
+        String token = sign(SECRET, new JWTClaimsSet.Builder()
+            .subject("test@example.com")
+            .issueTime(new Date())
+            .expirationTime(new Date(System.currentTimeMillis() + 60_000))
+            .build());
+
+        // Act & Assert
+        StepVerifier.create(resolver.resolve().contextWrite(ctx -> ctx.put(RestConsumerConfig.CTX_AUTH_TOKEN, token)))
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should reject tokens signed with another key")
+    void shouldRejectInvalidSignature() throws JOSEException {
+        // Arrange
+        String token = sign("fedcba9876543210fedcba9876543210", userClaims().build());
+
+        // Act & Assert
+        StepVerifier.create(resolver.resolve().contextWrite(ctx -> ctx.put(RestConsumerConfig.CTX_AUTH_TOKEN, token)))
+            .expectError(UnauthorizedException.class)
+            .verify();
+    }
+
+    @Test
+    @DisplayName("Should reject expired tokens")
+    void shouldRejectExpiredToken() throws JOSEException {
+        // Arrange
+        String token = sign(SECRET, userClaims()
+            .expirationTime(new Date(System.currentTimeMillis() - 120_000))
+            .build());
+
+        // Act & Assert
+        StepVerifier.create(resolver.resolve().contextWrite(ctx -> ctx.put(RestConsumerConfig.CTX_AUTH_TOKEN, token)))
+            .expectError(UnauthorizedException.class)
+            .verify();
+    }
+
+    @Test
+    @DisplayName("Should reject tokens without an expiration time")
+    void shouldRejectTokenWithoutExpiration() throws JOSEException {
+        // Arrange
+        String token = sign(SECRET, userClaims()
+            .expirationTime(null)
+            .build());
+
+        // Act & Assert
+        StepVerifier.create(resolver.resolve().contextWrite(ctx -> ctx.put(RestConsumerConfig.CTX_AUTH_TOKEN, token)))
+            .expectError(UnauthorizedException.class)
+            .verify();
+    }
+
+    @Test
+    @DisplayName("Should complete empty when local verification is disabled")
+    void shouldCompleteEmptyWhenDisabled() {
+        // Arrange
+        JwtUserResolver disabled = resolver(new JwtProperties(false, SECRET, null, null, null, null, null, null));
+
+        // Act & Assert
+        StepVerifier.create(disabled.resolve().contextWrite(ctx -> ctx.put(RestConsumerConfig.CTX_AUTH_TOKEN, "token")))
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should accept tokens from the configured issuer and audience")
+    void shouldAcceptConfiguredIssuerAndAudience() throws JOSEException {
+        // Arrange
+        JwtUserResolver strict = resolver(
+            new JwtProperties(true, SECRET, null, null, null, "crediya-auth", "crediya-applications", null));
+        String token = sign(SECRET, userClaims()
+            .issuer("crediya-auth")
+            .audience(List.of("crediya-reports", "crediya-applications"))
+            .build());
+
+        // Act & Assert
+        StepVerifier.create(strict.resolve().contextWrite(ctx -> ctx.put(RestConsumerConfig.CTX_AUTH_TOKEN, token)))
+            .expectNextMatches(user -> user.idNumber().equals(123L))
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should reject tokens from another issuer or for another audience")
+    void shouldRejectWrongIssuerOrAudience() throws JOSEException {
+        // Arrange
+        JwtUserResolver strict = resolver(
+            new JwtProperties(true, SECRET, null, null, null, "crediya-auth", "crediya-applications", null));
+        String otherIssuer = sign(SECRET, userClaims()
+            .issuer("someone-else")
+            .audience("crediya-applications")
+            .build());
+        String otherAudience = sign(SECRET, userClaims()
+            .issuer("crediya-auth")
+            .audience("crediya-reports")
+            .build());
+
+        // Act & Assert
+        StepVerifier.create(strict.resolve().contextWrite(ctx -> ctx.put(RestConsumerConfig.CTX_AUTH_TOKEN, otherIssuer)))
+            .expectError(UnauthorizedException.class)
+            .verify();
+        StepVerifier.create(strict.resolve().contextWrite(ctx -> ctx.put(RestConsumerConfig.CTX_AUTH_TOKEN, otherAudience)))
+            .expectError(UnauthorizedException.class)
+            .verify();
+    }
+
+    @Test
+    @DisplayName("Should fetch the JWK set again when a token is signed with a rotated key")
+    void shouldRefetchJwkSetOnUnknownKeyId() throws JOSEException, IOException {
+        // Arrange
+        RSAKey oldKey = new RSAKeyGenerator(2048).keyID("old").generate();
+        RSAKey newKey = new RSAKeyGenerator(2048).keyID("new").generate();
+        try (MockWebServer server = new MockWebServer()) {
+            server.enqueue(new MockResponse().setBody(new JWKSet(oldKey).toString()));
+            server.enqueue(new MockResponse().setBody(new JWKSet(List.of(oldKey, newKey)).toString()));
+            JwtUserResolver rotating = resolver(new JwtProperties(true, null,
+                server.url("/jwks").toString(), null, Duration.ZERO, null, null, null));
+            String oldToken = sign(oldKey, userClaims().build());
+            String newToken = sign(newKey, userClaims().build());
+
+            // Act & Assert
+            StepVerifier.create(rotating.resolve().contextWrite(ctx -> ctx.put(RestConsumerConfig.CTX_AUTH_TOKEN, oldToken)))
+                .expectNextMatches(user -> user.idNumber().equals(123L))
+                .verifyComplete();
+            StepVerifier.create(rotating.resolve().contextWrite(ctx -> ctx.put(RestConsumerConfig.CTX_AUTH_TOKEN, newToken)))
+                .expectNextMatches(user -> user.idNumber().equals(123L))
+                .verifyComplete();
+            StepVerifier.create(rotating.resolve().contextWrite(ctx -> ctx.put(RestConsumerConfig.CTX_AUTH_TOKEN, oldToken)))
+                .expectNextMatches(user -> user.idNumber().equals(123L))
+                .verifyComplete();
+            assertEquals(2, server.getRequestCount());
+        }
+    }
+
+    @Test
+    @DisplayName("Should fall back to the users service for unknown key ids within the refetch cooldown")
+    void shouldFallBackOnUnknownKeyIdWithinCooldown() throws JOSEException, IOException {
+        // Arrange
+        RSAKey knownKey = new RSAKeyGenerator(2048).keyID("known").generate();
+        RSAKey unknownKey = new RSAKeyGenerator(2048).keyID("unknown").generate();
+        try (MockWebServer server = new MockWebServer()) {
+            server.enqueue(new MockResponse().setBody(new JWKSet(knownKey).toString()));
+            JwtUserResolver rotating = resolver(new JwtProperties(true, null,
+                server.url("/jwks").toString(), null, Duration.ofMinutes(5), null, null, null));
+            String token = sign(unknownKey, userClaims().build());
+
+            // Act & Assert
+            StepVerifier.create(rotating.resolve().contextWrite(ctx -> ctx.put(RestConsumerConfig.CTX_AUTH_TOKEN, token)))
+                .verifyComplete();
+            assertEquals(1, server.getRequestCount());
+        }
+    }
+
+    private static JwtUserResolver resolver(JwtProperties properties) {
+        return new JwtUserResolver(properties, WebClient.builder(), new RestConsumerProperties(5000, null));
+    }
+
+    private JWTClaimsSet.Builder userClaims() {
+        return new JWTClaimsSet.Builder()
+            .subject("test@example.com")
+            .issueTime(new Date())
+            .claim("idNumber", 123L)
+            .claim("email", "test@example.com")
+            .claim("role", "CLIENTE")
+            .expirationTime(new Date(System.currentTimeMillis() + 60_000));
+    }
+
+    private String sign(RSAKey key, JWTClaimsSet claims) throws JOSEException {
+        SignedJWT jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(key.getKeyID()).build(), claims);
+        jwt.sign(new RSASSASigner(key));
+        return jwt.serialize();
+    }
+
+    private String sign(String secret, JWTClaimsSet claims) throws JOSEException {
+        SignedJWT jwt = new SignedJWT(new JWSHeader(JWSAlgorithm.HS256), claims);
+        jwt.sign(new MACSigner(secret.getBytes(StandardCharsets.UTF_8)));
+        return jwt.serialize();
+    }
+}
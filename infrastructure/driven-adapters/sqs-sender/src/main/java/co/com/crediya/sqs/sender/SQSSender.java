@@ -1,6 +1,5 @@
 package co.com.crediya.sqs.sender;
 
-import co.com.crediya.model.application.exception.SQSMessagingException;
 import co.com.crediya.model.application.gateways.NotificationsSQSGateway;
 import co.com.crediya.model.application.record.ApplicationWithUserInfoRecord;
 import co.com.crediya.sqs.sender.config.SQSSenderProperties;
@@ -9,37 +8,65 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import software.amazon.awssdk.services.sqs.SqsAsyncClient;
-import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
-import software.amazon.awssdk.services.sqs.model.SendMessageResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
 
 @Service
 @Log4j2
 @RequiredArgsConstructor
 public class SQSSender implements NotificationsSQSGateway {
+    /** SQS accepts at most 10 entries per SendMessageBatch request. */
+    private static final int MAX_BATCH_ENTRIES = 10;
+    private static final int BATCH_CONCURRENCY = 4;
+
     private final SQSSenderProperties properties;
     private final SqsAsyncClient client;
     private final JsonConverter jsonConverter;
 
     @Override
-    public Mono<String> send(ApplicationWithUserInfoRecord updatedApplication) {
-        return Mono.fromCallable(() -> buildRequest(updatedApplication))
-            .flatMap(request -> Mono.fromFuture(client.sendMessage(request))
-                .onErrorResume(e -> {
-                    log.error("Error sending message to SQS: {}", e.getMessage(), e);
-                    return Mono.error(new SQSMessagingException("Error al enviar el mensaje a SQS", e));
-                }))
-            .doOnNext(response -> log.debug("Message sent {}", response.messageId()))
-            .map(SendMessageResponse::messageId);
+    public Mono<Set<UUID>> sendAll(List<ApplicationWithUserInfoRecord> updatedApplications) {
+        return Flux.fromIterable(updatedApplications)
+            .buffer(MAX_BATCH_ENTRIES)
+            .flatMap(this::sendBatch, BATCH_CONCURRENCY)
+            .collect(HashSet::new, Set::addAll);
     }
 
-    private SendMessageRequest buildRequest(ApplicationWithUserInfoRecord message) {
-        String jsonMessage = jsonConverter.toJson(message);
-        
-        return SendMessageRequest.builder()
+    private Flux<UUID> sendBatch(List<ApplicationWithUserInfoRecord> batch) {
+        return Mono.fromCallable(() -> buildBatchRequest(batch))
+            .flatMap(request -> Mono.fromFuture(client.sendMessageBatch(request)))
+            .flatMapMany(response -> Flux.fromIterable(response.failed()))
+            .map(failed -> {
+                UUID applicationId = batch.get(Integer.parseInt(failed.id())).applicationId();
+                log.error("SQS rejected message for application {}: {}", applicationId, failed.message());
+                return applicationId;
+            })
+            .onErrorResume(e -> {
+                log.error("Error sending message batch to SQS: {}", e.getMessage(), e);
+                return Flux.fromIterable(batch).map(ApplicationWithUserInfoRecord::applicationId);
+            });
+    }
+
+    private SendMessageBatchRequest buildBatchRequest(List<ApplicationWithUserInfoRecord> batch) {
+        List<SendMessageBatchRequestEntry> entries = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            entries.add(SendMessageBatchRequestEntry.builder()
+                .id(String.valueOf(i))
+                .messageBody(jsonConverter.toJson(batch.get(i)))
+                .build());
+        }
+
+        return SendMessageBatchRequest.builder()
             .queueUrl(properties.queueUrl())
-            .messageBody(jsonMessage)
+            .entries(entries)
             .build();
     }
 }
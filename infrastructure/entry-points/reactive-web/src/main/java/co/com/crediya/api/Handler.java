@@ -2,9 +2,12 @@ package co.com.crediya.api;
 
 import lombok.RequiredArgsConstructor;
 
+import java.math.BigDecimal;
 import java.net.URI;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
@@ -14,13 +17,20 @@ import org.springframework.web.reactive.function.server.ServerResponse;
 import co.com.crediya.api.dto.CreateApplicationDTO;
 import co.com.crediya.api.dto.UpdateApplicationStatusDTO;
 import co.com.crediya.api.mapper.ApplicationDTOMapper;
+import co.com.crediya.model.application.criteria.CountStrategy;
+import co.com.crediya.model.application.criteria.ReadMode;
 import co.com.crediya.model.application.criteria.SearchCriteria;
+import co.com.crediya.model.application.record.AmortizationInstallment;
+import co.com.crediya.model.application.record.ApplicationRecord;
 import co.com.crediya.usecase.application.ApplicationUseCase;
 import reactor.core.publisher.Mono;
 
 @Component
 @RequiredArgsConstructor
 public class Handler {
+    private static final List<MediaType> STREAMING_MEDIA_TYPES =
+        List.of(MediaType.APPLICATION_NDJSON, MediaType.TEXT_EVENT_STREAM);
+
     private final ApplicationUseCase applicationUseCase;
     private final ApplicationDTOMapper applicationMapper;
 
@@ -33,9 +43,49 @@ public class Handler {
                 .bodyValue(createdApplication));
     }
 
+    public Mono<ServerResponse> createApplications(ServerRequest serverRequest) {
+        return serverRequest.bodyToFlux(CreateApplicationDTO.class)
+            .map(applicationMapper::toModel)
+            .as(applicationUseCase::saveApplications)
+            .flatMap(result -> ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(result));
+    }
+
     public Mono<ServerResponse> getAllApplications(ServerRequest serverRequest) {
-        return applicationUseCase.getAllApplications().collectList()
-            .flatMap(applicationsList -> ServerResponse.ok().bodyValue(applicationsList));
+        return Mono.defer(() -> {
+            ReadMode readMode = serverRequest.queryParam("readMode").map(this::toReadMode).orElse(ReadMode.CACHED);
+            MediaType streamingType = streamingMediaType(serverRequest);
+            if (streamingType != null) {
+                // Written element by element as rows arrive, with the client's demand pacing the database fetches
+                return ServerResponse.ok()
+                    .contentType(streamingType)
+                    .body(applicationUseCase.getAllApplications(readMode), ApplicationRecord.class);
+            }
+            return applicationUseCase.getAllApplications(readMode).collectList()
+                .flatMap(applicationsList -> ServerResponse.ok().bodyValue(applicationsList));
+        });
+    }
+
+    private MediaType streamingMediaType(ServerRequest request) {
+        for (MediaType accepted : request.headers().accept()) {
+            for (MediaType streaming : STREAMING_MEDIA_TYPES) {
+                if (streaming.equalsTypeAndSubtype(accepted)) {
+                    return streaming;
+                }
+            }
+        }
+        return null;
+    }
+
+    public Mono<ServerResponse> getAmortizationSchedule(ServerRequest serverRequest) {
+        return Mono.defer(() -> {
+            UUID applicationId = toApplicationId(serverRequest.pathVariable("id"));
+            // Each installment is computed when the client's demand reaches it, never the whole table at once
+            return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(applicationUseCase.getAmortizationSchedule(applicationId), AmortizationInstallment.class);
+        });
     }
 
     public Mono<ServerResponse> getByCriteriaPaginated(ServerRequest request) {
@@ -56,11 +106,17 @@ public class Handler {
                 .ifPresent(value -> filters.put("loan_type_id", Integer.valueOf(value)));
             request.queryParam("loanStatusId")
                 .ifPresent(value -> filters.put("loan_status_id", Integer.valueOf(value)));
+            request.queryParam("minMonthlyPayment")
+                .ifPresent(value -> filters.put("monthly_payment_min", new BigDecimal(value)));
+            request.queryParam("maxMonthlyPayment")
+                .ifPresent(value -> filters.put("monthly_payment_max", new BigDecimal(value)));
             
             String sortBy = request.queryParam("sortBy").orElse(null);
             String sortDirection = request.queryParam("sortDirection").orElse("ASC");
             int page = request.queryParam("page").map(Integer::valueOf).orElse(0);
             int size = request.queryParam("size").map(Integer::valueOf).orElse(10);
+            String cursor = request.queryParam("cursor").orElse(null);
+            CountStrategy countStrategy = request.queryParam("countStrategy").map(this::toCountStrategy).orElse(null);
             
             return SearchCriteria.builder()
                 .filters(filters.isEmpty() ? null : filters)
@@ -68,10 +124,36 @@ public class Handler {
                 .sortDirection(sortDirection)
                 .page(page)
                 .size(size)
+                .cursor(cursor)
+                .countStrategy(countStrategy)
                 .build();
         });
     }
 
+    private UUID toApplicationId(String value) {
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Id de solicitud inválido: " + value, e);
+        }
+    }
+
+    private CountStrategy toCountStrategy(String value) {
+        try {
+            return CountStrategy.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Estrategia de conteo inválida: " + value, e);
+        }
+    }
+
+    private ReadMode toReadMode(String value) {
+        try {
+            return ReadMode.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Modo de lectura inválido: " + value, e);
+        }
+    }
+
     public Mono<ServerResponse> updateApplicationStatus(ServerRequest serverRequest) {
         return serverRequest.bodyToMono(UpdateApplicationStatusDTO.class)
             .map(applicationMapper::toModel)
@@ -80,4 +162,14 @@ public class Handler {
                 .contentType(MediaType.APPLICATION_JSON)
                 .bodyValue(updatedApplication));
     }
+
+    public Mono<ServerResponse> updateApplicationStatuses(ServerRequest serverRequest) {
+        return serverRequest.bodyToFlux(UpdateApplicationStatusDTO.class)
+            .map(applicationMapper::toModel)
+            .collectList()
+            .flatMap(updates -> applicationUseCase.updateApplicationStatuses(updates).collectList())
+            .flatMap(outcomes -> ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(outcomes));
+    }
 }
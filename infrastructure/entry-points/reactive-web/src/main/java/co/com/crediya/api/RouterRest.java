@@ -10,10 +10,14 @@ import co.com.crediya.api.dto.CreateApplicationDTO;
 import co.com.crediya.api.dto.UpdateApplicationStatusDTO;
 import co.com.crediya.model.application.Application;
 import co.com.crediya.model.application.criteria.PageResult;
+import co.com.crediya.model.application.record.AmortizationInstallment;
 import co.com.crediya.model.application.record.ApplicationRecord;
+import co.com.crediya.model.application.record.BulkOperationResult;
+import co.com.crediya.model.application.record.StatusUpdateOutcome;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -41,12 +45,27 @@ public class RouterRest {
                 operationId = "getAllApplications",
                 tags = {"Solicitudes"},
                 summary = "Obtener todas las solicitudes de crédito",
-                description = "Retorna una lista con todos las solicitudes de crédito registradas",
+                description = "Retorna una lista con todos las solicitudes de crédito registradas. Con Accept "
+                    + "application/x-ndjson o text/event-stream las solicitudes se envían a medida que se leen de la base de datos",
+                parameters = {
+                    @Parameter(
+                        name = "readMode",
+                        description = "Cómo se resuelven el tipo y el estado del crédito: CACHED (por defecto, datos de referencia "
+                            + "en caché) o JOINED (una sola consulta con JOIN sobre la base de datos)",
+                        in = ParameterIn.QUERY,
+                        required = false,
+                        schema = @Schema(type = "string", allowableValues = {"CACHED", "JOINED"})
+                    )
+                },
                 responses = {
                     @ApiResponse(
                         responseCode = "200", 
                         description = "Lista de solicitudes de crédito obtenida exitosamente",
-                        content = @Content(schema = @Schema(implementation = Application.class))
+                        content = {
+                            @Content(mediaType = "application/json", schema = @Schema(implementation = Application.class)),
+                            @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = ApplicationRecord.class)),
+                            @Content(mediaType = "text/event-stream", schema = @Schema(implementation = ApplicationRecord.class))
+                        }
                     )
                 }
             )
@@ -77,6 +96,32 @@ public class RouterRest {
                 }
             )
         ),
+        @RouterOperation(
+            path = applicationsBaseUrl + "/lote", 
+            method = RequestMethod.POST,
+            operation = @Operation(
+                operationId = "createApplications",
+                tags = {"Solicitudes"},
+                summary = "Cargar solicitudes de crédito en lote",
+                description = "Registra en estado pendiente las solicitudes recibidas como arreglo JSON o NDJSON (application/x-ndjson). Las filas inválidas no detienen la carga y se reportan con su posición",
+                security = { @SecurityRequirement(name = "bearer-jwt") },
+                requestBody = @RequestBody(
+                    required = true,
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = CreateApplicationDTO.class)))
+                ),
+                responses = {
+                    @ApiResponse(
+                        responseCode = "200", 
+                        description = "Carga procesada; incluye el número de solicitudes recibidas, guardadas y las filas rechazadas",
+                        content = @Content(schema = @Schema(implementation = BulkOperationResult.class))
+                    ),
+                    @ApiResponse(
+                        responseCode = "401", 
+                        description = "El usuario autenticado no es Administrador"
+                    )
+                }
+            )
+        ),
         @RouterOperation(
             path = applicationsBaseUrl + "/filtrarPaginado", 
             method = RequestMethod.GET,
@@ -107,9 +152,23 @@ public class RouterRest {
                         required = false,
                         schema = @Schema(type = "integer", format = "int16")
                     ),
+                    @Parameter(
+                        name = "minMonthlyPayment", 
+                        description = "Cuota mensual mínima",
+                        in = ParameterIn.QUERY,
+                        required = false,
+                        schema = @Schema(type = "number")
+                    ),
+                    @Parameter(
+                        name = "maxMonthlyPayment", 
+                        description = "Cuota mensual máxima",
+                        in = ParameterIn.QUERY,
+                        required = false,
+                        schema = @Schema(type = "number")
+                    ),
                     @Parameter(
                         name = "sortBy", 
-                        description = "Ordenado por",
+                        description = "Ordenado por (application_id, user_email, loan_amount, loan_term, monthly_payment)",
                         in = ParameterIn.QUERY,
                         required = false,
                         schema = @Schema(type = "string")
@@ -134,6 +193,20 @@ public class RouterRest {
                         in = ParameterIn.QUERY,
                         required = false,
                         schema = @Schema(type = "integer", format = "int16")
+                    ),
+                    @Parameter(
+                        name = "cursor", 
+                        description = "Cursor de continuación (nextCursor de la página anterior). Si se envía, se pagina por llave en lugar de por número de página; enviar vacío para obtener la primera página",
+                        in = ParameterIn.QUERY,
+                        required = false,
+                        schema = @Schema(type = "string")
+                    ),
+                    @Parameter(
+                        name = "countStrategy", 
+                        description = "Cálculo del total de elementos: EXACT (por defecto), WINDOW, ESTIMATED o NONE (sin total)",
+                        in = ParameterIn.QUERY,
+                        required = false,
+                        schema = @Schema(type = "string", allowableValues = {"EXACT", "WINDOW", "ESTIMATED", "NONE"})
                     )
                 },
                 responses = {
@@ -167,6 +240,73 @@ public class RouterRest {
                     @ApiResponse(
                         responseCode = "400", 
                         description = "Datos de solicitud de crédito inválidos"
+                    ),
+                    @ApiResponse(
+                        responseCode = "409", 
+                        description = "La versión enviada ya no es la actual: la solicitud fue modificada por otra operación"
+                    )
+                }
+            )
+        ),
+        @RouterOperation(
+            path = applicationsBaseUrl + "/lote", 
+            method = RequestMethod.PUT,
+            operation = @Operation(
+                operationId = "updateApplicationStatuses",
+                tags = {"Solicitudes"},
+                summary = "Actualizar el estado de varias solicitudes de crédito",
+                description = "Actualiza en una sola operación el estado de las solicitudes indicadas (máximo 1000) y notifica los cambios. Retorna el resultado de cada solicitud",
+                security = { @SecurityRequirement(name = "bearer-jwt") },
+                requestBody = @RequestBody(
+                    required = true,
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = UpdateApplicationStatusDTO.class)))
+                ),
+                responses = {
+                    @ApiResponse(
+                        responseCode = "200", 
+                        description = "Resultado de la actualización de cada solicitud de crédito",
+                        content = @Content(array = @ArraySchema(schema = @Schema(implementation = StatusUpdateOutcome.class)))
+                    ),
+                    @ApiResponse(
+                        responseCode = "400", 
+                        description = "El lote supera el tamaño máximo"
+                    ),
+                    @ApiResponse(
+                        responseCode = "401", 
+                        description = "El usuario autenticado no es Asesor"
+                    )
+                }
+            )
+        ),
+        @RouterOperation(
+            path = applicationsBaseUrl + "/{id}/amortizacion", 
+            method = RequestMethod.GET,
+            operation = @Operation(
+                operationId = "getAmortizationSchedule",
+                tags = {"Solicitudes"},
+                summary = "Obtener la tabla de amortización de una solicitud de crédito",
+                description = "Retorna, como NDJSON y una cuota por línea, el periodo, la cuota, el interés, el abono a capital y el saldo de cada mes del crédito",
+                parameters = {
+                    @Parameter(
+                        name = "id", 
+                        description = "Id de la solicitud de crédito",
+                        in = ParameterIn.PATH,
+                        required = true,
+                        schema = @Schema(type = "string", format = "uuid")
+                    )
+                },
+                responses = {
+                    @ApiResponse(
+                        responseCode = "200", 
+                        description = "Cuotas de la tabla de amortización",
+                        content = @Content(
+                            mediaType = "application/x-ndjson",
+                            array = @ArraySchema(schema = @Schema(implementation = AmortizationInstallment.class))
+                        )
+                    ),
+                    @ApiResponse(
+                        responseCode = "400", 
+                        description = "El id es inválido o no existe una solicitud de crédito con ese id"
                     )
                 }
             )
@@ -175,7 +315,10 @@ public class RouterRest {
     public RouterFunction<ServerResponse> routerFunction(Handler handler) {
         return route(GET(applicationsBaseUrl), handler::getAllApplications)
             .andRoute(POST(applicationsBaseUrl), handler::createApplication)
+            .andRoute(POST(applicationsBaseUrl + "/lote"), handler::createApplications)
             .andRoute(GET(applicationsBaseUrl + "/filtrarPaginado"), handler::getByCriteriaPaginated)
-            .andRoute(PUT(applicationsBaseUrl), handler::updateApplicationStatus);
+            .andRoute(GET(applicationsBaseUrl + "/{id}/amortizacion"), handler::getAmortizationSchedule)
+            .andRoute(PUT(applicationsBaseUrl), handler::updateApplicationStatus)
+            .andRoute(PUT(applicationsBaseUrl + "/lote"), handler::updateApplicationStatuses);
     }
 }
@@ -9,6 +9,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.server.ServerWebExchange;
 
 import co.com.crediya.api.dto.ErrorResponse;
+import co.com.crediya.model.application.exception.ConcurrentUpdateException;
 import co.com.crediya.model.application.exception.DataPersistenceException;
 import co.com.crediya.model.application.exception.InvalidDataException;
 import co.com.crediya.model.application.exception.ServiceNotAvailabeException;
@@ -57,6 +58,19 @@ public class GlobalExceptionHandler {
         return Mono.just(ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(errorResponse));
     }
     
+    @ExceptionHandler(ConcurrentUpdateException.class)
+    public Mono<ResponseEntity<ErrorResponse>> handleConcurrentUpdateException(
+            ConcurrentUpdateException ex, ServerWebExchange exchange) {
+        
+        String path = exchange.getRequest().getPath().value();
+        String traceId = exchange.getRequest().getId();
+        
+        ErrorResponse errorResponse = buildErrorResponse(
+                path, ex.getMessage(), HttpStatus.CONFLICT, traceId);
+        
+        return Mono.just(ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse));
+    }
+
     @ExceptionHandler(DataPersistenceException.class)
     public Mono<ResponseEntity<ErrorResponse>> handleDataPersistenceException(
             DataPersistenceException ex, ServerWebExchange exchange) {
@@ -18,4 +18,6 @@ public class UpdateApplicationStatusDTO {
     private UUID applicationId;
     @Schema(description = "Nuevo estado del crédito (1: Pendiente, 2: Aprobado, etc.)", example = "2")
     private Integer loanStatusId;
+    @Schema(description = "Versión de la solicitud leída por el cliente. Si se envía, el cambio solo se aplica si la solicitud no ha sido modificada desde entonces", example = "3")
+    private Long version;
 }
@@ -12,6 +12,9 @@ public interface ApplicationDTOMapper {
     @Mapping(target = "applicationId", ignore = true)
     @Mapping(target = "loanStatusId", ignore = true)
     @Mapping(target = "userEmail", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "monthlyPayment", ignore = true)
+    @Mapping(target = "monthlyPaymentRate", ignore = true)
     Application toModel(CreateApplicationDTO createApplicationDTO);
 
     @Mapping(target = "userEmail", ignore = true)
@@ -19,5 +22,7 @@ public interface ApplicationDTOMapper {
     @Mapping(target = "loanTerm", ignore = true)
     @Mapping(target = "loanTypeId", ignore = true)
     @Mapping(target = "userIdNumber", ignore = true)
+    @Mapping(target = "monthlyPayment", ignore = true)
+    @Mapping(target = "monthlyPaymentRate", ignore = true)
     Application toModel(UpdateApplicationStatusDTO updateApplicationStatusDTO);
 }
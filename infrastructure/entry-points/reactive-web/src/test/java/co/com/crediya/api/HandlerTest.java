@@ -1,9 +1,15 @@
 package co.com.crediya.api;
 
 import co.com.crediya.api.dto.CreateApplicationDTO;
+import co.com.crediya.api.dto.UpdateApplicationStatusDTO;
 import co.com.crediya.api.mapper.ApplicationDTOMapper;
 import co.com.crediya.model.application.Application;
+import co.com.crediya.model.application.criteria.ReadMode;
+import co.com.crediya.model.application.record.AmortizationInstallment;
 import co.com.crediya.model.application.record.ApplicationRecord;
+import co.com.crediya.model.application.record.BulkOperationResult;
+import co.com.crediya.model.application.record.BulkRowError;
+import co.com.crediya.model.application.record.StatusUpdateOutcome;
 import co.com.crediya.usecase.application.ApplicationUseCase;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -21,6 +27,7 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.net.URI;
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -48,7 +55,7 @@ class HandlerTest {
     void setUp() {
         createApplicationDTO = new CreateApplicationDTO(123456789l, 1000000.0, 12.0, 1);
         application = new Application(UUID.randomUUID(),123456789l, 1000000.0, 12.0, 1, 1);
-        applicationRecord = new ApplicationRecord(UUID.randomUUID(), "test@test.com", 1000000.0, 12.0, null, null);
+        applicationRecord = new ApplicationRecord(UUID.randomUUID(), "test@test.com", 1000000.0, 12.0, null, null, null);
     }
 
     @SuppressWarnings("unchecked")
@@ -70,9 +77,46 @@ class HandlerTest {
             .expectComplete();
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    void createApplications_success() {
+        BulkOperationResult result = new BulkOperationResult(2, 1, List.of(new BulkRowError(1, "No existe un tipo de crédito con id: 9")));
+        when(applicationMapper.toModel(any(CreateApplicationDTO.class))).thenReturn(application);
+        when(applicationUseCase.saveApplications(any(Flux.class))).thenReturn(Mono.just(result));
+
+        ServerRequest serverRequest = MockServerRequest.builder()
+            .body(Flux.just(createApplicationDTO, createApplicationDTO));
+
+        Mono<ServerResponse> response = handler.createApplications(serverRequest);
+
+        StepVerifier.create(response)
+            .assertNext(serverResponse -> {
+                assertEquals(200, serverResponse.statusCode().value());
+                assertEquals(MediaType.APPLICATION_JSON, serverResponse.headers().getContentType());
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    void updateApplicationStatuses_success() {
+        UpdateApplicationStatusDTO update = new UpdateApplicationStatusDTO(UUID.randomUUID(), 2, null);
+        StatusUpdateOutcome outcome = StatusUpdateOutcome.rejected(update.getApplicationId(), "No existe una solicitud de crédito con id: " + update.getApplicationId());
+        when(applicationMapper.toModel(any(UpdateApplicationStatusDTO.class))).thenReturn(application);
+        when(applicationUseCase.updateApplicationStatuses(List.of(application))).thenReturn(Flux.just(outcome));
+
+        ServerRequest serverRequest = MockServerRequest.builder()
+            .body(Flux.just(update));
+
+        Mono<ServerResponse> response = handler.updateApplicationStatuses(serverRequest);
+
+        StepVerifier.create(response)
+            .assertNext(serverResponse -> assertEquals(200, serverResponse.statusCode().value()))
+            .verifyComplete();
+    }
+
     @Test
     void getAllApplications_success() {
-        when(applicationUseCase.getAllApplications()).thenReturn(Mono.just(applicationRecord).flux());
+        when(applicationUseCase.getAllApplications(ReadMode.CACHED)).thenReturn(Mono.just(applicationRecord).flux());
 
         ServerRequest serverRequest = MockServerRequest.builder().build();
 
@@ -87,7 +131,7 @@ class HandlerTest {
 
     @Test
     void getAllApplications_emptyList() {
-        when(applicationUseCase.getAllApplications()).thenReturn(Flux.empty());
+        when(applicationUseCase.getAllApplications(ReadMode.CACHED)).thenReturn(Flux.empty());
 
         ServerRequest serverRequest = MockServerRequest.builder().build();
 
@@ -99,4 +143,68 @@ class HandlerTest {
             })
             .expectComplete();
     }
-}
\ No newline at end of file
+
+    @Test
+    void getAllApplications_streamsWhenNdjsonIsAccepted() {
+        when(applicationUseCase.getAllApplications(ReadMode.CACHED)).thenReturn(Flux.just(applicationRecord));
+
+        ServerRequest serverRequest = MockServerRequest.builder()
+            .header("Accept", MediaType.APPLICATION_NDJSON_VALUE)
+            .build();
+
+        Mono<ServerResponse> response = handler.getAllApplications(serverRequest);
+
+        StepVerifier.create(response)
+            .assertNext(serverResponse -> {
+                assertEquals(200, serverResponse.statusCode().value());
+                assertEquals(MediaType.APPLICATION_NDJSON, serverResponse.headers().getContentType());
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    void getAmortizationSchedule_streamsNdjson() {
+        UUID applicationId = UUID.randomUUID();
+        when(applicationUseCase.getAmortizationSchedule(applicationId))
+            .thenReturn(Flux.just(new AmortizationInstallment(1, 1000.0, 10.0, 990.0, 0.0)));
+
+        ServerRequest serverRequest = MockServerRequest.builder()
+            .pathVariable("id", applicationId.toString())
+            .build();
+
+        Mono<ServerResponse> response = handler.getAmortizationSchedule(serverRequest);
+
+        StepVerifier.create(response)
+            .assertNext(serverResponse -> {
+                assertEquals(200, serverResponse.statusCode().value());
+                assertEquals(MediaType.APPLICATION_NDJSON, serverResponse.headers().getContentType());
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    void getAmortizationSchedule_rejectsInvalidId() {
+        ServerRequest serverRequest = MockServerRequest.builder()
+            .pathVariable("id", "no-es-un-uuid")
+            .build();
+
+        StepVerifier.create(handler.getAmortizationSchedule(serverRequest))
+            .expectError(IllegalArgumentException.class)
+            .verify();
+    }
+
+    @Test
+    void getAllApplications_usesRequestedReadMode() {
+        when(applicationUseCase.getAllApplications(ReadMode.JOINED)).thenReturn(Flux.just(applicationRecord));
+
+        ServerRequest serverRequest = MockServerRequest.builder()
+            .queryParam("readMode", "joined")
+            .build();
+
+        Mono<ServerResponse> response = handler.getAllApplications(serverRequest);
+
+        StepVerifier.create(response)
+            .assertNext(serverResponse -> assertEquals(200, serverResponse.statusCode().value()))
+            .verifyComplete();
+    }
+}
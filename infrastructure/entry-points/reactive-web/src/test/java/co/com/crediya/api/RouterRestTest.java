@@ -16,6 +16,7 @@ import java.util.List;
 import java.util.UUID;
 
 import co.com.crediya.model.application.record.ApplicationRecord;
+import co.com.crediya.model.application.record.BulkOperationResult;
 import co.com.crediya.api.dto.CreateApplicationDTO;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -79,6 +80,29 @@ class RouterRestTest {
         verify(handler).createApplication(any());
     }
 
+    @Test
+    void shouldRouteCreateApplicationsToHandler() {
+        // Given
+        CreateApplicationDTO createApplicationDTO = createSampleCreateApplicationDTO();
+        when(handler.createApplications(any())).thenReturn(
+            ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new BulkOperationResult(1, 1, List.of()))
+        );
+
+        // When & Then
+        webTestClient.post()
+            .uri("/api/v1/solicitud/lote")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(List.of(createApplicationDTO))
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.saved").isEqualTo(1);
+
+        verify(handler).createApplications(any());
+    }
+
     // Helper methods para crear objetos de prueba
     private ApplicationRecord createSampleApplicationRecord() {
         return new ApplicationRecord(
@@ -87,7 +111,8 @@ class RouterRestTest {
             1000000.0,
             12.0,
             null, // Mock LoanType
-            null  // Mock LoanStatus
+            null, // Mock LoanStatus
+            null
         );
     }
 